@@ -0,0 +1,74 @@
+#!/usr/bin/env bash
+#
+# Cold-start comparison of the default artifact and the fast-startup artifact
+# (CDS archive, see application-fast-startup.properties).
+# For each run it records the time until /actuator/health answers, the time the
+# first /api/employees request takes after that, and the startup time Spring logs.
+#
+# Requirements: a running MySQL matching application.properties. The baseline runs
+# first with ddl-auto=update, so the schema exists before the fast-startup runs.
+#
+# Usage: load-test/compare-startup.sh [runs]
+# Results are written to load-test/results/.
+
+set -euo pipefail
+
+RUNS="${1:-5}"
+PORT=8081
+BASE_URL="http://localhost:${PORT}"
+ROOT_DIR="$(cd "$(dirname "$0")/.." && pwd)"
+RESULTS_DIR="${ROOT_DIR}/load-test/results"
+SUMMARY="${RESULTS_DIR}/startup-summary.md"
+
+mkdir -p "${RESULTS_DIR}"
+(cd "${ROOT_DIR}" && ./mvnw -q -DskipTests clean package)
+BASELINE_JAR="${RESULTS_DIR}/baseline.jar"
+cp "$(ls "${ROOT_DIR}"/target/sampath_bank-*.jar | grep -v plain | head -n 1)" "${BASELINE_JAR}"
+(cd "${ROOT_DIR}" && ./mvnw -q -DskipTests -Pfast-startup clean package)
+FAST_DIR="${ROOT_DIR}/target/fast-startup"
+FAST_JAR="$(ls "${FAST_DIR}"/sampath_bank-*.jar | head -n 1)"
+
+now_ms() {
+    echo $(( $(date +%s%N) / 1000000 ))
+}
+
+wait_for_health() {
+    for _ in $(seq 1 1200); do
+        if curl -sf "${BASE_URL}/actuator/health" > /dev/null; then
+            return 0
+        fi
+        sleep 0.05
+    done
+    echo "Application did not start" >&2
+    return 1
+}
+
+echo "| mode | run | ready (ms) | first request (ms) | Spring startup (s) |" > "${SUMMARY}"
+echo "|------|-----|------------|--------------------|--------------------|" >> "${SUMMARY}"
+
+for MODE in baseline fast-startup; do
+    for RUN in $(seq 1 "${RUNS}"); do
+        LOG="${RESULTS_DIR}/${MODE}-startup-${RUN}.log"
+        START="$(now_ms)"
+        if [ "${MODE}" = "baseline" ]; then
+            java -jar "${BASELINE_JAR}" --spring.jpa.show-sql=false > "${LOG}" 2>&1 &
+        else
+            java -XX:SharedArchiveFile="${FAST_DIR}/application.jsa" \
+                -Dspring.profiles.active=fast-startup -jar "${FAST_JAR}" > "${LOG}" 2>&1 &
+        fi
+        APP_PID=$!
+        trap 'kill ${APP_PID} 2>/dev/null || true' EXIT
+        wait_for_health
+        READY=$(( $(now_ms) - START ))
+
+        FIRST_REQUEST="$(curl -sf -o /dev/null -w '%{time_total}' "${BASE_URL}/api/employees?size=20" \
+            | awk '{printf "%d", $1 * 1000}')"
+        SPRING_STARTUP="$(sed -nE 's/.*Started SampathBankApplication in ([0-9.]+) seconds.*/\1/p' "${LOG}")"
+        echo "| ${MODE} | ${RUN} | ${READY} | ${FIRST_REQUEST} | ${SPRING_STARTUP} |" >> "${SUMMARY}"
+
+        kill "${APP_PID}"
+        wait "${APP_PID}" 2>/dev/null || true
+    done
+done
+
+cat "${SUMMARY}"
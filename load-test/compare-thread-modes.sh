@@ -0,0 +1,105 @@
+#!/usr/bin/env bash
+#
+# Throughput / p99 comparison of the employee endpoints on platform threads
+# (default) and virtual threads (virtual-threads profile).
+#
+# Requirements: a running MySQL matching application.properties, and `hey`
+# (https://github.com/rakyll/hey) on the PATH.
+#
+# Usage: load-test/compare-thread-modes.sh [requests] [concurrency]
+# Results are written to load-test/results/.
+
+set -euo pipefail
+
+REQUESTS="${1:-20000}"
+CONCURRENCY="${2:-400}"
+PORT=8081
+BASE_URL="http://localhost:${PORT}/api/employees"
+ROOT_DIR="$(cd "$(dirname "$0")/.." && pwd)"
+RESULTS_DIR="${ROOT_DIR}/load-test/results"
+SUMMARY="${RESULTS_DIR}/summary.md"
+
+mkdir -p "${RESULTS_DIR}"
+(cd "${ROOT_DIR}" && ./mvnw -q -DskipTests package)
+JAR="$(ls "${ROOT_DIR}"/target/sampath_bank-*.jar | grep -v plain | head -n 1)"
+
+wait_for_app() {
+    for _ in $(seq 1 60); do
+        if curl -sf "${BASE_URL}?size=1" > /dev/null; then
+            return 0
+        fi
+        sleep 1
+    done
+    echo "Application did not start" >&2
+    return 1
+}
+
+# Emails are unique, so each run seeds its own row and only updates that row.
+SEED_PREFIX="load.test.$(date +%s%N)"
+
+seed_employee() {
+    curl -sf -X POST "${BASE_URL}" -H 'Content-Type: application/json' \
+        -d "{\"firstName\":\"Load\",\"lastName\":\"Test\",\"email\":\"${SEED_PREFIX}.${MODE}@example.com\",\"salary\":1000}" \
+        | sed -E 's/.*"id":([0-9]+).*/\1/'
+}
+
+# Prints "<requests/sec> <p99 seconds>" from hey's report.
+run_hey() {
+    local name="$1"; shift
+    local out="${RESULTS_DIR}/${MODE}-${name}.txt"
+    hey -n "${REQUESTS}" -c "${CONCURRENCY}" "$@" > "${out}"
+    local rps p99
+    rps="$(awk '/Requests\/sec/ {print $2}' "${out}")"
+    p99="$(awk '/99% in/ {print $3}' "${out}")"
+    echo "| ${MODE} | ${name} | ${rps} | ${p99} |" >> "${SUMMARY}"
+}
+
+# hey sends the same body on every request, and a repeated email is a 409, so the create
+# run drives curl itself to give each request its own email. Spawning curl costs more
+# client CPU than hey does; compare create numbers between modes, not with other endpoints.
+run_create() {
+    local out="${RESULTS_DIR}/${MODE}-create.txt"
+    local start end rps p99
+    start="$(date +%s%N)"
+    seq 1 "${REQUESTS}" | xargs -P "${CONCURRENCY}" -I{} \
+        curl -s -o /dev/null -w '%{http_code} %{time_total}\n' -X POST "${BASE_URL}" \
+            -H 'Content-Type: application/json' \
+            -d "{\"firstName\":\"Load\",\"lastName\":\"Test\",\"email\":\"${SEED_PREFIX}.${MODE}.{}@example.com\",\"salary\":1000}" \
+        > "${out}"
+    end="$(date +%s%N)"
+    if awk '$1 != 200 { bad++ } END { exit bad > 0 ? 0 : 1 }' "${out}"; then
+        echo "Some create requests failed; see ${out}" >&2
+    fi
+    rps="$(awk -v n="${REQUESTS}" -v ns="$((end - start))" 'BEGIN { printf "%.2f", n / (ns / 1e9) }')"
+    p99="$(awk '{ print $2 }' "${out}" | sort -n | awk -v n="${REQUESTS}" 'NR == int((n * 99 + 99) / 100) { print; exit }')"
+    echo "| ${MODE} | create | ${rps} | ${p99} |" >> "${SUMMARY}"
+}
+
+echo "| mode | endpoint | requests/sec | p99 (s) |" > "${SUMMARY}"
+echo "|------|----------|--------------|---------|" >> "${SUMMARY}"
+
+for MODE in platform virtual; do
+    PROFILE_ARGS=()
+    if [ "${MODE}" = "virtual" ]; then
+        PROFILE_ARGS=(--spring.profiles.active=virtual-threads)
+    fi
+
+    # One client driving the API flat out; admission control would throttle it.
+    java -jar "${JAR}" --spring.jpa.show-sql=false --employee.admission.enabled=false "${PROFILE_ARGS[@]}" > "${RESULTS_DIR}/${MODE}-app.log" 2>&1 &
+    APP_PID=$!
+    trap 'kill ${APP_PID} 2>/dev/null || true' EXIT
+    wait_for_app
+
+    ID="$(seed_employee)"
+    run_hey get-by-id "${BASE_URL}/${ID}"
+    run_hey list "${BASE_URL}?page=0&size=20"
+    run_hey search "${BASE_URL}/search?lastNamePrefix=Te&size=20"
+    run_create
+    run_hey update -m PUT -T application/json \
+        -d "{\"firstName\":\"Load\",\"lastName\":\"Updated\",\"email\":\"${SEED_PREFIX}.${MODE}@example.com\",\"salary\":1200}" "${BASE_URL}/${ID}"
+
+    kill "${APP_PID}"
+    wait "${APP_PID}" 2>/dev/null || true
+done
+
+cat "${SUMMARY}"
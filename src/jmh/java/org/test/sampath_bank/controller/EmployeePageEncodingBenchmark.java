@@ -0,0 +1,109 @@
+package org.test.sampath_bank.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.util.StreamUtils;
+import org.test.sampath_bank.dto.EmployeeDTO;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Serialization CPU and bytes on the wire for a page of employees in each response
+ * format, with and without gzip (what Tomcat applies above the compression threshold).
+ * The encoded size of every combination is printed once per trial.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EmployeePageEncodingBenchmark {
+
+    public enum Format { JSON, CBOR, COLUMNAR }
+
+    @Param({"100", "1000", "10000"})
+    public int rows;
+
+    @Param({"JSON", "CBOR", "COLUMNAR"})
+    public Format format;
+
+    @Param({"false", "true"})
+    public boolean gzip;
+
+    private ObjectWriter jsonWriter;
+    private ObjectWriter cborWriter;
+    private ColumnarSliceHttpMessageConverter columnarConverter;
+    private Page<EmployeeDTO> page;
+
+    @Setup
+    public void setUp() throws IOException {
+        ObjectMapper jsonMapper = new ObjectMapper().findAndRegisterModules()
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        ObjectMapper cborMapper = new ObjectMapper(new CBORFactory()).findAndRegisterModules()
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        jsonWriter = jsonMapper.writer();
+        cborWriter = cborMapper.writer();
+        columnarConverter = new ColumnarSliceHttpMessageConverter(jsonMapper);
+
+        List<EmployeeDTO> content = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            content.add(employee(i + 1));
+        }
+        page = new PageImpl<>(content, PageRequest.of(0, rows), 1_000_000L);
+
+        System.out.printf("%n[bytes on wire] format=%s gzip=%s rows=%d: %d bytes%n", format, gzip, rows, encode().length);
+    }
+
+    @Benchmark
+    public byte[] encode() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(rows * 160);
+        OutputStream out = gzip ? new GZIPOutputStream(bytes, 8192) : bytes;
+        switch (format) {
+            case JSON -> jsonWriter.writeValue(nonClosing(out), page);
+            case CBOR -> cborWriter.writeValue(nonClosing(out), page);
+            case COLUMNAR -> columnarConverter.write(page, out);
+        }
+        out.close();
+        return bytes.toByteArray();
+    }
+
+    private static OutputStream nonClosing(OutputStream out) {
+        return StreamUtils.nonClosing(out);
+    }
+
+    private static EmployeeDTO employee(long id) {
+        EmployeeDTO employeeDTO = new EmployeeDTO();
+        employeeDTO.setId(id);
+        employeeDTO.setFirstName("First" + (id % 5000));
+        employeeDTO.setLastName("Last" + (id % 7919));
+        employeeDTO.setEmail("employee" + id + "@example.com");
+        employeeDTO.setSalary(1000f + (id % 100_000));
+        employeeDTO.setVersion(id % 7);
+        employeeDTO.setUpdatedAt(Instant.parse("2024-01-01T00:00:00Z").plusSeconds(id));
+        return employeeDTO;
+    }
+}
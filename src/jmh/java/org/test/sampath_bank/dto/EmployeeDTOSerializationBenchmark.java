@@ -0,0 +1,92 @@
+package org.test.sampath_bank.dto;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EmployeeDTOSerializationBenchmark {
+
+    private ObjectMapper objectMapper;
+    private ObjectWriter writer;
+    private EmployeeDTO employeeDTO;
+    private byte[] employeeJson;
+
+    @Setup
+    public void setUp() throws Exception {
+        objectMapper = new ObjectMapper().findAndRegisterModules();
+        writer = objectMapper.writer();
+
+        employeeDTO = employee(1);
+        employeeJson = writer.writeValueAsBytes(employeeDTO);
+    }
+
+    /** The page size is a parameter of this state only, so the single-DTO benchmarks run once. */
+    @State(Scope.Benchmark)
+    public static class PageState {
+
+        @Param({"10", "100", "1000"})
+        public int pageSize;
+
+        private Page<EmployeeDTO> page;
+
+        @Setup
+        public void setUp() {
+            List<EmployeeDTO> content = new ArrayList<>(pageSize);
+            for (int i = 0; i < pageSize; i++) {
+                content.add(employee(i + 1));
+            }
+            page = new PageImpl<>(content, PageRequest.of(0, pageSize), 1_000_000L);
+        }
+    }
+
+    @Benchmark
+    public byte[] serializeEmployee() throws Exception {
+        return writer.writeValueAsBytes(employeeDTO);
+    }
+
+    @Benchmark
+    public EmployeeDTO deserializeEmployee() throws Exception {
+        return objectMapper.readValue(employeeJson, EmployeeDTO.class);
+    }
+
+    @Benchmark
+    public byte[] serializePage(PageState state) throws Exception {
+        return writer.writeValueAsBytes(state.page);
+    }
+
+    static EmployeeDTO employee(long id) {
+        EmployeeDTO employeeDTO = new EmployeeDTO();
+        employeeDTO.setId(id);
+        employeeDTO.setFirstName("John" + id);
+        employeeDTO.setLastName("Doe");
+        employeeDTO.setEmail("john.doe" + id + "@example.com");
+        employeeDTO.setSalary(1500f + id);
+        employeeDTO.setVersion(0L);
+        employeeDTO.setUpdatedAt(Instant.parse("2024-01-01T00:00:00Z"));
+        return employeeDTO;
+    }
+}
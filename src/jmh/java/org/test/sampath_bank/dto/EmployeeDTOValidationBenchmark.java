@@ -0,0 +1,81 @@
+package org.test.sampath_bank.dto;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.test.sampath_bank.validation.EmployeeDTOValidator;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bean Validation against the precompiled {@link EmployeeDTOValidator}. Run with the gc
+ * profiler (the jmh profile's default) to compare gc.alloc.rate.norm, the bytes
+ * allocated per validation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EmployeeDTOValidationBenchmark {
+
+    private ValidatorFactory validatorFactory;
+    private Validator validator;
+    private EmployeeDTOValidator precompiledValidator;
+    private EmployeeDTO validEmployee;
+    private EmployeeDTO invalidEmployee;
+
+    @Setup
+    public void setUp() {
+        validatorFactory = Validation.buildDefaultValidatorFactory();
+        validator = validatorFactory.getValidator();
+        precompiledValidator = new EmployeeDTOValidator(validator, true);
+
+        validEmployee = EmployeeDTOSerializationBenchmark.employee(1);
+
+        invalidEmployee = EmployeeDTOSerializationBenchmark.employee(2);
+        invalidEmployee.setFirstName("J");
+        invalidEmployee.setEmail("not-an-email");
+        invalidEmployee.setSalary(-1f);
+    }
+
+    @TearDown
+    public void tearDown() {
+        validatorFactory.close();
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<EmployeeDTO>> validateValid() {
+        return validator.validate(validEmployee);
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<EmployeeDTO>> validateInvalid() {
+        return validator.validate(invalidEmployee);
+    }
+
+    @Benchmark
+    public List<String> validatePrecompiledValid() {
+        return precompiledValidator.violations(validEmployee);
+    }
+
+    @Benchmark
+    public List<String> validatePrecompiledInvalid() {
+        return precompiledValidator.violations(invalidEmployee);
+    }
+}
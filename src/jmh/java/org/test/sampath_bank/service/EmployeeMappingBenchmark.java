@@ -0,0 +1,53 @@
+package org.test.sampath_bank.service;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.test.sampath_bank.dto.EmployeeDTO;
+import org.test.sampath_bank.model.Employee;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EmployeeMappingBenchmark {
+
+    private EmployeeServiceImpl employeeService;
+    private Employee employee;
+    private EmployeeDTO employeeDTO;
+
+    @Setup
+    public void setUp() {
+        employeeService = new EmployeeServiceImpl(null, null);
+
+        employee = new Employee();
+        employee.setId(42L);
+        employee.setFirstName("John");
+        employee.setLastName("Doe");
+        employee.setEmail("john.doe@example.com");
+        employee.setSalary(1500f);
+
+        employeeDTO = employeeService.convertToDTO(employee);
+    }
+
+    @Benchmark
+    public EmployeeDTO convertToDTO() {
+        return employeeService.convertToDTO(employee);
+    }
+
+    @Benchmark
+    public Employee convertToEntity() {
+        return employeeService.convertToEntity(employeeDTO);
+    }
+}
@@ -0,0 +1,102 @@
+package org.test.sampath_bank.admission;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Admission control in front of the API. Each client gets its own token bucket and is
+ * answered 429 once it runs dry. Buckets are keyed by {@link ClientKey#forRateLimit},
+ * not by the self-chosen X-Client-Id, so a client cannot mint fresh buckets for itself.
+ * Independently, the number of requests being served at once is capped so that excess
+ * load is turned away with 503 instead of queueing on the connection pool. Both answers
+ * carry Retry-After. Buckets live in a Caffeine map, so lookups of known clients do not
+ * lock, and the buckets and the in-flight counter are updated with compare-and-set only.
+ */
+public class AdmissionControlFilter extends OncePerRequestFilter {
+
+    private final double requestsPerSecond;
+    private final int burst;
+    private final int maxConcurrentRequests;
+    private final Cache<String, TokenBucket> buckets;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final Counter rateLimited;
+    private final Counter overloaded;
+
+    public AdmissionControlFilter(double requestsPerSecond, int burst, int maxConcurrentRequests,
+                                  MeterRegistry meterRegistry) {
+        this.requestsPerSecond = requestsPerSecond;
+        this.burst = burst;
+        this.maxConcurrentRequests = maxConcurrentRequests;
+        this.buckets = Caffeine.newBuilder()
+                .expireAfterAccess(Duration.ofMinutes(10))
+                .maximumSize(100_000)
+                .build();
+        this.rateLimited = Counter.builder("employee.admission.rejected")
+                .description("Requests turned away by admission control")
+                .tag("reason", "rate_limited")
+                .register(meterRegistry);
+        this.overloaded = Counter.builder("employee.admission.rejected")
+                .description("Requests turned away by admission control")
+                .tag("reason", "overloaded")
+                .register(meterRegistry);
+        meterRegistry.gauge("employee.admission.in_flight", inFlight);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        long now = System.nanoTime();
+        TokenBucket bucket = buckets.get(ClientKey.forRateLimit(request),
+                key -> new TokenBucket(requestsPerSecond, burst, now));
+        long waitNanos = bucket.tryAcquire(now);
+        if (waitNanos > 0) {
+            rateLimited.increment();
+            reject(response, HttpStatus.TOO_MANY_REQUESTS, waitNanos, "Rate limit exceeded");
+            return;
+        }
+
+        // Long polls wait on commits, not on the database, so they do not count as load.
+        if (isLongPoll(request)) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        if (inFlight.incrementAndGet() > maxConcurrentRequests) {
+            inFlight.decrementAndGet();
+            overloaded.increment();
+            reject(response, HttpStatus.SERVICE_UNAVAILABLE, TimeUnit.SECONDS.toNanos(1), "Server is at capacity");
+            return;
+        }
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            inFlight.decrementAndGet();
+        }
+    }
+
+    private static boolean isLongPoll(HttpServletRequest request) {
+        return request.getRequestURI().endsWith("/api/employees/changes");
+    }
+
+    private static void reject(HttpServletResponse response, HttpStatus status, long retryAfterNanos, String message)
+            throws IOException {
+        long retryAfterSeconds = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(retryAfterNanos + 999_999_999L));
+        response.setStatus(status.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(retryAfterSeconds));
+        response.setContentType("text/plain;charset=UTF-8");
+        response.getWriter().write(message);
+    }
+}
@@ -0,0 +1,34 @@
+package org.test.sampath_bank.admission;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+import java.security.Principal;
+
+/**
+ * Identifies the calling client. {@link #of} prefers the {@code X-Client-Id} header,
+ * which the client sets itself, so it only serves purposes where a client can only
+ * affect itself, such as read-your-writes stickiness. {@link #forRateLimit} ignores the
+ * header and uses the authenticated principal or the remote address, which the client
+ * cannot pick freely. Behind a proxy that does not forward client addresses, callers
+ * without a principal share one identity.
+ */
+public final class ClientKey {
+
+    public static final String CLIENT_ID_HEADER = "X-Client-Id";
+
+    private ClientKey() {
+    }
+
+    public static String of(HttpServletRequest request) {
+        String clientId = request.getHeader(CLIENT_ID_HEADER);
+        return clientId != null && !clientId.isBlank() ? clientId : request.getRemoteAddr();
+    }
+
+    public static String forRateLimit(HttpServletRequest request) {
+        Principal principal = request.getUserPrincipal();
+        if (principal != null && principal.getName() != null) {
+            return "principal:" + principal.getName();
+        }
+        return "address:" + request.getRemoteAddr();
+    }
+}
@@ -0,0 +1,37 @@
+package org.test.sampath_bank.admission;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lock-free token bucket in its GCRA form: the whole state is one "theoretical arrival
+ * time", advanced with compare-and-set. A bucket refilling {@code ratePerSecond} tokens
+ * per second and holding {@code burst} tokens admits a request when doing so would not
+ * push that time more than {@code burst} intervals past now.
+ */
+final class TokenBucket {
+
+    private final long intervalNanos;
+    private final long toleranceNanos;
+    private final AtomicLong theoreticalArrival;
+
+    TokenBucket(double ratePerSecond, int burst, long nowNanos) {
+        this.intervalNanos = (long) (1_000_000_000L / ratePerSecond);
+        this.toleranceNanos = intervalNanos * burst;
+        this.theoreticalArrival = new AtomicLong(nowNanos);
+    }
+
+    /** Takes a token and returns 0, or returns how many nanoseconds until one is available. */
+    long tryAcquire(long nowNanos) {
+        while (true) {
+            long current = theoreticalArrival.get();
+            long next = Math.max(current, nowNanos) + intervalNanos;
+            long conformsAt = next - toleranceNanos;
+            if (conformsAt > nowNanos) {
+                return conformsAt - nowNanos;
+            }
+            if (theoreticalArrival.compareAndSet(current, next)) {
+                return 0;
+            }
+        }
+    }
+}
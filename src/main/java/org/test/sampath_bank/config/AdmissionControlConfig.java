@@ -0,0 +1,31 @@
+package org.test.sampath_bank.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.test.sampath_bank.admission.AdmissionControlFilter;
+
+@Configuration
+@ConditionalOnProperty(name = "employee.admission.enabled", havingValue = "true", matchIfMissing = true)
+public class AdmissionControlConfig {
+
+    @Bean
+    public FilterRegistrationBean<AdmissionControlFilter> admissionControlFilter(
+            @Value("${employee.admission.requests-per-second:50}") double requestsPerSecond,
+            @Value("${employee.admission.burst:100}") int burst,
+            // Defaults to the pool size: a request admitted beyond it would only wait for a connection.
+            @Value("${employee.admission.max-concurrent-requests:${spring.datasource.hikari.maximum-pool-size:10}}")
+            int maxConcurrentRequests,
+            MeterRegistry meterRegistry) {
+        FilterRegistrationBean<AdmissionControlFilter> registration = new FilterRegistrationBean<>(
+                new AdmissionControlFilter(requestsPerSecond, burst, maxConcurrentRequests, meterRegistry));
+        registration.addUrlPatterns("/api/*");
+        // Ahead of everything that does real work, but after the observation filter so rejections are measured.
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 10);
+        return registration;
+    }
+}
@@ -0,0 +1,46 @@
+package org.test.sampath_bank.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.support.NoOpCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * The {@code employees} cache. Puts and evictions made inside a transaction are applied
+ * when it commits, so a rolled-back write never reaches the cache and a concurrent read
+ * cannot re-cache the old row between the eviction and the commit.
+ * <p>
+ * With replica routing on, the cache is disabled: a miss read from a lagging replica
+ * would otherwise be served to every client, including the one that just wrote the row,
+ * for the whole TTL.
+ */
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    public static final String EMPLOYEES_CACHE = "employees";
+
+    @Bean
+    public CacheManager cacheManager(
+            @Value("${employee.cache.maximum-size:10000}") long maximumSize,
+            @Value("${employee.cache.ttl:10m}") Duration ttl,
+            @Value("${employee.datasource.routing.enabled:false}") boolean replicaRouting) {
+        if (replicaRouting) {
+            return new NoOpCacheManager();
+        }
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager(EMPLOYEES_CACHE);
+        cacheManager.setCaffeine(Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats());
+        cacheManager.setAllowNullValues(false);
+        return new TransactionAwareCacheManagerProxy(cacheManager);
+    }
+}
@@ -0,0 +1,37 @@
+package org.test.sampath_bank.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import org.test.sampath_bank.controller.ColumnarSliceHttpMessageConverter;
+
+import java.util.List;
+
+/**
+ * Compact response formats picked by the Accept header: CBOR for any response and a
+ * columnar JSON layout for employee pages. They are appended after the default
+ * converters so that clients sending no Accept header, or {@code *}{@code /*}, still get JSON.
+ */
+@Configuration
+public class ContentNegotiationConfig {
+
+    @Bean
+    public WebMvcConfigurer compactFormatsWebMvcConfigurer(ObjectMapper objectMapper,
+                                                          Jackson2ObjectMapperBuilder objectMapperBuilder) {
+        // Same Jackson settings as the JSON converter, on a CBOR factory.
+        ObjectMapper cborMapper = objectMapperBuilder.factory(new CBORFactory()).build();
+        return new WebMvcConfigurer() {
+            @Override
+            public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+                converters.removeIf(MappingJackson2CborHttpMessageConverter.class::isInstance);
+                converters.add(new MappingJackson2CborHttpMessageConverter(cborMapper));
+                converters.add(new ColumnarSliceHttpMessageConverter(objectMapper));
+            }
+        };
+    }
+}
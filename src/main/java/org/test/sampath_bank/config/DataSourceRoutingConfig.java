@@ -0,0 +1,97 @@
+package org.test.sampath_bank.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.test.sampath_bank.datasource.ReadYourWritesFilter;
+import org.test.sampath_bank.datasource.ReplicaDataSourceProperties;
+import org.test.sampath_bank.datasource.ReplicaRoutingDataSource;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Sends read-only transactions to replicas and everything else to the primary.
+ * The connection is only fetched once Spring has marked it read-only, so
+ * {@code @Transactional(readOnly = true)} methods and Spring Data's read methods land
+ * on a replica. Each pool reports its own hikaricp.* meters under its pool name.
+ * Enabled with {@code employee.datasource.routing.enabled=true} and at least one
+ * {@code employee.datasource.replicas[n].url}. The Hibernate caches and the
+ * {@code employees} cache are turned off while routing is on.
+ */
+@Configuration
+@ConditionalOnProperty(name = "employee.datasource.routing.enabled", havingValue = "true")
+@EnableConfigurationProperties(ReplicaDataSourceProperties.class)
+public class DataSourceRoutingConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    @Bean(destroyMethod = "close")
+    public ReplicaRoutingDataSource replicaDataSource(HikariDataSource primaryDataSource,
+                                                      DataSourceProperties primaryProperties,
+                                                      ReplicaDataSourceProperties replicaProperties,
+                                                      MeterRegistry meterRegistry) {
+        List<HikariDataSource> replicas = new ArrayList<>();
+        for (ReplicaDataSourceProperties.Replica replica : replicaProperties.getReplicas()) {
+            HikariDataSource dataSource = new HikariDataSource();
+            dataSource.setPoolName("replica-" + (replicas.size() + 1));
+            dataSource.setJdbcUrl(replica.getUrl());
+            dataSource.setUsername(replica.getUsername() != null ? replica.getUsername() : primaryProperties.determineUsername());
+            dataSource.setPassword(replica.getPassword() != null ? replica.getPassword() : primaryProperties.determinePassword());
+            dataSource.setMaximumPoolSize(replica.getMaximumPoolSize());
+            dataSource.setReadOnly(true);
+            dataSource.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+            replicas.add(dataSource);
+        }
+        return new ReplicaRoutingDataSource(primaryDataSource, replicas);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(HikariDataSource primaryDataSource, ReplicaRoutingDataSource replicaDataSource) {
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(primaryDataSource);
+        dataSource.setReadOnlyDataSource(replicaDataSource);
+        return dataSource;
+    }
+
+    /**
+     * Hibernate's caches are keyed by entity id or by query and parameters, not by the
+     * database that answered, so a row or page read from a lagging replica would be served
+     * to a client pinned to the primary. With routing on, both are turned off and reads
+     * always go to their data source; {@link CacheConfig} does the same for the
+     * {@code employees} cache.
+     */
+    @Bean
+    public HibernatePropertiesCustomizer disableHibernateCachesWithReplicas() {
+        return properties -> {
+            properties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, "false");
+            properties.put(AvailableSettings.USE_QUERY_CACHE, "false");
+        };
+    }
+
+    @Bean
+    public FilterRegistrationBean<ReadYourWritesFilter> readYourWritesFilter(ReplicaDataSourceProperties properties) {
+        FilterRegistrationBean<ReadYourWritesFilter> registration =
+                new FilterRegistrationBean<>(new ReadYourWritesFilter(properties.getReadYourWritesWindow()));
+        registration.addUrlPatterns("/api/*");
+        return registration;
+    }
+}
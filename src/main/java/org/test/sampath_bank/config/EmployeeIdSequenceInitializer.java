@@ -0,0 +1,51 @@
+package org.test.sampath_bank.config;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Moves {@code employee_seq} past the ids already in the employee table. Employee ids
+ * used to come from MySQL AUTO_INCREMENT, and the table Hibernate creates to emulate
+ * the sequence on MySQL starts at 1, so without this step new ids would collide with
+ * existing rows. Runs once the schema has been updated and before the application
+ * serves requests; databases with native sequences (H2 in tests) start out empty and
+ * are left alone.
+ */
+@Component
+public class EmployeeIdSequenceInitializer {
+
+    private static final Logger log = LoggerFactory.getLogger(EmployeeIdSequenceInitializer.class);
+
+    // Must match the allocationSize on Employee.id. The pooled optimizer hands out the
+    // block that ends at the value it reads, so the stored value has to be a whole block
+    // above the largest id.
+    static final int ALLOCATION_SIZE = 50;
+
+    private static final String SEED_SQL = "update employee_seq set next_val = "
+            + "greatest(next_val, (select coalesce(max(id), 0) + ? from employee))";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // The EntityManagerFactory parameter only orders this after schema generation.
+    public EmployeeIdSequenceInitializer(JdbcTemplate jdbcTemplate, EntityManagerFactory entityManagerFactory) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @PostConstruct
+    void seed() {
+        String product = jdbcTemplate.execute((ConnectionCallback<String>) connection ->
+                connection.getMetaData().getDatabaseProductName());
+        if (!"MySQL".equalsIgnoreCase(product)) {
+            return;
+        }
+        int updated = jdbcTemplate.update(SEED_SQL, ALLOCATION_SIZE);
+        if (updated > 0) {
+            log.info("Advanced employee_seq past the existing employee ids");
+        }
+    }
+}
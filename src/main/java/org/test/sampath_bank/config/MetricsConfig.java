@@ -0,0 +1,42 @@
+package org.test.sampath_bank.config;
+
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import org.test.sampath_bank.metrics.QueryCountInspector;
+import org.test.sampath_bank.metrics.QueryCountInterceptor;
+
+@Configuration
+public class MetricsConfig {
+
+    @Bean
+    public TimedAspect timedAspect(MeterRegistry meterRegistry) {
+        return new TimedAspect(meterRegistry);
+    }
+
+    @Bean
+    public QueryCountInspector queryCountInspector() {
+        return new QueryCountInspector();
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer queryCountHibernateCustomizer(QueryCountInspector queryCountInspector) {
+        return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, queryCountInspector);
+    }
+
+    @Bean
+    public WebMvcConfigurer queryCountWebMvcConfigurer(QueryCountInspector queryCountInspector, MeterRegistry meterRegistry) {
+        return new WebMvcConfigurer() {
+            @Override
+            public void addInterceptors(InterceptorRegistry registry) {
+                registry.addInterceptor(new QueryCountInterceptor(queryCountInspector, meterRegistry))
+                        .addPathPatterns("/api/**");
+            }
+        };
+    }
+}
@@ -0,0 +1,51 @@
+package org.test.sampath_bank.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.datasource.init.DatabasePopulatorUtils;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.test.sampath_bank.sharding.ShardedEmployeeStore;
+import org.test.sampath_bank.sharding.ShardingProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Stores employees across the databases listed in {@code employee.sharding.shards[n]}
+ * instead of the employee table behind spring.datasource, which keeps the change feed
+ * outbox. Each shard gets its own pool, reporting hikaricp.* meters as {@code shard-n}.
+ * Enabled with {@code employee.sharding.enabled=true}.
+ */
+@Configuration
+@ConditionalOnProperty(name = "employee.sharding.enabled", havingValue = "true")
+@EnableConfigurationProperties(ShardingProperties.class)
+public class ShardingConfig {
+
+    @Bean(destroyMethod = "close")
+    public ShardedEmployeeStore shardedEmployeeStore(ShardingProperties shardingProperties,
+                                                     DataSourceProperties primaryProperties,
+                                                     MeterRegistry meterRegistry) {
+        List<HikariDataSource> dataSources = new ArrayList<>();
+        for (ShardingProperties.Shard shard : shardingProperties.getShards()) {
+            HikariDataSource dataSource = new HikariDataSource();
+            dataSource.setPoolName("shard-" + dataSources.size());
+            dataSource.setJdbcUrl(shard.getUrl());
+            dataSource.setUsername(shard.getUsername() != null ? shard.getUsername() : primaryProperties.determineUsername());
+            dataSource.setPassword(shard.getPassword() != null ? shard.getPassword() : primaryProperties.determinePassword());
+            dataSource.setMaximumPoolSize(shard.getMaximumPoolSize());
+            dataSource.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+            if (shardingProperties.isInitializeSchema()) {
+                DatabasePopulatorUtils.execute(new ResourceDatabasePopulator(new ClassPathResource("sharding/schema-shard.sql")), dataSource);
+            }
+            dataSources.add(dataSource);
+        }
+        return new ShardedEmployeeStore(dataSources, shardingProperties.getIdBlockSize());
+    }
+}
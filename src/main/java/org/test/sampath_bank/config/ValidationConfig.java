@@ -0,0 +1,23 @@
+package org.test.sampath_bank.config;
+
+import jakarta.validation.Validator;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.test.sampath_bank.validation.EmployeeDTOValidator;
+
+@Configuration
+public class ValidationConfig {
+
+    @Bean
+    public EmployeeDTOValidator employeeDTOValidator(
+            Validator validator,
+            @Value("${employee.validation.mode:precompiled}") String mode) {
+        return switch (mode) {
+            case "precompiled" -> new EmployeeDTOValidator(validator, true);
+            case "bean-validation" -> new EmployeeDTOValidator(validator, false);
+            default -> throw new IllegalArgumentException(
+                    "employee.validation.mode must be precompiled or bean-validation, not " + mode);
+        };
+    }
+}
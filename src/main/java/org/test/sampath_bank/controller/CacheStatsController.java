@@ -0,0 +1,94 @@
+package org.test.sampath_bank.controller;
+
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.cache.transaction.TransactionAwareCacheDecorator;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.test.sampath_bank.dto.CacheRegionStatsDTO;
+import org.test.sampath_bank.dto.CacheStatsDTO;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+
+@RestController
+@RequestMapping("/api/cache")
+@Tag(name = "Cache", description = "Statistics for the in-process caches")
+public class CacheStatsController {
+
+    private final CacheManager cacheManager;
+    private final EntityManagerFactory entityManagerFactory;
+
+    public CacheStatsController(CacheManager cacheManager, EntityManagerFactory entityManagerFactory) {
+        this.cacheManager = cacheManager;
+        this.entityManagerFactory = entityManagerFactory;
+    }
+
+    @Operation(
+        summary = "Get cache statistics",
+        description = "Hit, miss and eviction counts for every cache, used to size them"
+    )
+    @ApiResponse(responseCode = "200", description = "Successfully retrieved cache statistics")
+    @GetMapping("/stats")
+    public ResponseEntity<List<CacheStatsDTO>> getCacheStats() {
+        List<CacheStatsDTO> stats = cacheManager.getCacheNames().stream()
+                .map(cacheManager::getCache)
+                .map(cache -> cache instanceof TransactionAwareCacheDecorator decorator ? decorator.getTargetCache() : cache)
+                .filter(CaffeineCache.class::isInstance)
+                .map(cache -> toDTO((CaffeineCache) cache))
+                .toList();
+        return ResponseEntity.ok(stats);
+    }
+
+    @Operation(
+        summary = "Get Hibernate cache region statistics",
+        description = "Hit, miss and put counts per second-level and query cache region since startup"
+    )
+    @ApiResponse(responseCode = "200", description = "Successfully retrieved region statistics")
+    @GetMapping("/regions")
+    public ResponseEntity<List<CacheRegionStatsDTO>> getCacheRegionStats() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        List<CacheRegionStatsDTO> stats = Arrays.stream(statistics.getSecondLevelCacheRegionNames())
+                .map(statistics::getCacheRegionStatistics)
+                .filter(Objects::nonNull)
+                .map(this::toDTO)
+                .toList();
+        return ResponseEntity.ok(stats);
+    }
+
+    private CacheRegionStatsDTO toDTO(CacheRegionStatistics regionStatistics) {
+        long requests = regionStatistics.getHitCount() + regionStatistics.getMissCount();
+        CacheRegionStatsDTO dto = new CacheRegionStatsDTO();
+        dto.setRegion(regionStatistics.getRegionName());
+        dto.setElementCount(regionStatistics.getElementCountInMemory());
+        dto.setHitCount(regionStatistics.getHitCount());
+        dto.setMissCount(regionStatistics.getMissCount());
+        dto.setPutCount(regionStatistics.getPutCount());
+        dto.setHitRate(requests == 0 ? 1.0 : (double) regionStatistics.getHitCount() / requests);
+        return dto;
+    }
+
+    private CacheStatsDTO toDTO(CaffeineCache cache) {
+        CacheStats stats = cache.getNativeCache().stats();
+        CacheStatsDTO dto = new CacheStatsDTO();
+        dto.setName(cache.getName());
+        dto.setSize(cache.getNativeCache().estimatedSize());
+        dto.setHitCount(stats.hitCount());
+        dto.setMissCount(stats.missCount());
+        dto.setEvictionCount(stats.evictionCount());
+        dto.setHitRate(stats.hitRate());
+        return dto;
+    }
+}
@@ -0,0 +1,134 @@
+package org.test.sampath_bank.controller;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.util.StreamUtils;
+import org.test.sampath_bank.dto.EmployeeDTO;
+import org.test.sampath_bank.repository.EmployeeFields;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Writes a page or slice of employees column-wise: the field names once, then one
+ * array of values per row, then the page position. Selected with
+ * {@code Accept: application/vnd.sampath.columnar+json}; plain JSON stays the default.
+ * <pre>
+ * {"columns":["id","email"],"rows":[[1,"a@example.com"],[2,"b@example.com"]],
+ *  "page":{"number":0,"size":2,"numberOfElements":2,"hasNext":true,"totalElements":10,"totalPages":5}}
+ * </pre>
+ */
+public class ColumnarSliceHttpMessageConverter extends AbstractHttpMessageConverter<Slice<?>> {
+
+    public static final MediaType COLUMNAR_JSON = new MediaType("application", "vnd.sampath.columnar+json");
+
+    private final ObjectMapper objectMapper;
+
+    public ColumnarSliceHttpMessageConverter(ObjectMapper objectMapper) {
+        super(COLUMNAR_JSON);
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return Slice.class.isAssignableFrom(clazz);
+    }
+
+    @Override
+    protected boolean canRead(MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    protected Slice<?> readInternal(Class<? extends Slice<?>> clazz, HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException("Columnar employee pages are write-only", inputMessage);
+    }
+
+    @Override
+    protected void writeInternal(Slice<?> slice, HttpOutputMessage outputMessage) throws IOException {
+        write(slice, outputMessage.getBody());
+    }
+
+    public void write(Slice<?> slice, OutputStream outputStream) throws IOException {
+        try (JsonGenerator generator = objectMapper.createGenerator(StreamUtils.nonClosing(outputStream))) {
+            generator.writeStartObject();
+            List<String> columns = columns(slice);
+            generator.writeArrayFieldStart("columns");
+            for (String column : columns) {
+                generator.writeString(column);
+            }
+            generator.writeEndArray();
+
+            generator.writeArrayFieldStart("rows");
+            for (Object row : slice.getContent()) {
+                generator.writeStartArray();
+                if (row instanceof EmployeeDTO employee) {
+                    writeEmployee(generator, employee);
+                } else if (row instanceof Map<?, ?> fields) {
+                    for (String column : columns) {
+                        generator.writeObject(fields.get(column));
+                    }
+                }
+                generator.writeEndArray();
+            }
+            generator.writeEndArray();
+
+            generator.writeObjectFieldStart("page");
+            generator.writeNumberField("number", slice.getNumber());
+            generator.writeNumberField("size", slice.getSize());
+            generator.writeNumberField("numberOfElements", slice.getNumberOfElements());
+            generator.writeBooleanField("hasNext", slice.hasNext());
+            if (slice instanceof Page<?> page) {
+                generator.writeNumberField("totalElements", page.getTotalElements());
+                generator.writeNumberField("totalPages", page.getTotalPages());
+            }
+            generator.writeEndObject();
+            generator.writeEndObject();
+        }
+    }
+
+    private static List<String> columns(Slice<?> slice) {
+        if (slice.hasContent() && slice.getContent().get(0) instanceof Map<?, ?> fields) {
+            List<String> columns = new ArrayList<>(fields.size());
+            for (Object column : fields.keySet()) {
+                columns.add(String.valueOf(column));
+            }
+            return columns;
+        }
+        return EmployeeFields.ALL;
+    }
+
+    // Same order as EmployeeFields.ALL. Numbers are written directly: writeObject goes
+    // through the ObjectMapper, which sets up a serializer provider on every call.
+    private static void writeEmployee(JsonGenerator generator, EmployeeDTO employee) throws IOException {
+        writeNumber(generator, employee.getId());
+        generator.writeString(employee.getFirstName());
+        generator.writeString(employee.getLastName());
+        generator.writeString(employee.getEmail());
+        if (employee.getSalary() != null) {
+            generator.writeNumber(employee.getSalary());
+        } else {
+            generator.writeNull();
+        }
+        writeNumber(generator, employee.getVersion());
+        generator.writeObject(employee.getUpdatedAt());
+    }
+
+    private static void writeNumber(JsonGenerator generator, Long value) throws IOException {
+        if (value != null) {
+            generator.writeNumber(value);
+        } else {
+            generator.writeNull();
+        }
+    }
+}
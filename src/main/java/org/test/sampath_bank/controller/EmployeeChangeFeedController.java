@@ -0,0 +1,68 @@
+package org.test.sampath_bank.controller;
+
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.async.DeferredResult;
+import org.test.sampath_bank.dto.EmployeeChangeFeedDTO;
+import org.test.sampath_bank.service.EmployeeChangeFeedService;
+
+import java.time.Duration;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+
+@RestController
+@RequestMapping("/api/employees/changes")
+@Tag(name = "Employee Change Feed", description = "Incremental sync of employee creates, updates and deletes")
+@CrossOrigin("*")
+public class EmployeeChangeFeedController {
+
+    private static final int MAX_LIMIT = 5000;
+    private static final int MAX_WAIT_SECONDS = 60;
+
+    private final EmployeeChangeFeedService changeFeedService;
+
+    public EmployeeChangeFeedController(EmployeeChangeFeedService changeFeedService) {
+        this.changeFeedService = changeFeedService;
+    }
+
+    @Operation(
+        summary = "Get employee changes",
+        description = "Returns changes committed after the given sequence number, oldest first. With wait > 0 the request is held until a change commits or the wait expires (long poll). Pass lastSequence from the response as 'after' on the next call. Old changes are compacted to the latest per employee and eventually expire; a consumer further behind than the retention period should resync from /api/employees/export"
+    )
+    @ApiResponse(responseCode = "200", description = "Changes after the given sequence; empty if none arrived in time")
+    @ApiResponse(responseCode = "400", description = "Invalid limit or wait")
+    @GetMapping
+    public DeferredResult<EmployeeChangeFeedDTO> getChanges(
+        @Parameter(description = "Sequence number of the last change already processed; 0 to start from the oldest retained change")
+        @RequestParam(defaultValue = "0") long after,
+
+        @Parameter(description = "Maximum number of changes to return (at most 5000)")
+        @RequestParam(defaultValue = "500") int limit,
+
+        @Parameter(description = "Seconds to wait for a change when there is none yet (0 to 60)")
+        @RequestParam(defaultValue = "0") int wait
+    ) {
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new IllegalArgumentException("limit must be between 1 and " + MAX_LIMIT);
+        }
+        if (wait < 0 || wait > MAX_WAIT_SECONDS) {
+            throw new IllegalArgumentException("wait must be between 0 and " + MAX_WAIT_SECONDS + " seconds");
+        }
+
+        DeferredResult<EmployeeChangeFeedDTO> result = new DeferredResult<>(Duration.ofSeconds(wait + 10L).toMillis());
+        changeFeedService.getChanges(after, limit, Duration.ofSeconds(wait)).whenComplete((feed, failure) -> {
+            if (failure != null) {
+                result.setErrorResult(failure);
+            } else {
+                result.setResult(feed);
+            }
+        });
+        return result;
+    }
+}
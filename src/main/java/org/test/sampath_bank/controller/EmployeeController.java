@@ -1,17 +1,41 @@
 package org.test.sampath_bank.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import org.test.sampath_bank.admission.ClientKey;
 import org.test.sampath_bank.dto.EmployeeDTO;
-import org.test.sampath_bank.service.EmployeeServiceImpl;
+import org.test.sampath_bank.dto.EmployeeFilter;
+import org.test.sampath_bank.dto.EmployeeImportResult;
+import org.test.sampath_bank.dto.EmployeeLookupDTO;
+import org.test.sampath_bank.dto.EmployeeSliceDTO;
+import org.test.sampath_bank.dto.EmployeeVersionDTO;
+import org.test.sampath_bank.repository.EmployeeFields;
+import org.test.sampath_bank.service.EmployeeLookupService;
+import org.test.sampath_bank.service.EmployeeNdjsonReader;
+import org.test.sampath_bank.service.EmployeeService;
+import org.test.sampath_bank.service.IdempotencyService;
+import org.test.sampath_bank.service.ExportFormat;
 import org.test.sampath_bank.model.Employee;
 
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 
 import io.swagger.v3.oas.annotations.Operation;
@@ -26,10 +50,25 @@ import io.swagger.v3.oas.annotations.Parameter;
 public class EmployeeController {
 
     @Autowired
-    private EmployeeServiceImpl employeeService;
+    private EmployeeService employeeService;
 
-    public EmployeeController(EmployeeServiceImpl employeeService) {
+    static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+    static final String IDEMPOTENT_REPLAYED_HEADER = "Idempotent-Replayed";
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private IdempotencyService idempotencyService;
+
+    private final EmployeeLookupService employeeLookupService;
+
+    @Value("${employee.api.max-page-size:1000}")
+    private int maxPageSize = 1000;
+
+    public EmployeeController(EmployeeService employeeService, EmployeeLookupService employeeLookupService) {
         this.employeeService = employeeService;
+        this.employeeLookupService = employeeLookupService;
     }
 
     @Operation(
@@ -38,18 +77,57 @@ public class EmployeeController {
     )
     @ApiResponse(responseCode = "201", description = "Employee created successfully")
     @ApiResponse(responseCode = "400", description = "Invalid input")
+    @ApiResponse(responseCode = "422", description = "Idempotency-Key already used for a different request")
     @PostMapping
-    public ResponseEntity<EmployeeDTO> createEmployee(@Valid @RequestBody EmployeeDTO employeeDTO) {
-        return ResponseEntity.ok(employeeService.saveEmployee(employeeDTO));
+    public ResponseEntity<EmployeeDTO> createEmployee(
+            @Valid @RequestBody EmployeeDTO employeeDTO,
+            @Parameter(description = "Client-chosen key; retries with the same key return the original employee")
+            @RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey,
+            HttpServletRequest request) throws IOException {
+        if (idempotencyKey == null) {
+            return ResponseEntity.ok(employeeService.saveEmployee(employeeDTO));
+        }
+        String fingerprint = objectMapper.writeValueAsString(employeeDTO);
+        IdempotencyService.Result result = idempotencyService.execute(
+                ClientKey.of(request) + " " + idempotencyKey, fingerprint,
+                () -> employeeService.saveEmployee(employeeDTO));
+        return ResponseEntity.ok()
+                .header(IDEMPOTENT_REPLAYED_HEADER, Boolean.toString(result.replayed()))
+                .body(result.employee());
+    }
+
+    @Operation(
+        summary = "Bulk import employees",
+        description = "Creates employees from a JSON array, writing them in JDBC batches. Invalid rows are reported individually and do not roll back the rest of the import"
+    )
+    @ApiResponse(responseCode = "200", description = "Import finished; see errors for rejected rows")
+    @PostMapping(value = "/batch", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<EmployeeImportResult> importEmployees(@RequestBody List<EmployeeDTO> employeeDTOs) {
+        return ResponseEntity.ok(employeeService.importEmployees(employeeDTOs.iterator()));
+    }
+
+    @Operation(
+        summary = "Bulk import employees (NDJSON)",
+        description = "Same as the JSON array import, but reads one employee per line from the request stream so the payload is never held in memory. A malformed line is reported as a row error"
+    )
+    @ApiResponse(responseCode = "200", description = "Import finished; see errors for rejected rows")
+    @PostMapping(value = "/batch", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<EmployeeImportResult> importEmployeesNdjson(HttpServletRequest request) throws IOException {
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(request.getInputStream(), StandardCharsets.UTF_8))) {
+            return ResponseEntity.ok(employeeService.importEmployees(
+                    new EmployeeNdjsonReader(reader, objectMapper.readerFor(EmployeeDTO.class))));
+        }
     }
 
     @Operation(
         summary = "Get all employees",
-        description = "Retrieves a paginated list of all employees in the system with sorting capabilities"
+        description = "Retrieves a paginated list of all employees in the system with sorting capabilities. Send Accept: application/cbor or application/vnd.sampath.columnar+json for a more compact body"
     )
     @ApiResponse(responseCode = "200", description = "Successfully retrieved employees")
+    @ApiResponse(responseCode = "400", description = "Page size above the server maximum")
     @GetMapping
-    public ResponseEntity<Page<EmployeeDTO>> getAllEmployees(
+    public ResponseEntity<Page<?>> getAllEmployees(
         @Parameter(description = "Page number (0-based)") 
         @RequestParam(defaultValue = "0") int page,
         
@@ -60,25 +138,167 @@ public class EmployeeController {
         @RequestParam(defaultValue = "id") String sort,
         
         @Parameter(description = "Sort direction (ASC or DESC)") 
-        @RequestParam(defaultValue = "ASC") String direction
+        @RequestParam(defaultValue = "ASC") String direction,
+
+        @Parameter(description = "Comma-separated fields to return, e.g. id,email; all fields when omitted")
+        @RequestParam(required = false) String fields
     ) {
+        requirePageSize(size);
         Sort.Direction sortDirection = Sort.Direction.fromString(direction.toUpperCase());
         Pageable pageable = PageRequest.of(page, size, Sort.by(sortDirection, sort));
-        return ResponseEntity.ok(employeeService.getAllEmployees(pageable));
+        if (fields != null && !fields.isBlank()) {
+            return withETag(employeeService.getAllEmployees(pageable, EmployeeFields.parse(fields)));
+        }
+        return withETag(employeeService.getAllEmployees(pageable));
+    }
+
+    @Operation(
+        summary = "Scroll through employees",
+        description = "Keyset-paginated listing. Pass the nextCursor of the previous response as 'after' to read the next slice; no count query is run and deep positions cost the same as the first one"
+    )
+    @ApiResponse(responseCode = "200", description = "Successfully retrieved employees")
+    @ApiResponse(responseCode = "400", description = "Unknown sort field, cursor issued for a different sort, or size above the server maximum")
+    @GetMapping("/scroll")
+    public ResponseEntity<EmployeeSliceDTO> scrollEmployees(
+        @Parameter(description = "Opaque cursor from the previous slice; omit for the first slice")
+        @RequestParam(required = false) String after,
+
+        @Parameter(description = "Number of items per slice")
+        @RequestParam(defaultValue = "10") int size,
+
+        @Parameter(description = "Sort field (id, firstName, lastName, email, salary)")
+        @RequestParam(defaultValue = "id") String sort,
+
+        @Parameter(description = "Sort direction (ASC or DESC)")
+        @RequestParam(defaultValue = "ASC") String direction
+    ) {
+        requirePageSize(size);
+        Sort.Direction sortDirection = Sort.Direction.fromString(direction.toUpperCase());
+        return ResponseEntity.ok(employeeService.getEmployeesAfter(after, size, sort, sortDirection));
+    }
+
+    @Operation(
+        summary = "Search employees",
+        description = "Finds employees by first or last name prefix, exact email and salary range. At least one of these filters is required so the lookup is always served by an index. Supports the same Accept formats as the list endpoint"
+    )
+    @ApiResponse(responseCode = "200", description = "Successfully retrieved matching employees")
+    @ApiResponse(responseCode = "400", description = "No indexed filter given, or size above the server maximum")
+    @GetMapping("/search")
+    public ResponseEntity<Slice<?>> searchEmployees(
+        @Parameter(description = "First name prefix")
+        @RequestParam(required = false) String firstNamePrefix,
+
+        @Parameter(description = "Last name prefix")
+        @RequestParam(required = false) String lastNamePrefix,
+
+        @Parameter(description = "Exact email address")
+        @RequestParam(required = false) String email,
+
+        @Parameter(description = "Minimum salary (inclusive)")
+        @RequestParam(required = false) Float minSalary,
+
+        @Parameter(description = "Maximum salary (inclusive)")
+        @RequestParam(required = false) Float maxSalary,
+
+        @Parameter(description = "Page number (0-based)")
+        @RequestParam(defaultValue = "0") int page,
+
+        @Parameter(description = "Number of items per page")
+        @RequestParam(defaultValue = "20") int size,
+
+        @Parameter(description = "Comma-separated fields to return, e.g. id,email; all fields when omitted")
+        @RequestParam(required = false) String fields
+    ) {
+        requirePageSize(size);
+        EmployeeFilter filter = new EmployeeFilter(
+                blankToNull(firstNamePrefix), blankToNull(lastNamePrefix), blankToNull(email), null, minSalary, maxSalary);
+        if (fields != null && !fields.isBlank()) {
+            return withETag(employeeService.searchEmployees(filter, EmployeeFields.parse(fields), page, size));
+        }
+        return withETag(employeeService.searchEmployees(filter, page, size));
+    }
+
+    @Operation(
+        summary = "Export all employees",
+        description = "Streams every employee as CSV or NDJSON straight from a forward-only database cursor, so memory use does not depend on the table size"
+    )
+    @ApiResponse(responseCode = "200", description = "Export stream started")
+    @ApiResponse(responseCode = "400", description = "Unsupported export format")
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportEmployees(
+        @Parameter(description = "Export format (csv or ndjson)")
+        @RequestParam(defaultValue = "csv") String format
+    ) {
+        ExportFormat exportFormat = ExportFormat.fromString(format);
+        StreamingResponseBody body = outputStream -> employeeService.exportEmployees(exportFormat, outputStream);
+        return ResponseEntity.ok()
+                .contentType(exportFormat.getMediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"employees." + exportFormat.getFileExtension() + "\"")
+                .body(body);
+    }
+
+    @Operation(
+        summary = "Get employees by IDs",
+        description = "Resolves a comma-separated list of IDs with a single query. IDs that do not exist are listed under missing instead of failing the request"
+    )
+    @ApiResponse(responseCode = "200", description = "Employees found, plus any missing IDs")
+    @ApiResponse(responseCode = "400", description = "No IDs given, or more than the server maximum")
+    @GetMapping(params = "ids")
+    public ResponseEntity<EmployeeLookupDTO> getEmployeesByIds(
+            @Parameter(description = "Comma-separated employee IDs, e.g. 1,2,3")
+            @RequestParam List<Long> ids) {
+        return ResponseEntity.ok(lookupEmployees(ids));
+    }
+
+    @Operation(
+        summary = "Look up employees by IDs",
+        description = "Same as GET /api/employees?ids=..., for ID lists too long for a query string"
+    )
+    @ApiResponse(responseCode = "200", description = "Employees found, plus any missing IDs")
+    @ApiResponse(responseCode = "400", description = "No IDs given, or more than the server maximum")
+    @PostMapping(value = "/lookup", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<EmployeeLookupDTO> lookupEmployeesByIds(@RequestBody List<Long> ids) {
+        return ResponseEntity.ok(lookupEmployees(ids));
+    }
+
+    private EmployeeLookupDTO lookupEmployees(List<Long> ids) {
+        if (ids.isEmpty() || ids.size() > maxPageSize) {
+            throw new IllegalArgumentException("ids must contain between 1 and " + maxPageSize + " entries");
+        }
+        if (ids.contains(null)) {
+            throw new IllegalArgumentException("ids must not contain null");
+        }
+        return employeeLookupService.lookup(ids);
     }
 
     @Operation(
         summary = "Get employee by ID",
-        description = "Retrieves an employee by their ID"
+        description = "Retrieves an employee by their ID. Supports If-None-Match / If-Modified-Since; a conditional request for an unchanged employee is answered from the version column alone"
     )
     @ApiResponse(responseCode = "200", description = "Successfully retrieved employee")
+    @ApiResponse(responseCode = "304", description = "Employee has not changed")
     @ApiResponse(responseCode = "404", description = "Employee not found")
     @GetMapping("/{id}")
     public ResponseEntity<EmployeeDTO> getEmployeeById(
         @Parameter(description = "ID of the employee to retrieve") 
-        @PathVariable Long id
+        @PathVariable Long id,
+        WebRequest webRequest
     ) {
-        return ResponseEntity.ok(employeeService.getEmployeeById(id));
+        if (webRequest.getHeader(HttpHeaders.IF_NONE_MATCH) != null
+                || webRequest.getHeader(HttpHeaders.IF_MODIFIED_SINCE) != null) {
+            EmployeeVersionDTO current = employeeService.getEmployeeVersion(id);
+            long lastModified = current.getUpdatedAt() == null ? -1 : current.getUpdatedAt().toEpochMilli();
+            if (webRequest.checkNotModified(EmployeeETags.forVersion(current.getVersion()), lastModified)) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).build();
+            }
+        }
+
+        EmployeeDTO employeeDTO = employeeLookupService.getEmployee(id);
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok().eTag(EmployeeETags.forVersion(employeeDTO.getVersion()));
+        if (employeeDTO.getUpdatedAt() != null) {
+            response.lastModified(employeeDTO.getUpdatedAt());
+        }
+        return response.body(employeeDTO);
     }
 
     @Operation(
@@ -111,4 +331,18 @@ public class EmployeeController {
         return ResponseEntity.noContent().build();
     }
 
+    // Spring answers If-None-Match with 304 from the ETag header before writing the body.
+    private static <T extends Slice<?>> ResponseEntity<T> withETag(T slice) {
+        return ResponseEntity.ok().eTag(EmployeeETags.forSlice(slice)).body(slice);
+    }
+
+    private void requirePageSize(int size) {
+        if (size < 1 || size > maxPageSize) {
+            throw new IllegalArgumentException("size must be between 1 and " + maxPageSize);
+        }
+    }
+
+    private static String blankToNull(String value) {
+        return value == null || value.isBlank() ? null : value;
+    }
 }
@@ -0,0 +1,40 @@
+package org.test.sampath_bank.controller;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
+import org.test.sampath_bank.dto.EmployeeDTO;
+
+import java.util.Map;
+
+/**
+ * Entity tags for employee resources. A single employee is tagged with its
+ * optimistic-lock version, which changes on every write. A list page gets a weak
+ * tag hashed from the page position and the id/version of each row it holds.
+ */
+final class EmployeeETags {
+
+    private EmployeeETags() {
+    }
+
+    static String forVersion(Long version) {
+        return version == null ? null : "\"" + version + "\"";
+    }
+
+    static String forSlice(Slice<?> slice) {
+        long hash = 17;
+        hash = 31 * hash + slice.getNumber();
+        hash = 31 * hash + slice.getSize();
+        if (slice instanceof Page<?> page) {
+            hash = 31 * hash + page.getTotalElements();
+        }
+        for (Object row : slice.getContent()) {
+            if (row instanceof EmployeeDTO employee) {
+                hash = 31 * hash + (employee.getId() == null ? 0 : employee.getId());
+                hash = 31 * hash + (employee.getVersion() == null ? 0 : employee.getVersion());
+            } else if (row instanceof Map<?, ?> fields) {
+                hash = 31 * hash + fields.hashCode();
+            }
+        }
+        return "W/\"" + Long.toHexString(hash) + "\"";
+    }
+}
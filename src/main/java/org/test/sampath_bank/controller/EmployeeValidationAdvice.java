@@ -0,0 +1,29 @@
+package org.test.sampath_bank.controller;
+
+import org.springframework.web.bind.WebDataBinder;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.bind.annotation.InitBinder;
+import org.test.sampath_bank.validation.EmployeeDTOValidator;
+
+/**
+ * Validates {@code @Valid EmployeeDTO} request bodies with the precompiled
+ * {@link EmployeeDTOValidator} instead of Bean Validation, unless
+ * {@code employee.validation.mode=bean-validation}.
+ */
+@ControllerAdvice
+public class EmployeeValidationAdvice {
+
+    private final EmployeeDTOValidator employeeDTOValidator;
+
+    public EmployeeValidationAdvice(EmployeeDTOValidator employeeDTOValidator) {
+        this.employeeDTOValidator = employeeDTOValidator;
+    }
+
+    // Binders are named after the parameter type, so this only touches EmployeeDTO bodies.
+    @InitBinder("employeeDTO")
+    public void initEmployeeBinder(WebDataBinder binder) {
+        if (employeeDTOValidator.isPrecompiled()) {
+            binder.setValidator(employeeDTOValidator);
+        }
+    }
+}
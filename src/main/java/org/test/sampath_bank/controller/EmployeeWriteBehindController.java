@@ -0,0 +1,99 @@
+package org.test.sampath_bank.controller;
+
+import jakarta.validation.Valid;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+import org.test.sampath_bank.dto.EmployeeDTO;
+import org.test.sampath_bank.dto.WriteQueueStatusDTO;
+import org.test.sampath_bank.dto.WriteStatusDTO;
+import org.test.sampath_bank.service.EmployeeWriteBehindService;
+
+import java.net.URI;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+
+@RestController
+@RequestMapping("/api/employees/async")
+@ConditionalOnProperty(name = "employee.write-behind.enabled", havingValue = "true")
+@Tag(name = "Employee Write-Behind", description = "Queued employee writes, acknowledged before they reach the database")
+@CrossOrigin("*")
+public class EmployeeWriteBehindController {
+
+    private final EmployeeWriteBehindService writeBehindService;
+
+    public EmployeeWriteBehindController(EmployeeWriteBehindService writeBehindService) {
+        this.writeBehindService = writeBehindService;
+    }
+
+    @Operation(
+        summary = "Queue a new employee",
+        description = "Journals and queues the employee and returns a tracking id; the row is written by the background writer"
+    )
+    @ApiResponse(responseCode = "202", description = "Employee accepted for writing")
+    @ApiResponse(responseCode = "400", description = "Invalid input")
+    @ApiResponse(responseCode = "503", description = "Write queue is full; retry after the Retry-After delay")
+    @PostMapping
+    public ResponseEntity<WriteStatusDTO> createEmployee(@Valid @RequestBody EmployeeDTO employeeDTO) {
+        return accepted(writeBehindService.submitCreate(employeeDTO));
+    }
+
+    @Operation(
+        summary = "Queue an employee update",
+        description = "Journals and queues the update and returns a tracking id. Queued updates to the same employee are written as one; a version, if given, is checked against the row when the first of them is written"
+    )
+    @ApiResponse(responseCode = "202", description = "Update accepted for writing")
+    @ApiResponse(responseCode = "400", description = "Invalid input")
+    @ApiResponse(responseCode = "503", description = "Write queue is full; retry after the Retry-After delay")
+    @PutMapping("/{id}")
+    public ResponseEntity<WriteStatusDTO> updateEmployee(
+        @Parameter(description = "ID of the employee to update")
+        @PathVariable Long id,
+        @Valid @RequestBody EmployeeDTO employeeDTO
+    ) {
+        return accepted(writeBehindService.submitUpdate(id, employeeDTO));
+    }
+
+    @Operation(
+        summary = "Get write status",
+        description = "Reports whether a queued write is still queued, written or failed, with the employee id once known"
+    )
+    @ApiResponse(responseCode = "200", description = "Successfully retrieved write status")
+    @ApiResponse(responseCode = "404", description = "Unknown or expired tracking id")
+    @GetMapping("/writes/{trackingId}")
+    public ResponseEntity<WriteStatusDTO> getWriteStatus(
+        @Parameter(description = "Tracking id returned when the write was accepted")
+        @PathVariable String trackingId
+    ) {
+        return ResponseEntity.ok(writeBehindService.getStatus(trackingId));
+    }
+
+    @Operation(
+        summary = "Get write queue status",
+        description = "Queue depth, capacity and counts of accepted, coalesced, written, failed and rejected writes"
+    )
+    @ApiResponse(responseCode = "200", description = "Successfully retrieved queue status")
+    @GetMapping("/queue")
+    public ResponseEntity<WriteQueueStatusDTO> getQueueStatus() {
+        return ResponseEntity.ok(writeBehindService.getQueueStatus());
+    }
+
+    private static ResponseEntity<WriteStatusDTO> accepted(WriteStatusDTO status) {
+        URI location = ServletUriComponentsBuilder.fromCurrentContextPath()
+                .path("/api/employees/async/writes/{trackingId}")
+                .buildAndExpand(status.getTrackingId())
+                .toUri();
+        return ResponseEntity.accepted().location(location).body(status);
+    }
+}
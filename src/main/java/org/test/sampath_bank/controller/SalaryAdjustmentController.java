@@ -0,0 +1,96 @@
+package org.test.sampath_bank.controller;
+
+import jakarta.validation.Valid;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+import org.test.sampath_bank.dto.SalaryAdjustmentImpactDTO;
+import org.test.sampath_bank.dto.SalaryAdjustmentJobDTO;
+import org.test.sampath_bank.dto.SalaryAdjustmentRequest;
+import org.test.sampath_bank.service.SalaryAdjustmentService;
+
+import java.net.URI;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+
+@RestController
+@RequestMapping("/api/salary-adjustments")
+@ConditionalOnProperty(name = "employee.sharding.enabled", havingValue = "false", matchIfMissing = true)
+@Tag(name = "Salary Adjustments", description = "Bulk salary changes applied by rule, in parallel id ranges")
+@CrossOrigin("*")
+public class SalaryAdjustmentController {
+
+    private final SalaryAdjustmentService salaryAdjustmentService;
+
+    public SalaryAdjustmentController(SalaryAdjustmentService salaryAdjustmentService) {
+        this.salaryAdjustmentService = salaryAdjustmentService;
+    }
+
+    @Operation(
+        summary = "Preview a salary adjustment",
+        description = "Dry run: the number of employees each band would change and the salary totals before and after, without writing anything"
+    )
+    @ApiResponse(responseCode = "200", description = "Successfully computed the impact")
+    @ApiResponse(responseCode = "400", description = "Invalid or overlapping bands")
+    @PostMapping("/dry-run")
+    public ResponseEntity<SalaryAdjustmentImpactDTO> previewAdjustment(@Valid @RequestBody SalaryAdjustmentRequest request) {
+        return ResponseEntity.ok(salaryAdjustmentService.preview(request));
+    }
+
+    @Operation(
+        summary = "Start a salary adjustment job",
+        description = "Applies the rules to every employee in the background, one id range per transaction, and returns the job to poll for progress"
+    )
+    @ApiResponse(responseCode = "202", description = "Job started")
+    @ApiResponse(responseCode = "400", description = "Invalid or overlapping bands")
+    @PostMapping
+    public ResponseEntity<SalaryAdjustmentJobDTO> startAdjustment(@Valid @RequestBody SalaryAdjustmentRequest request) {
+        return accepted(salaryAdjustmentService.start(request));
+    }
+
+    @Operation(
+        summary = "Get salary adjustment progress",
+        description = "State, id ranges done out of the total, employees updated and throughput of the current or last run"
+    )
+    @ApiResponse(responseCode = "200", description = "Successfully retrieved the job")
+    @ApiResponse(responseCode = "404", description = "Job not found")
+    @GetMapping("/{id}")
+    public ResponseEntity<SalaryAdjustmentJobDTO> getAdjustment(
+        @Parameter(description = "ID of the salary adjustment job")
+        @PathVariable Long id
+    ) {
+        return ResponseEntity.ok(salaryAdjustmentService.getJob(id));
+    }
+
+    @Operation(
+        summary = "Resume a salary adjustment job",
+        description = "Continues a failed or interrupted job with the id ranges it has not finished; finished ranges are never adjusted twice"
+    )
+    @ApiResponse(responseCode = "202", description = "Job resumed, or already running or completed")
+    @ApiResponse(responseCode = "404", description = "Job not found")
+    @PostMapping("/{id}/resume")
+    public ResponseEntity<SalaryAdjustmentJobDTO> resumeAdjustment(
+        @Parameter(description = "ID of the salary adjustment job")
+        @PathVariable Long id
+    ) {
+        return accepted(salaryAdjustmentService.resume(id));
+    }
+
+    private static ResponseEntity<SalaryAdjustmentJobDTO> accepted(SalaryAdjustmentJobDTO job) {
+        URI location = ServletUriComponentsBuilder.fromCurrentContextPath()
+                .path("/api/salary-adjustments/{id}")
+                .buildAndExpand(job.getId())
+                .toUri();
+        return ResponseEntity.accepted().location(location).body(job);
+    }
+}
@@ -0,0 +1,55 @@
+package org.test.sampath_bank.controller;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.test.sampath_bank.dto.EmployeeFilter;
+import org.test.sampath_bank.dto.SalaryStatisticsDTO;
+import org.test.sampath_bank.service.SalaryStatisticsService;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+
+@RestController
+@RequestMapping("/api/analytics")
+@Tag(name = "Employee Analytics", description = "Aggregates computed in the database")
+@CrossOrigin("*")
+public class SalaryStatisticsController {
+
+    private final SalaryStatisticsService salaryStatisticsService;
+
+    public SalaryStatisticsController(SalaryStatisticsService salaryStatisticsService) {
+        this.salaryStatisticsService = salaryStatisticsService;
+    }
+
+    @Operation(
+        summary = "Get salary statistics",
+        description = "Count, sum, min, max, average, approximate percentiles and a histogram of salaries for the employees matching the filters"
+    )
+    @ApiResponse(responseCode = "200", description = "Successfully computed salary statistics")
+    @GetMapping("/salaries")
+    public ResponseEntity<SalaryStatisticsDTO> getSalaryStatistics(
+        @Parameter(description = "First name prefix")
+        @RequestParam(required = false) String firstNamePrefix,
+
+        @Parameter(description = "Last name prefix")
+        @RequestParam(required = false) String lastNamePrefix,
+
+        @Parameter(description = "Email domain, e.g. example.com")
+        @RequestParam(required = false) String emailDomain,
+
+        @Parameter(description = "Minimum salary (inclusive)")
+        @RequestParam(required = false) Float minSalary,
+
+        @Parameter(description = "Maximum salary (inclusive)")
+        @RequestParam(required = false) Float maxSalary
+    ) {
+        EmployeeFilter filter = new EmployeeFilter(firstNamePrefix, lastNamePrefix, null, emailDomain, minSalary, maxSalary);
+        return ResponseEntity.ok(salaryStatisticsService.getSalaryStatistics(filter));
+    }
+}
@@ -0,0 +1,51 @@
+package org.test.sampath_bank.datasource;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.test.sampath_bank.admission.ClientKey;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Set;
+
+/**
+ * Keeps a client's reads on the primary for a short window after it wrote, so it
+ * never reads its own change back from a replica that has not caught up. Clients are
+ * told apart by {@link ClientKey}. Write requests themselves read from the primary throughout.
+ */
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+
+    private static final Set<String> SAFE_METHODS = Set.of("GET", "HEAD", "OPTIONS");
+
+    private final Cache<String, Boolean> recentWriters;
+
+    public ReadYourWritesFilter(Duration window) {
+        this.recentWriters = Caffeine.newBuilder()
+                .expireAfterWrite(window)
+                .maximumSize(100_000)
+                .build();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String client = ClientKey.of(request);
+        boolean write = !SAFE_METHODS.contains(request.getMethod());
+        if (write || recentWriters.getIfPresent(client) != null) {
+            ReplicaRoutingDataSource.requirePrimary();
+        }
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            ReplicaRoutingDataSource.clearPrimaryRequired();
+            if (write && response.getStatus() < 400) {
+                recentWriters.put(client, Boolean.TRUE);
+            }
+        }
+    }
+}
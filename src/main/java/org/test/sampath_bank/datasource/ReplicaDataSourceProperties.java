@@ -0,0 +1,74 @@
+package org.test.sampath_bank.datasource;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+@ConfigurationProperties(prefix = "employee.datasource")
+public class ReplicaDataSourceProperties {
+
+    private List<Replica> replicas = new ArrayList<>();
+
+    /** How long after a write a client's reads keep going to the primary. */
+    private Duration readYourWritesWindow = Duration.ofSeconds(5);
+
+    public List<Replica> getReplicas() {
+        return replicas;
+    }
+
+    public void setReplicas(List<Replica> replicas) {
+        this.replicas = replicas;
+    }
+
+    public Duration getReadYourWritesWindow() {
+        return readYourWritesWindow;
+    }
+
+    public void setReadYourWritesWindow(Duration readYourWritesWindow) {
+        this.readYourWritesWindow = readYourWritesWindow;
+    }
+
+    public static class Replica {
+
+        private String url;
+        /** Defaults to spring.datasource.username. */
+        private String username;
+        /** Defaults to spring.datasource.password. */
+        private String password;
+        private int maximumPoolSize = 10;
+
+        public String getUrl() {
+            return url;
+        }
+
+        public void setUrl(String url) {
+            this.url = url;
+        }
+
+        public String getUsername() {
+            return username;
+        }
+
+        public void setUsername(String username) {
+            this.username = username;
+        }
+
+        public String getPassword() {
+            return password;
+        }
+
+        public void setPassword(String password) {
+            this.password = password;
+        }
+
+        public int getMaximumPoolSize() {
+            return maximumPoolSize;
+        }
+
+        public void setMaximumPoolSize(int maximumPoolSize) {
+            this.maximumPoolSize = maximumPoolSize;
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package org.test.sampath_bank.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+
+import java.io.Closeable;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Hands out read-only connections: round-robin over the replica pools, or from the
+ * primary while the current thread is pinned to it for read-your-writes.
+ */
+public class ReplicaRoutingDataSource extends AbstractDataSource implements Closeable {
+
+    private static final ThreadLocal<Boolean> PRIMARY_REQUIRED = new ThreadLocal<>();
+
+    private final HikariDataSource primary;
+    private final List<HikariDataSource> replicas;
+    private final AtomicInteger next = new AtomicInteger();
+
+    public ReplicaRoutingDataSource(HikariDataSource primary, List<HikariDataSource> replicas) {
+        if (replicas.isEmpty()) {
+            throw new IllegalArgumentException("At least one replica datasource is required");
+        }
+        this.primary = primary;
+        this.replicas = List.copyOf(replicas);
+    }
+
+    /** Sends this thread's read-only connections to the primary until {@link #clearPrimaryRequired()}. */
+    public static void requirePrimary() {
+        PRIMARY_REQUIRED.set(Boolean.TRUE);
+    }
+
+    public static void clearPrimaryRequired() {
+        PRIMARY_REQUIRED.remove();
+    }
+
+    public static boolean isPrimaryRequired() {
+        return PRIMARY_REQUIRED.get() != null;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return target().getConnection();
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return target().getConnection(username, password);
+    }
+
+    @Override
+    public void close() {
+        replicas.forEach(HikariDataSource::close);
+    }
+
+    private HikariDataSource target() {
+        if (isPrimaryRequired()) {
+            return primary;
+        }
+        return replicas.get(Math.floorMod(next.getAndIncrement(), replicas.size()));
+    }
+}
@@ -0,0 +1,59 @@
+package org.test.sampath_bank.dto;
+
+public class CacheRegionStatsDTO {
+
+    private String region;
+    private long elementCount;
+    private long hitCount;
+    private long missCount;
+    private long putCount;
+    private double hitRate;
+
+    public String getRegion() {
+        return region;
+    }
+
+    public void setRegion(String region) {
+        this.region = region;
+    }
+
+    public long getElementCount() {
+        return elementCount;
+    }
+
+    public void setElementCount(long elementCount) {
+        this.elementCount = elementCount;
+    }
+
+    public long getHitCount() {
+        return hitCount;
+    }
+
+    public void setHitCount(long hitCount) {
+        this.hitCount = hitCount;
+    }
+
+    public long getMissCount() {
+        return missCount;
+    }
+
+    public void setMissCount(long missCount) {
+        this.missCount = missCount;
+    }
+
+    public long getPutCount() {
+        return putCount;
+    }
+
+    public void setPutCount(long putCount) {
+        this.putCount = putCount;
+    }
+
+    public double getHitRate() {
+        return hitRate;
+    }
+
+    public void setHitRate(double hitRate) {
+        this.hitRate = hitRate;
+    }
+}
@@ -0,0 +1,68 @@
+package org.test.sampath_bank.dto;
+
+import com.fasterxml.jackson.annotation.JsonRawValue;
+import org.test.sampath_bank.event.EmployeeChangedEvent.ChangeType;
+
+import java.time.Instant;
+
+public class EmployeeChangeDTO {
+
+    private long sequence;
+    private ChangeType type;
+    private Long employeeId;
+    // Stored as JSON in the outbox and passed through without re-parsing.
+    @JsonRawValue
+    private String employee;
+    private Instant changedAt;
+
+    public EmployeeChangeDTO() {
+    }
+
+    public EmployeeChangeDTO(long sequence, ChangeType type, Long employeeId, String employee, Instant changedAt) {
+        this.sequence = sequence;
+        this.type = type;
+        this.employeeId = employeeId;
+        this.employee = employee;
+        this.changedAt = changedAt;
+    }
+
+    public long getSequence() {
+        return sequence;
+    }
+
+    public void setSequence(long sequence) {
+        this.sequence = sequence;
+    }
+
+    public ChangeType getType() {
+        return type;
+    }
+
+    public void setType(ChangeType type) {
+        this.type = type;
+    }
+
+    public Long getEmployeeId() {
+        return employeeId;
+    }
+
+    public void setEmployeeId(Long employeeId) {
+        this.employeeId = employeeId;
+    }
+
+    public String getEmployee() {
+        return employee;
+    }
+
+    public void setEmployee(String employee) {
+        this.employee = employee;
+    }
+
+    public Instant getChangedAt() {
+        return changedAt;
+    }
+
+    public void setChangedAt(Instant changedAt) {
+        this.changedAt = changedAt;
+    }
+}
@@ -0,0 +1,34 @@
+package org.test.sampath_bank.dto;
+
+import java.util.List;
+
+public class EmployeeChangeFeedDTO {
+
+    private List<EmployeeChangeDTO> changes;
+    /** Pass as {@code after} on the next call; unchanged when there was nothing new. */
+    private long lastSequence;
+
+    public EmployeeChangeFeedDTO() {
+    }
+
+    public EmployeeChangeFeedDTO(List<EmployeeChangeDTO> changes, long lastSequence) {
+        this.changes = changes;
+        this.lastSequence = lastSequence;
+    }
+
+    public List<EmployeeChangeDTO> getChanges() {
+        return changes;
+    }
+
+    public void setChanges(List<EmployeeChangeDTO> changes) {
+        this.changes = changes;
+    }
+
+    public long getLastSequence() {
+        return lastSequence;
+    }
+
+    public void setLastSequence(long lastSequence) {
+        this.lastSequence = lastSequence;
+    }
+}
@@ -4,6 +4,9 @@ import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.Size;
 import jakarta.validation.constraints.Min;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.time.Instant;
 
 public class EmployeeDTO {
 
@@ -25,6 +28,25 @@ public class EmployeeDTO {
     @Min(value = 0, message = "Salary should not be negative")
     private Float salary;
 
+    private Long version;
+
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private Instant updatedAt;
+
+    public EmployeeDTO() {
+    }
+
+    public EmployeeDTO(Long id, String firstName, String lastName, String email, Float salary, Long version,
+                       Instant updatedAt) {
+        this.id = id;
+        this.firstName = firstName;
+        this.lastName = lastName;
+        this.email = email;
+        this.salary = salary;
+        this.version = version;
+        this.updatedAt = updatedAt;
+    }
+
     public String getFirstName() {
         return firstName;
     }
@@ -64,4 +86,20 @@ public class EmployeeDTO {
     public void setId(Long id) {
         this.id = id;
     }
+
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+
+    public Instant getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(Instant updatedAt) {
+        this.updatedAt = updatedAt;
+    }
 }
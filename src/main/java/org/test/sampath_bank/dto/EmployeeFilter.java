@@ -0,0 +1,38 @@
+package org.test.sampath_bank.dto;
+
+/**
+ * Optional filters shared by the analytics and search endpoints. Null fields do not
+ * constrain the result. Prefix and domain matches are case-insensitive, like the
+ * default MySQL collation they are evaluated against.
+ */
+public record EmployeeFilter(
+        String firstNamePrefix,
+        String lastNamePrefix,
+        String email,
+        String emailDomain,
+        Float minSalary,
+        Float maxSalary) {
+
+    /** True if at least one filter can be answered from an index rather than a scan. */
+    public boolean hasIndexedPredicate() {
+        return firstNamePrefix != null || lastNamePrefix != null || email != null
+                || minSalary != null || maxSalary != null;
+    }
+
+    public boolean matches(EmployeeDTO employee) {
+        return startsWithIgnoreCase(employee.getFirstName(), firstNamePrefix)
+                && startsWithIgnoreCase(employee.getLastName(), lastNamePrefix)
+                && (email == null || email.equalsIgnoreCase(employee.getEmail()))
+                && (emailDomain == null || endsWithIgnoreCase(employee.getEmail(), "@" + emailDomain))
+                && (minSalary == null || (employee.getSalary() != null && employee.getSalary() >= minSalary))
+                && (maxSalary == null || (employee.getSalary() != null && employee.getSalary() <= maxSalary));
+    }
+
+    private static boolean startsWithIgnoreCase(String value, String prefix) {
+        return prefix == null || (value != null && value.regionMatches(true, 0, prefix, 0, prefix.length()));
+    }
+
+    private static boolean endsWithIgnoreCase(String value, String suffix) {
+        return value != null && value.regionMatches(true, value.length() - suffix.length(), suffix, 0, suffix.length());
+    }
+}
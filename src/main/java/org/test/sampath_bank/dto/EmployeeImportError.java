@@ -0,0 +1,33 @@
+package org.test.sampath_bank.dto;
+
+import java.util.List;
+
+public class EmployeeImportError {
+
+    private int row;
+    private List<String> messages;
+
+    public EmployeeImportError() {
+    }
+
+    public EmployeeImportError(int row, List<String> messages) {
+        this.row = row;
+        this.messages = messages;
+    }
+
+    public int getRow() {
+        return row;
+    }
+
+    public void setRow(int row) {
+        this.row = row;
+    }
+
+    public List<String> getMessages() {
+        return messages;
+    }
+
+    public void setMessages(List<String> messages) {
+        this.messages = messages;
+    }
+}
@@ -0,0 +1,39 @@
+package org.test.sampath_bank.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class EmployeeImportResult {
+
+    private int received;
+    private int imported;
+    private List<EmployeeImportError> errors = new ArrayList<>();
+
+    public int getReceived() {
+        return received;
+    }
+
+    public void setReceived(int received) {
+        this.received = received;
+    }
+
+    public int getImported() {
+        return imported;
+    }
+
+    public void setImported(int imported) {
+        this.imported = imported;
+    }
+
+    public int getFailed() {
+        return errors.size();
+    }
+
+    public List<EmployeeImportError> getErrors() {
+        return errors;
+    }
+
+    public void setErrors(List<EmployeeImportError> errors) {
+        this.errors = errors;
+    }
+}
@@ -0,0 +1,34 @@
+package org.test.sampath_bank.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class EmployeeLookupDTO {
+
+    private List<EmployeeDTO> employees = new ArrayList<>();
+    private List<Long> missing = new ArrayList<>();
+
+    public EmployeeLookupDTO() {
+    }
+
+    public EmployeeLookupDTO(List<EmployeeDTO> employees, List<Long> missing) {
+        this.employees = employees;
+        this.missing = missing;
+    }
+
+    public List<EmployeeDTO> getEmployees() {
+        return employees;
+    }
+
+    public void setEmployees(List<EmployeeDTO> employees) {
+        this.employees = employees;
+    }
+
+    public List<Long> getMissing() {
+        return missing;
+    }
+
+    public void setMissing(List<Long> missing) {
+        this.missing = missing;
+    }
+}
@@ -0,0 +1,43 @@
+package org.test.sampath_bank.dto;
+
+import java.util.List;
+
+public class EmployeeSliceDTO {
+
+    private List<EmployeeDTO> content;
+    private int size;
+    private boolean hasNext;
+    private String nextCursor;
+
+    public List<EmployeeDTO> getContent() {
+        return content;
+    }
+
+    public void setContent(List<EmployeeDTO> content) {
+        this.content = content;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public void setSize(int size) {
+        this.size = size;
+    }
+
+    public boolean isHasNext() {
+        return hasNext;
+    }
+
+    public void setHasNext(boolean hasNext) {
+        this.hasNext = hasNext;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public void setNextCursor(String nextCursor) {
+        this.nextCursor = nextCursor;
+    }
+}
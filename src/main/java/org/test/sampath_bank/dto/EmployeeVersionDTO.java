@@ -0,0 +1,33 @@
+package org.test.sampath_bank.dto;
+
+import java.time.Instant;
+
+public class EmployeeVersionDTO {
+
+    private Long version;
+    private Instant updatedAt;
+
+    public EmployeeVersionDTO() {
+    }
+
+    public EmployeeVersionDTO(Long version, Instant updatedAt) {
+        this.version = version;
+        this.updatedAt = updatedAt;
+    }
+
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+
+    public Instant getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(Instant updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+}
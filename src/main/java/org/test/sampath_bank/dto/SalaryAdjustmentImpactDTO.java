@@ -0,0 +1,67 @@
+package org.test.sampath_bank.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/** What a salary adjustment would change, computed without writing anything. */
+public class SalaryAdjustmentImpactDTO {
+
+    private long employees;
+    private double currentTotal;
+    private double adjustedTotal;
+    private double totalChange;
+    private List<SalaryBandImpactDTO> bands = new ArrayList<>();
+
+    public SalaryAdjustmentImpactDTO() {
+    }
+
+    public SalaryAdjustmentImpactDTO(List<SalaryBandImpactDTO> bands) {
+        this.bands = bands;
+        for (SalaryBandImpactDTO band : bands) {
+            employees += band.getEmployees();
+            currentTotal += band.getCurrentTotal();
+            adjustedTotal += band.getAdjustedTotal();
+        }
+        totalChange = adjustedTotal - currentTotal;
+    }
+
+    public long getEmployees() {
+        return employees;
+    }
+
+    public void setEmployees(long employees) {
+        this.employees = employees;
+    }
+
+    public double getCurrentTotal() {
+        return currentTotal;
+    }
+
+    public void setCurrentTotal(double currentTotal) {
+        this.currentTotal = currentTotal;
+    }
+
+    public double getAdjustedTotal() {
+        return adjustedTotal;
+    }
+
+    public void setAdjustedTotal(double adjustedTotal) {
+        this.adjustedTotal = adjustedTotal;
+    }
+
+    public double getTotalChange() {
+        return totalChange;
+    }
+
+    public void setTotalChange(double totalChange) {
+        this.totalChange = totalChange;
+    }
+
+    public List<SalaryBandImpactDTO> getBands() {
+        return bands;
+    }
+
+    public void setBands(List<SalaryBandImpactDTO> bands) {
+        this.bands = bands;
+    }
+}
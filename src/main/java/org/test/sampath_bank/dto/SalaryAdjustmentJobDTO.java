@@ -0,0 +1,122 @@
+package org.test.sampath_bank.dto;
+
+import org.test.sampath_bank.model.SalaryAdjustmentJob.State;
+
+import java.time.Instant;
+
+/**
+ * Progress of a bulk salary adjustment. {@code active} is whether this instance is
+ * working on it; a {@code RUNNING} job that no instance is working on was interrupted
+ * and can be resumed. {@code employeesPerSecond} covers the current or last run.
+ */
+public class SalaryAdjustmentJobDTO {
+
+    private Long id;
+    private State state;
+    private boolean active;
+    private SalaryAdjustmentRequest rules;
+    private long totalChunks;
+    private long completedChunks;
+    private long employeesUpdated;
+    private double employeesPerSecond;
+    private Instant createdAt;
+    private Instant startedAt;
+    private Instant finishedAt;
+    private String failure;
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public State getState() {
+        return state;
+    }
+
+    public void setState(State state) {
+        this.state = state;
+    }
+
+    public boolean isActive() {
+        return active;
+    }
+
+    public void setActive(boolean active) {
+        this.active = active;
+    }
+
+    public SalaryAdjustmentRequest getRules() {
+        return rules;
+    }
+
+    public void setRules(SalaryAdjustmentRequest rules) {
+        this.rules = rules;
+    }
+
+    public long getTotalChunks() {
+        return totalChunks;
+    }
+
+    public void setTotalChunks(long totalChunks) {
+        this.totalChunks = totalChunks;
+    }
+
+    public long getCompletedChunks() {
+        return completedChunks;
+    }
+
+    public void setCompletedChunks(long completedChunks) {
+        this.completedChunks = completedChunks;
+    }
+
+    public long getEmployeesUpdated() {
+        return employeesUpdated;
+    }
+
+    public void setEmployeesUpdated(long employeesUpdated) {
+        this.employeesUpdated = employeesUpdated;
+    }
+
+    public double getEmployeesPerSecond() {
+        return employeesPerSecond;
+    }
+
+    public void setEmployeesPerSecond(double employeesPerSecond) {
+        this.employeesPerSecond = employeesPerSecond;
+    }
+
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(Instant createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    public Instant getStartedAt() {
+        return startedAt;
+    }
+
+    public void setStartedAt(Instant startedAt) {
+        this.startedAt = startedAt;
+    }
+
+    public Instant getFinishedAt() {
+        return finishedAt;
+    }
+
+    public void setFinishedAt(Instant finishedAt) {
+        this.finishedAt = finishedAt;
+    }
+
+    public String getFailure() {
+        return failure;
+    }
+
+    public void setFailure(String failure) {
+        this.failure = failure;
+    }
+}
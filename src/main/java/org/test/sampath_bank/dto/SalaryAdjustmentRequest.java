@@ -0,0 +1,59 @@
+package org.test.sampath_bank.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotEmpty;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Rule set for a bulk salary adjustment. Bands must not overlap; employees outside
+ * every band, or without a salary, are left alone. {@code maxIncrease} caps the raise
+ * of any one employee and {@code maxSalary} caps the resulting salary, without ever
+ * lowering a salary that is already above it.
+ */
+public class SalaryAdjustmentRequest {
+
+    @NotEmpty(message = "At least one band is required")
+    private List<@Valid SalaryBand> bands = new ArrayList<>();
+
+    @Min(value = 0, message = "Maximum increase should not be negative")
+    private Float maxIncrease;
+
+    @Min(value = 0, message = "Maximum salary should not be negative")
+    private Float maxSalary;
+
+    public SalaryAdjustmentRequest() {
+    }
+
+    public SalaryAdjustmentRequest(List<SalaryBand> bands, Float maxIncrease, Float maxSalary) {
+        this.bands = bands;
+        this.maxIncrease = maxIncrease;
+        this.maxSalary = maxSalary;
+    }
+
+    public List<SalaryBand> getBands() {
+        return bands;
+    }
+
+    public void setBands(List<SalaryBand> bands) {
+        this.bands = bands;
+    }
+
+    public Float getMaxIncrease() {
+        return maxIncrease;
+    }
+
+    public void setMaxIncrease(Float maxIncrease) {
+        this.maxIncrease = maxIncrease;
+    }
+
+    public Float getMaxSalary() {
+        return maxSalary;
+    }
+
+    public void setMaxSalary(Float maxSalary) {
+        this.maxSalary = maxSalary;
+    }
+}
@@ -0,0 +1,51 @@
+package org.test.sampath_bank.dto;
+
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.NotNull;
+
+/**
+ * One band of a salary adjustment: employees earning at least {@code minSalary} and
+ * less than {@code maxSalary} get {@code percent} added. A null bound is open.
+ */
+public class SalaryBand {
+
+    private Float minSalary;
+    private Float maxSalary;
+
+    @NotNull(message = "Percent cannot be null")
+    @DecimalMin(value = "-100", inclusive = false, message = "Percent must be greater than -100")
+    private Double percent;
+
+    public SalaryBand() {
+    }
+
+    public SalaryBand(Float minSalary, Float maxSalary, Double percent) {
+        this.minSalary = minSalary;
+        this.maxSalary = maxSalary;
+        this.percent = percent;
+    }
+
+    public Float getMinSalary() {
+        return minSalary;
+    }
+
+    public void setMinSalary(Float minSalary) {
+        this.minSalary = minSalary;
+    }
+
+    public Float getMaxSalary() {
+        return maxSalary;
+    }
+
+    public void setMaxSalary(Float maxSalary) {
+        this.maxSalary = maxSalary;
+    }
+
+    public Double getPercent() {
+        return percent;
+    }
+
+    public void setPercent(Double percent) {
+        this.percent = percent;
+    }
+}
@@ -0,0 +1,62 @@
+package org.test.sampath_bank.dto;
+
+public class SalaryBandImpactDTO {
+
+    private SalaryBand band;
+    private long employees;
+    private double currentTotal;
+    private double adjustedTotal;
+    private double largestChange;
+
+    public SalaryBandImpactDTO() {
+    }
+
+    public SalaryBandImpactDTO(SalaryBand band, long employees, double currentTotal, double adjustedTotal,
+                               double largestChange) {
+        this.band = band;
+        this.employees = employees;
+        this.currentTotal = currentTotal;
+        this.adjustedTotal = adjustedTotal;
+        this.largestChange = largestChange;
+    }
+
+    public SalaryBand getBand() {
+        return band;
+    }
+
+    public void setBand(SalaryBand band) {
+        this.band = band;
+    }
+
+    public long getEmployees() {
+        return employees;
+    }
+
+    public void setEmployees(long employees) {
+        this.employees = employees;
+    }
+
+    public double getCurrentTotal() {
+        return currentTotal;
+    }
+
+    public void setCurrentTotal(double currentTotal) {
+        this.currentTotal = currentTotal;
+    }
+
+    public double getAdjustedTotal() {
+        return adjustedTotal;
+    }
+
+    public void setAdjustedTotal(double adjustedTotal) {
+        this.adjustedTotal = adjustedTotal;
+    }
+
+    public double getLargestChange() {
+        return largestChange;
+    }
+
+    public void setLargestChange(double largestChange) {
+        this.largestChange = largestChange;
+    }
+}
@@ -0,0 +1,41 @@
+package org.test.sampath_bank.dto;
+
+public class SalaryBucketDTO {
+
+    private double lowerBound;
+    private double upperBound;
+    private long count;
+
+    public SalaryBucketDTO() {
+    }
+
+    public SalaryBucketDTO(double lowerBound, double upperBound, long count) {
+        this.lowerBound = lowerBound;
+        this.upperBound = upperBound;
+        this.count = count;
+    }
+
+    public double getLowerBound() {
+        return lowerBound;
+    }
+
+    public void setLowerBound(double lowerBound) {
+        this.lowerBound = lowerBound;
+    }
+
+    public double getUpperBound() {
+        return upperBound;
+    }
+
+    public void setUpperBound(double upperBound) {
+        this.upperBound = upperBound;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public void setCount(long count) {
+        this.count = count;
+    }
+}
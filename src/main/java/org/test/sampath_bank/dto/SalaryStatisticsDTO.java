@@ -0,0 +1,71 @@
+package org.test.sampath_bank.dto;
+
+import java.util.List;
+import java.util.Map;
+
+public class SalaryStatisticsDTO {
+
+    private long count;
+    private double sum;
+    private Float min;
+    private Float max;
+    private Double average;
+    private Map<String, Double> percentiles;
+    private List<SalaryBucketDTO> buckets;
+
+    public long getCount() {
+        return count;
+    }
+
+    public void setCount(long count) {
+        this.count = count;
+    }
+
+    public double getSum() {
+        return sum;
+    }
+
+    public void setSum(double sum) {
+        this.sum = sum;
+    }
+
+    public Float getMin() {
+        return min;
+    }
+
+    public void setMin(Float min) {
+        this.min = min;
+    }
+
+    public Float getMax() {
+        return max;
+    }
+
+    public void setMax(Float max) {
+        this.max = max;
+    }
+
+    public Double getAverage() {
+        return average;
+    }
+
+    public void setAverage(Double average) {
+        this.average = average;
+    }
+
+    public Map<String, Double> getPercentiles() {
+        return percentiles;
+    }
+
+    public void setPercentiles(Map<String, Double> percentiles) {
+        this.percentiles = percentiles;
+    }
+
+    public List<SalaryBucketDTO> getBuckets() {
+        return buckets;
+    }
+
+    public void setBuckets(List<SalaryBucketDTO> buckets) {
+        this.buckets = buckets;
+    }
+}
@@ -0,0 +1,68 @@
+package org.test.sampath_bank.dto;
+
+public class WriteQueueStatusDTO {
+
+    private int pending;
+    private int capacity;
+    private long accepted;
+    private long coalesced;
+    private long written;
+    private long failed;
+    private long rejected;
+
+    public int getPending() {
+        return pending;
+    }
+
+    public void setPending(int pending) {
+        this.pending = pending;
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public void setCapacity(int capacity) {
+        this.capacity = capacity;
+    }
+
+    public long getAccepted() {
+        return accepted;
+    }
+
+    public void setAccepted(long accepted) {
+        this.accepted = accepted;
+    }
+
+    public long getCoalesced() {
+        return coalesced;
+    }
+
+    public void setCoalesced(long coalesced) {
+        this.coalesced = coalesced;
+    }
+
+    public long getWritten() {
+        return written;
+    }
+
+    public void setWritten(long written) {
+        this.written = written;
+    }
+
+    public long getFailed() {
+        return failed;
+    }
+
+    public void setFailed(long failed) {
+        this.failed = failed;
+    }
+
+    public long getRejected() {
+        return rejected;
+    }
+
+    public void setRejected(long rejected) {
+        this.rejected = rejected;
+    }
+}
@@ -0,0 +1,77 @@
+package org.test.sampath_bank.dto;
+
+import java.time.Instant;
+
+public class WriteStatusDTO {
+
+    public enum Operation { CREATE, UPDATE }
+
+    public enum State { QUEUED, WRITTEN, FAILED }
+
+    private String trackingId;
+    private Operation operation;
+    private State state;
+    private Long employeeId;
+    private String message;
+    private Instant updatedAt;
+
+    public WriteStatusDTO() {
+    }
+
+    public WriteStatusDTO(String trackingId, Operation operation, State state, Long employeeId, String message) {
+        this.trackingId = trackingId;
+        this.operation = operation;
+        this.state = state;
+        this.employeeId = employeeId;
+        this.message = message;
+        this.updatedAt = Instant.now();
+    }
+
+    public String getTrackingId() {
+        return trackingId;
+    }
+
+    public void setTrackingId(String trackingId) {
+        this.trackingId = trackingId;
+    }
+
+    public Operation getOperation() {
+        return operation;
+    }
+
+    public void setOperation(Operation operation) {
+        this.operation = operation;
+    }
+
+    public State getState() {
+        return state;
+    }
+
+    public void setState(State state) {
+        this.state = state;
+    }
+
+    public Long getEmployeeId() {
+        return employeeId;
+    }
+
+    public void setEmployeeId(Long employeeId) {
+        this.employeeId = employeeId;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    public void setMessage(String message) {
+        this.message = message;
+    }
+
+    public Instant getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(Instant updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+}
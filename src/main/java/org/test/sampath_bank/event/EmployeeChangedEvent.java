@@ -0,0 +1,18 @@
+package org.test.sampath_bank.event;
+
+import org.test.sampath_bank.dto.EmployeeDTO;
+
+/**
+ * Published by the {@code EmployeeService} implementations for every committed write
+ * path. The event is raised inside the write transaction when there is one, so
+ * listeners can choose between joining it and running after commit. {@code employee}
+ * is the state after the change and is {@code null} for deletions.
+ */
+public record EmployeeChangedEvent(ChangeType type, Long id, EmployeeDTO employee) {
+
+    public enum ChangeType {
+        CREATED,
+        UPDATED,
+        DELETED
+    }
+}
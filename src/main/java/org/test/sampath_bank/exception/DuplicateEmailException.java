@@ -0,0 +1,26 @@
+package org.test.sampath_bank.exception;
+
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.test.sampath_bank.model.Employee;
+
+import java.util.Locale;
+
+@ResponseStatus(HttpStatus.CONFLICT)
+public class DuplicateEmailException extends RuntimeException {
+
+    public DuplicateEmailException(String message, Throwable cause) {
+        super(message, cause);
+    }
+
+    /**
+     * Whether the violation is the unique email index. MySQL and H2 both name the
+     * violated key in the driver message; any other constraint is not a duplicate email.
+     */
+    public static boolean isDuplicateEmail(DataIntegrityViolationException ex) {
+        String message = NestedExceptionUtils.getMostSpecificCause(ex).getMessage();
+        return message != null && message.toLowerCase(Locale.ROOT).contains(Employee.EMAIL_INDEX);
+    }
+}
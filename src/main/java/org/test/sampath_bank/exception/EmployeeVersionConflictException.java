@@ -0,0 +1,12 @@
+package org.test.sampath_bank.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.CONFLICT)
+public class EmployeeVersionConflictException extends RuntimeException {
+
+    public EmployeeVersionConflictException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,12 @@
+package org.test.sampath_bank.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.NOT_IMPLEMENTED)
+public class NotShardedException extends UnsupportedOperationException {
+
+    public NotShardedException(String message) {
+        super(message);
+    }
+}
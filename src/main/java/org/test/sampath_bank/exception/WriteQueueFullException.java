@@ -0,0 +1,8 @@
+package org.test.sampath_bank.exception;
+
+public class WriteQueueFullException extends RuntimeException {
+
+    public WriteQueueFullException(String message) {
+        super(message);
+    }
+}
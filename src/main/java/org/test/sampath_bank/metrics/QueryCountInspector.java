@@ -0,0 +1,26 @@
+package org.test.sampath_bank.metrics;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Counts the SQL statements Hibernate prepares on the current thread. The count is
+ * reset and read by {@link QueryCountInterceptor} around each HTTP request.
+ */
+public class QueryCountInspector implements StatementInspector {
+
+    private final ThreadLocal<int[]> count = ThreadLocal.withInitial(() -> new int[1]);
+
+    @Override
+    public String inspect(String sql) {
+        count.get()[0]++;
+        return sql;
+    }
+
+    public void reset() {
+        count.get()[0] = 0;
+    }
+
+    public int current() {
+        return count.get()[0];
+    }
+}
@@ -0,0 +1,44 @@
+package org.test.sampath_bank.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * Records how many SQL statements each request issued, tagged with the same
+ * method/uri pair as {@code http.server.requests} so the two can be lined up.
+ */
+public class QueryCountInterceptor implements HandlerInterceptor {
+
+    public static final String METRIC_NAME = "employee.db.queries";
+
+    private final QueryCountInspector queryCountInspector;
+    private final MeterRegistry meterRegistry;
+
+    public QueryCountInterceptor(QueryCountInspector queryCountInspector, MeterRegistry meterRegistry) {
+        this.queryCountInspector = queryCountInspector;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        queryCountInspector.reset();
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        DistributionSummary.builder(METRIC_NAME)
+                .description("SQL statements executed per HTTP request")
+                .baseUnit("statements")
+                .tag("method", request.getMethod())
+                .tag("uri", pattern != null ? pattern.toString() : "UNKNOWN")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry)
+                .record(queryCountInspector.current());
+    }
+}
@@ -1,15 +1,40 @@
 package org.test.sampath_bank.model;
 
+import jakarta.persistence.Cacheable;
+import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import jakarta.persistence.Version;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.time.Instant;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = Employee.CACHE_REGION)
+@Table(indexes = {
+    @Index(name = "idx_employee_first_name_id", columnList = "first_name, id"),
+    @Index(name = "idx_employee_last_name_id", columnList = "last_name, id"),
+    @Index(name = Employee.EMAIL_INDEX, columnList = "email", unique = true),
+    @Index(name = "idx_employee_salary_id", columnList = "salary, id")
+})
 public class Employee {
 
+    public static final String CACHE_REGION = "employee";
+
+    public static final String EMAIL_INDEX = "ux_employee_email";
+
+    // Seeded past existing AUTO_INCREMENT ids by EmployeeIdSequenceInitializer.
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "employee_seq")
+    @SequenceGenerator(name = "employee_seq", sequenceName = "employee_seq", allocationSize = 50)
     private Long id;
 
     private String firstName;
@@ -17,6 +42,13 @@ public class Employee {
     private String email;
     private Float salary;
 
+    @Version
+    @Column(nullable = false)
+    private Long version;
+
+    @UpdateTimestamp
+    private Instant updatedAt;
+
     public Long getId() {
         return id;
     }
@@ -56,4 +88,20 @@ public class Employee {
     public void setSalary(Float salary) {
         this.salary = salary;
     }
+
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+
+    public Instant getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(Instant updatedAt) {
+        this.updatedAt = updatedAt;
+    }
 }
@@ -0,0 +1,107 @@
+package org.test.sampath_bank.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
+import org.springframework.data.domain.Persistable;
+import org.test.sampath_bank.event.EmployeeChangedEvent.ChangeType;
+
+import java.time.Instant;
+
+/**
+ * Outbox row for the employee change feed, written in the same transaction as the
+ * change it records. {@code payload} is the employee as JSON after the change and is
+ * {@code null} for deletions. The sequence is assigned by {@code EmployeeChangeSequence}
+ * in commit order rather than generated.
+ */
+@Entity
+@Table(indexes = {
+    @Index(name = "idx_employee_change_employee_seq", columnList = "employee_id, seq"),
+    @Index(name = "idx_employee_change_changed_at", columnList = "changed_at")
+})
+public class EmployeeChange implements Persistable<Long> {
+
+    @Id
+    @Column(name = "seq")
+    private Long sequence;
+
+    @Column(nullable = false)
+    private Long employeeId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    private ChangeType changeType;
+
+    @Column(length = 2048)
+    private String payload;
+
+    @Column(nullable = false)
+    private Instant changedAt;
+
+    // The id is assigned, so save() needs this to persist rather than merge (select first).
+    @Transient
+    private boolean isNew = true;
+
+    @Override
+    public Long getId() {
+        return sequence;
+    }
+
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        isNew = false;
+    }
+
+    public Long getSequence() {
+        return sequence;
+    }
+
+    public void setSequence(Long sequence) {
+        this.sequence = sequence;
+    }
+
+    public Long getEmployeeId() {
+        return employeeId;
+    }
+
+    public void setEmployeeId(Long employeeId) {
+        this.employeeId = employeeId;
+    }
+
+    public ChangeType getChangeType() {
+        return changeType;
+    }
+
+    public void setChangeType(ChangeType changeType) {
+        this.changeType = changeType;
+    }
+
+    public String getPayload() {
+        return payload;
+    }
+
+    public void setPayload(String payload) {
+        this.payload = payload;
+    }
+
+    public Instant getChangedAt() {
+        return changedAt;
+    }
+
+    public void setChangedAt(Instant changedAt) {
+        this.changedAt = changedAt;
+    }
+}
@@ -0,0 +1,35 @@
+package org.test.sampath_bank.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+/**
+ * The single row holding the next change feed sequence number. Only declared so the
+ * schema is generated; it is read and written by {@code EmployeeChangeSequence}.
+ */
+@Entity
+public class EmployeeChangeCounter {
+
+    @Id
+    private Long id;
+
+    @Column(nullable = false)
+    private Long nextVal;
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Long getNextVal() {
+        return nextVal;
+    }
+
+    public void setNextVal(Long nextVal) {
+        this.nextVal = nextVal;
+    }
+}
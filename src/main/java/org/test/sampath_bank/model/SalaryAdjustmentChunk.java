@@ -0,0 +1,87 @@
+package org.test.sampath_bank.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+
+import java.io.Serializable;
+import java.time.Instant;
+import java.util.Objects;
+
+/**
+ * Marks one id range of a {@link SalaryAdjustmentJob} as done. It is inserted in the
+ * transaction that updates the range, so the primary key doubles as a claim: a range
+ * is adjusted exactly once, however often the job is resumed.
+ */
+@Entity
+@IdClass(SalaryAdjustmentChunk.Key.class)
+public class SalaryAdjustmentChunk {
+
+    @Id
+    private Long jobId;
+
+    @Id
+    private Long rangeStart;
+
+    private int rowsUpdated;
+
+    @Column(nullable = false)
+    private Instant completedAt;
+
+    public Long getJobId() {
+        return jobId;
+    }
+
+    public void setJobId(Long jobId) {
+        this.jobId = jobId;
+    }
+
+    public Long getRangeStart() {
+        return rangeStart;
+    }
+
+    public void setRangeStart(Long rangeStart) {
+        this.rangeStart = rangeStart;
+    }
+
+    public int getRowsUpdated() {
+        return rowsUpdated;
+    }
+
+    public void setRowsUpdated(int rowsUpdated) {
+        this.rowsUpdated = rowsUpdated;
+    }
+
+    public Instant getCompletedAt() {
+        return completedAt;
+    }
+
+    public void setCompletedAt(Instant completedAt) {
+        this.completedAt = completedAt;
+    }
+
+    public static class Key implements Serializable {
+
+        private Long jobId;
+        private Long rangeStart;
+
+        public Key() {
+        }
+
+        public Key(Long jobId, Long rangeStart) {
+            this.jobId = jobId;
+            this.rangeStart = rangeStart;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof Key key && Objects.equals(jobId, key.jobId) && Objects.equals(rangeStart, key.rangeStart);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(jobId, rangeStart);
+        }
+    }
+}
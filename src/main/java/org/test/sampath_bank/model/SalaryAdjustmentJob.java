@@ -0,0 +1,142 @@
+package org.test.sampath_bank.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
+
+import java.time.Instant;
+
+/**
+ * A bulk salary adjustment. The employee ids {@code [firstId, lastId]} present when the
+ * job was created are split into {@code totalChunks} ranges of {@code chunkSize} ids;
+ * each finished range is recorded as a {@link SalaryAdjustmentChunk}. {@code rules} is
+ * the request as JSON.
+ */
+@Entity
+public class SalaryAdjustmentJob {
+
+    public enum State {
+        RUNNING,
+        COMPLETED,
+        FAILED
+    }
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "salary_adjustment_job_seq")
+    @SequenceGenerator(name = "salary_adjustment_job_seq", sequenceName = "salary_adjustment_job_seq", allocationSize = 1)
+    private Long id;
+
+    @Column(nullable = false, length = 4096)
+    private String rules;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    private State state;
+
+    private long firstId;
+    private long lastId;
+    private int chunkSize;
+    private long totalChunks;
+
+    @Column(nullable = false)
+    private Instant createdAt;
+
+    private Instant startedAt;
+    private Instant finishedAt;
+
+    @Column(length = 1024)
+    private String failure;
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getRules() {
+        return rules;
+    }
+
+    public void setRules(String rules) {
+        this.rules = rules;
+    }
+
+    public State getState() {
+        return state;
+    }
+
+    public void setState(State state) {
+        this.state = state;
+    }
+
+    public long getFirstId() {
+        return firstId;
+    }
+
+    public void setFirstId(long firstId) {
+        this.firstId = firstId;
+    }
+
+    public long getLastId() {
+        return lastId;
+    }
+
+    public void setLastId(long lastId) {
+        this.lastId = lastId;
+    }
+
+    public int getChunkSize() {
+        return chunkSize;
+    }
+
+    public void setChunkSize(int chunkSize) {
+        this.chunkSize = chunkSize;
+    }
+
+    public long getTotalChunks() {
+        return totalChunks;
+    }
+
+    public void setTotalChunks(long totalChunks) {
+        this.totalChunks = totalChunks;
+    }
+
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(Instant createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    public Instant getStartedAt() {
+        return startedAt;
+    }
+
+    public void setStartedAt(Instant startedAt) {
+        this.startedAt = startedAt;
+    }
+
+    public Instant getFinishedAt() {
+        return finishedAt;
+    }
+
+    public void setFinishedAt(Instant finishedAt) {
+        this.finishedAt = finishedAt;
+    }
+
+    public String getFailure() {
+        return failure;
+    }
+
+    public void setFailure(String failure) {
+        this.failure = failure;
+    }
+}
@@ -0,0 +1,36 @@
+package org.test.sampath_bank.repository;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+import org.test.sampath_bank.model.EmployeeChange;
+
+import java.time.Instant;
+import java.util.List;
+
+public interface EmployeeChangeRepository extends JpaRepository<EmployeeChange, Long> {
+
+    List<EmployeeChange> findBySequenceGreaterThanOrderBySequence(long after, Limit limit);
+
+    @Query("select min(c.sequence) from EmployeeChange c")
+    Long findMinSequence();
+
+    @Query("select max(c.sequence) from EmployeeChange c")
+    Long findMaxSequence();
+
+    @Query("select max(c.sequence) from EmployeeChange c where c.changedAt < :cutoff")
+    Long findMaxSequenceChangedBefore(@Param("cutoff") Instant cutoff);
+
+    /** Changes in the range that a later change to the same employee makes redundant. */
+    @Query("select c.sequence from EmployeeChange c where c.sequence > :from and c.sequence <= :to "
+            + "and exists (select n.sequence from EmployeeChange n where n.employeeId = c.employeeId and n.sequence > c.sequence)")
+    List<Long> findSupersededSequences(@Param("from") long from, @Param("to") long to);
+
+    @Transactional
+    @Modifying
+    @Query("delete from EmployeeChange c where c.sequence > :from and c.sequence <= :to")
+    int deleteSequenceRange(@Param("from") long from, @Param("to") long to);
+}
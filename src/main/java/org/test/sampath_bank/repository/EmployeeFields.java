@@ -0,0 +1,62 @@
+package org.test.sampath_bank.repository;
+
+import org.springframework.data.domain.Sort;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Whitelist of employee attributes that may be selected or sorted on by name.
+ * Anything that ends up in a dynamically built JPQL string must pass through here.
+ */
+public final class EmployeeFields {
+
+    public static final List<String> ALL = List.of("id", "firstName", "lastName", "email", "salary", "version", "updatedAt");
+
+    private EmployeeFields() {
+    }
+
+    /** Parses a sparse fieldset such as {@code "id,email"}; {@code id} is always included. */
+    public static List<String> parse(String fields) {
+        List<String> selected = new ArrayList<>();
+        selected.add("id");
+        for (String field : fields.split(",")) {
+            String name = field.trim();
+            if (name.isEmpty() || selected.contains(name)) {
+                continue;
+            }
+            require(name);
+            selected.add(name);
+        }
+        return selected;
+    }
+
+    static void require(String field) {
+        if (!ALL.contains(field)) {
+            throw new IllegalArgumentException("Unknown employee field: " + field);
+        }
+    }
+
+    static String select(List<String> fields, String alias) {
+        StringBuilder select = new StringBuilder();
+        for (String field : fields) {
+            require(field);
+            if (select.length() > 0) {
+                select.append(", ");
+            }
+            select.append(alias).append('.').append(field).append(" as ").append(field);
+        }
+        return select.toString();
+    }
+
+    static String orderBy(Sort sort, String alias) {
+        StringBuilder orderBy = new StringBuilder();
+        for (Sort.Order order : sort) {
+            require(order.getProperty());
+            orderBy.append(orderBy.length() == 0 ? " order by " : ", ")
+                    .append(alias).append('.').append(order.getProperty())
+                    .append(order.isAscending() ? " asc" : " desc");
+        }
+        return orderBy.toString();
+    }
+}
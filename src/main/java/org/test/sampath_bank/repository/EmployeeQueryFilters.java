@@ -0,0 +1,66 @@
+package org.test.sampath_bank.repository;
+
+import jakarta.persistence.Query;
+import org.test.sampath_bank.dto.EmployeeFilter;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Builds the JPQL where-clause for an {@link EmployeeFilter}, adding a predicate only
+ * for the filters that are set so the database can pick the matching index.
+ */
+final class EmployeeQueryFilters {
+
+    private final StringBuilder where = new StringBuilder();
+    private final Map<String, Object> parameters = new LinkedHashMap<>();
+
+    EmployeeQueryFilters(EmployeeFilter filter, String alias) {
+        if (filter.firstNamePrefix() != null) {
+            and(alias + ".firstName like :firstNamePrefix escape '!'", "firstNamePrefix", escapeLike(filter.firstNamePrefix()) + "%");
+        }
+        if (filter.lastNamePrefix() != null) {
+            and(alias + ".lastName like :lastNamePrefix escape '!'", "lastNamePrefix", escapeLike(filter.lastNamePrefix()) + "%");
+        }
+        if (filter.email() != null) {
+            and(alias + ".email = :email", "email", filter.email());
+        }
+        if (filter.emailDomain() != null) {
+            and(alias + ".email like :emailDomain escape '!'", "emailDomain", "%@" + escapeLike(filter.emailDomain()));
+        }
+        if (filter.minSalary() != null) {
+            and(alias + ".salary >= :minSalary", "minSalary", filter.minSalary());
+        }
+        if (filter.maxSalary() != null) {
+            and(alias + ".salary <= :maxSalary", "maxSalary", filter.maxSalary());
+        }
+    }
+
+    /** The where-clause including the leading {@code where}, or an empty string. */
+    String where() {
+        return where.length() == 0 ? "" : " where " + where;
+    }
+
+    <Q extends Query> Q bind(Q query) {
+        parameters.forEach(query::setParameter);
+        return query;
+    }
+
+    /** Adds a fixed predicate that takes no parameter. */
+    EmployeeQueryFilters and(String predicate) {
+        if (where.length() > 0) {
+            where.append(" and ");
+        }
+        where.append(predicate);
+        return this;
+    }
+
+    private void and(String predicate, String name, Object value) {
+        and(predicate);
+        parameters.put(name, value);
+    }
+
+    private static String escapeLike(String value) {
+        return value.replace("!", "!!").replace("%", "!%").replace("_", "!_");
+    }
+}
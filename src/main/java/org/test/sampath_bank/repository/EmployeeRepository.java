@@ -1,9 +1,89 @@
 package org.test.sampath_bank.repository;
 
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+import org.test.sampath_bank.dto.EmployeeDTO;
+import org.test.sampath_bank.dto.EmployeeVersionDTO;
 import org.test.sampath_bank.model.Employee;
 
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_CACHEABLE;
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.HibernateHints.HINT_READ_ONLY;
+
 @Repository
-public interface EmployeeRepository extends JpaRepository<Employee, Long> {
+public interface EmployeeRepository extends JpaRepository<Employee, Long>, EmployeeRepositoryCustom {
+
+    /**
+     * Page and count results are query-cached; any write to the employee table invalidates
+     * them. The hint has no effect when replica routing is on, which turns the query cache off.
+     */
+    @QueryHints(@QueryHint(name = HINT_CACHEABLE, value = "true"))
+    @Query(value = "select new org.test.sampath_bank.dto.EmployeeDTO("
+            + "e.id, e.firstName, e.lastName, e.email, e.salary, e.version, e.updatedAt) from Employee e",
+            countQuery = "select count(e) from Employee e")
+    Page<EmployeeDTO> findAllProjectedBy(Pageable pageable);
+
+    Window<Employee> findAllBy(ScrollPosition position, Sort sort, Limit limit);
+
+    /**
+     * Forward-only cursor over the whole table in id order. A fetch size of
+     * {@code Integer.MIN_VALUE} makes MySQL Connector/J stream rows one at a time
+     * instead of buffering the result set. Must be consumed inside a transaction
+     * and closed by the caller.
+     */
+    @QueryHints({
+        @QueryHint(name = HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE),
+        @QueryHint(name = HINT_READ_ONLY, value = "true"),
+        @QueryHint(name = HINT_CACHEABLE, value = "false")
+    })
+    @Query("select e from Employee e order by e.id")
+    Stream<Employee> streamAllByOrderById();
+
+    @Query("select new org.test.sampath_bank.dto.EmployeeDTO("
+            + "e.id, e.firstName, e.lastName, e.email, e.salary, e.version, e.updatedAt) from Employee e where e.id in :ids")
+    List<EmployeeDTO> findProjectedByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query("select new org.test.sampath_bank.dto.EmployeeVersionDTO(e.version, e.updatedAt) "
+            + "from Employee e where e.id = :id")
+    Optional<EmployeeVersionDTO> findVersionById(@Param("id") Long id);
+
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("update Employee e set e.firstName = :firstName, e.lastName = :lastName, e.email = :email, "
+            + "e.salary = :salary, e.version = e.version + 1, e.updatedAt = :updatedAt where e.id = :id")
+    int updateById(@Param("id") Long id, @Param("firstName") String firstName, @Param("lastName") String lastName,
+                   @Param("email") String email, @Param("salary") Float salary, @Param("updatedAt") Instant updatedAt);
+
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("update Employee e set e.firstName = :firstName, e.lastName = :lastName, e.email = :email, "
+            + "e.salary = :salary, e.version = e.version + 1, e.updatedAt = :updatedAt "
+            + "where e.id = :id and e.version = :version")
+    int updateByIdAndVersion(@Param("id") Long id, @Param("version") Long version,
+                             @Param("firstName") String firstName, @Param("lastName") String lastName,
+                             @Param("email") String email, @Param("salary") Float salary,
+                             @Param("updatedAt") Instant updatedAt);
+
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("delete from Employee e where e.id = :id")
+    int deleteEmployeeById(@Param("id") Long id);
 }
@@ -0,0 +1,37 @@
+package org.test.sampath_bank.repository;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.test.sampath_bank.dto.EmployeeDTO;
+import org.test.sampath_bank.dto.EmployeeFilter;
+
+import java.util.List;
+import java.util.Map;
+
+public interface EmployeeRepositoryCustom {
+
+    /**
+     * Employees matching the filter, ordered by the most selective indexed filter
+     * (email, then last name, first name, salary) and id, so the index that drives
+     * the lookup also provides the order.
+     */
+    Slice<EmployeeDTO> search(EmployeeFilter filter, int page, int size);
+
+    /** Same as {@link #search(EmployeeFilter, int, int)} but selects only the given {@link EmployeeFields}. */
+    Slice<Map<String, Object>> search(EmployeeFilter filter, List<String> fields, int page, int size);
+
+    /** A page of rows holding only the given {@link EmployeeFields}, keyed by field name. */
+    Page<Map<String, Object>> findAllFields(List<String> fields, Pageable pageable);
+
+    SalaryTotals salaryTotals(EmployeeFilter filter);
+
+    /** Row counts per salary bucket, where bucket {@code n} covers {@code [n * width, (n + 1) * width)}. */
+    List<SalaryBucketCount> salaryHistogram(EmployeeFilter filter, float bucketWidth);
+
+    record SalaryTotals(long count, double sum, Float min, Float max) {
+    }
+
+    record SalaryBucketCount(long bucket, long count) {
+    }
+}
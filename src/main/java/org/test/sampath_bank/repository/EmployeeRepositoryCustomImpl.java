@@ -0,0 +1,117 @@
+package org.test.sampath_bank.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.test.sampath_bank.dto.EmployeeDTO;
+import org.test.sampath_bank.dto.EmployeeFilter;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+public class EmployeeRepositoryCustomImpl implements EmployeeRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private static final String DTO_SELECT = "new org.test.sampath_bank.dto.EmployeeDTO("
+            + "e.id, e.firstName, e.lastName, e.email, e.salary, e.version, e.updatedAt)";
+
+    @Override
+    public Slice<EmployeeDTO> search(EmployeeFilter filter, int page, int size) {
+        EmployeeQueryFilters filters = new EmployeeQueryFilters(filter, "e");
+        TypedQuery<EmployeeDTO> query = filters.bind(entityManager.createQuery(
+                "select " + DTO_SELECT + " from Employee e" + filters.where() + " order by " + searchOrder(filter, "e"),
+                EmployeeDTO.class));
+        return slice(query, page, size);
+    }
+
+    @Override
+    public Slice<Map<String, Object>> search(EmployeeFilter filter, List<String> fields, int page, int size) {
+        EmployeeQueryFilters filters = new EmployeeQueryFilters(filter, "e");
+        TypedQuery<Tuple> query = filters.bind(entityManager.createQuery(
+                "select " + EmployeeFields.select(fields, "e") + " from Employee e" + filters.where()
+                        + " order by " + searchOrder(filter, "e"),
+                Tuple.class));
+        return slice(query, page, size).map(tuple -> toMap(tuple, fields));
+    }
+
+    @Override
+    public Page<Map<String, Object>> findAllFields(List<String> fields, Pageable pageable) {
+        List<Tuple> rows = entityManager.createQuery(
+                        "select " + EmployeeFields.select(fields, "e") + " from Employee e"
+                                + EmployeeFields.orderBy(pageable.getSort(), "e"),
+                        Tuple.class)
+                .setFirstResult((int) pageable.getOffset())
+                .setMaxResults(pageable.getPageSize())
+                .getResultList();
+        long total = entityManager.createQuery("select count(e) from Employee e", Long.class).getSingleResult();
+        return new PageImpl<>(rows.stream().map(tuple -> toMap(tuple, fields)).toList(), pageable, total);
+    }
+
+    private static <T> Slice<T> slice(TypedQuery<T> query, int page, int size) {
+        List<T> rows = query
+                .setFirstResult(page * size)
+                .setMaxResults(size + 1)
+                .getResultList();
+        boolean hasNext = rows.size() > size;
+        return new SliceImpl<>(hasNext ? rows.subList(0, size) : rows, PageRequest.of(page, size), hasNext);
+    }
+
+    private static Map<String, Object> toMap(Tuple tuple, List<String> fields) {
+        Map<String, Object> row = new LinkedHashMap<>(fields.size() * 2);
+        for (String field : fields) {
+            row.put(field, tuple.get(field));
+        }
+        return row;
+    }
+
+    private static String searchOrder(EmployeeFilter filter, String alias) {
+        if (filter.email() != null) {
+            return alias + ".id";
+        }
+        if (filter.lastNamePrefix() != null) {
+            return alias + ".lastName, " + alias + ".id";
+        }
+        if (filter.firstNamePrefix() != null) {
+            return alias + ".firstName, " + alias + ".id";
+        }
+        return alias + ".salary, " + alias + ".id";
+    }
+
+    @Override
+    public SalaryTotals salaryTotals(EmployeeFilter filter) {
+        EmployeeQueryFilters filters = new EmployeeQueryFilters(filter, "e");
+        Object[] row = filters.bind(entityManager.createQuery(
+                "select count(e), sum(e.salary), min(e.salary), max(e.salary) from Employee e" + filters.where(),
+                Object[].class)).getSingleResult();
+        return new SalaryTotals(
+                ((Number) row[0]).longValue(),
+                row[1] == null ? 0 : ((Number) row[1]).doubleValue(),
+                row[2] == null ? null : ((Number) row[2]).floatValue(),
+                row[3] == null ? null : ((Number) row[3]).floatValue());
+    }
+
+    @Override
+    public List<SalaryBucketCount> salaryHistogram(EmployeeFilter filter, float bucketWidth) {
+        EmployeeQueryFilters filters = new EmployeeQueryFilters(filter, "e").and("e.salary is not null");
+        // The width is inlined rather than bound: MySQL's ONLY_FULL_GROUP_BY treats two
+        // separate placeholders in SELECT and GROUP BY as different expressions.
+        String bucket = "floor(e.salary / " + Float.toString(bucketWidth) + ")";
+        List<Object[]> rows = filters.bind(entityManager.createQuery(
+                "select " + bucket + ", count(e) from Employee e" + filters.where()
+                        + " group by " + bucket + " order by " + bucket,
+                Object[].class)).getResultList();
+        return rows.stream()
+                .map(row -> new SalaryBucketCount(((Number) row[0]).longValue(), ((Number) row[1]).longValue()))
+                .toList();
+    }
+}
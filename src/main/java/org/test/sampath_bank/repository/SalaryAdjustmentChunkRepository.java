@@ -0,0 +1,21 @@
+package org.test.sampath_bank.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.test.sampath_bank.model.SalaryAdjustmentChunk;
+
+import java.time.Instant;
+import java.util.Set;
+
+public interface SalaryAdjustmentChunkRepository extends JpaRepository<SalaryAdjustmentChunk, SalaryAdjustmentChunk.Key> {
+
+    long countByJobId(Long jobId);
+
+    @Query("select c.rangeStart from SalaryAdjustmentChunk c where c.jobId = :jobId")
+    Set<Long> findRangeStarts(@Param("jobId") Long jobId);
+
+    @Query("select coalesce(sum(c.rowsUpdated), 0) from SalaryAdjustmentChunk c "
+            + "where c.jobId = :jobId and c.completedAt >= :since")
+    long sumRowsUpdated(@Param("jobId") Long jobId, @Param("since") Instant since);
+}
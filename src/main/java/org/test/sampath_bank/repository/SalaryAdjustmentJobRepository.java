@@ -0,0 +1,7 @@
+package org.test.sampath_bank.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.test.sampath_bank.model.SalaryAdjustmentJob;
+
+public interface SalaryAdjustmentJobRepository extends JpaRepository<SalaryAdjustmentJob, Long> {
+}
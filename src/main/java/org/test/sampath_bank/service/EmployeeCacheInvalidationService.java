@@ -0,0 +1,106 @@
+package org.test.sampath_bank.service;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.test.sampath_bank.config.CacheConfig;
+import org.test.sampath_bank.dto.EmployeeChangeDTO;
+import org.test.sampath_bank.dto.EmployeeChangeFeedDTO;
+import org.test.sampath_bank.event.EmployeeChangedEvent;
+import org.test.sampath_bank.model.Employee;
+import org.test.sampath_bank.repository.EmployeeChangeRepository;
+
+import java.time.Duration;
+
+/**
+ * Keeps the employee caches of every instance coherent. Hibernate only invalidates its
+ * second-level and query caches for writes it performs itself, in its own JVM; this
+ * service covers the rest.
+ * <ul>
+ *   <li>Local writes, including the JDBC batch updates Hibernate never sees, are evicted
+ *   from the second-level cache as soon as they commit.</li>
+ *   <li>Writes made by other instances are read from the change feed outbox, which every
+ *   instance shares through the database, and evicted from both the second-level cache
+ *   and the service-level {@code employees} cache.</li>
+ * </ul>
+ * The outbox is polled every {@code employee.cache.cluster-invalidation.poll-interval}, so
+ * another instance's write can be served stale for about that long. Region expiry in
+ * {@code application.conf} bounds the rare case of a load racing with an eviction.
+ */
+@Service
+@ConditionalOnProperty(name = "employee.cache.cluster-invalidation.enabled", havingValue = "true", matchIfMissing = true)
+public class EmployeeCacheInvalidationService {
+
+    private static final Logger log = LoggerFactory.getLogger(EmployeeCacheInvalidationService.class);
+
+    private static final int POLL_LIMIT = 1000;
+
+    private final EmployeeChangeFeedService changeFeedService;
+    private final EmployeeChangeRepository changeRepository;
+    private final EntityManagerFactory entityManagerFactory;
+    private final CacheManager cacheManager;
+
+    private volatile Long cursor;
+
+    public EmployeeCacheInvalidationService(EmployeeChangeFeedService changeFeedService,
+                                            EmployeeChangeRepository changeRepository,
+                                            EntityManagerFactory entityManagerFactory,
+                                            CacheManager cacheManager) {
+        this.changeFeedService = changeFeedService;
+        this.changeRepository = changeRepository;
+        this.entityManagerFactory = entityManagerFactory;
+        this.cacheManager = cacheManager;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onEmployeeChanged(EmployeeChangedEvent event) {
+        evictSecondLevel(event.id());
+        evictQueryResults();
+    }
+
+    @Scheduled(fixedDelayString = "${employee.cache.cluster-invalidation.poll-interval:500ms}")
+    public void pollChanges() {
+        if (cursor == null) {
+            // Nothing is cached from before startup, so history need not be replayed.
+            Long last = changeRepository.findMaxSequence();
+            cursor = last == null ? 0L : last;
+            return;
+        }
+        try {
+            EmployeeChangeFeedDTO feed;
+            do {
+                feed = changeFeedService.getChanges(cursor, POLL_LIMIT, Duration.ZERO).join();
+                for (EmployeeChangeDTO change : feed.getChanges()) {
+                    evictSecondLevel(change.getEmployeeId());
+                    Cache employees = cacheManager.getCache(CacheConfig.EMPLOYEES_CACHE);
+                    if (employees != null) {
+                        employees.evict(change.getEmployeeId());
+                    }
+                }
+                if (!feed.getChanges().isEmpty()) {
+                    evictQueryResults();
+                }
+                cursor = feed.getLastSequence();
+            } while (feed.getChanges().size() == POLL_LIMIT);
+        } catch (RuntimeException ex) {
+            // The cursor has not moved past anything unapplied; the next poll retries.
+            log.warn("Polling the change feed for cache invalidation failed", ex);
+        }
+    }
+
+    private void evictSecondLevel(Long id) {
+        entityManagerFactory.unwrap(SessionFactory.class).getCache().evictEntityData(Employee.class, id);
+    }
+
+    private void evictQueryResults() {
+        entityManagerFactory.unwrap(SessionFactory.class).getCache().evictDefaultQueryRegion();
+    }
+}
@@ -0,0 +1,188 @@
+package org.test.sampath_bank.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.test.sampath_bank.dto.EmployeeChangeDTO;
+import org.test.sampath_bank.dto.EmployeeChangeFeedDTO;
+import org.test.sampath_bank.event.EmployeeChangedEvent;
+import org.test.sampath_bank.model.EmployeeChange;
+import org.test.sampath_bank.repository.EmployeeChangeRepository;
+
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Change feed over the employee outbox. Every {@link EmployeeChangedEvent} is written to
+ * the outbox inside the transaction that raised it, and consumers read the outbox in
+ * sequence order, optionally long-polling until something new commits.
+ * <p>
+ * Sequence numbers come from {@link EmployeeChangeSequence}, which hands them out in
+ * commit order: once a change is visible, every change with a lower number is too. A
+ * consumer can therefore always advance to the last sequence it has read without
+ * missing anything that commits later. Gaps only appear where maintenance has
+ * removed changes.
+ * <p>
+ * A scheduled job compacts the outbox to the latest change per employee once changes are
+ * older than {@code employee.changes.compact-after}, and drops everything older than
+ * {@code employee.changes.retention}. Consumers further behind than the retention period
+ * must resync from the export endpoint.
+ */
+@Service
+public class EmployeeChangeFeedService {
+
+    private static final Logger log = LoggerFactory.getLogger(EmployeeChangeFeedService.class);
+
+    private static final long MAINTENANCE_CHUNK = 10_000;
+
+    private final EmployeeChangeRepository changeRepository;
+    private final EmployeeChangeSequence changeSequence;
+    private final ObjectMapper objectMapper;
+    private final Duration compactAfter;
+    private final Duration retention;
+    private final Set<CompletableFuture<Void>> waiters = ConcurrentHashMap.newKeySet();
+    private final ExecutorService pollExecutor = Executors.newVirtualThreadPerTaskExecutor();
+
+    public EmployeeChangeFeedService(
+            EmployeeChangeRepository changeRepository,
+            EmployeeChangeSequence changeSequence,
+            ObjectMapper objectMapper,
+            @Value("${employee.changes.compact-after:1h}") Duration compactAfter,
+            @Value("${employee.changes.retention:7d}") Duration retention) {
+        this.changeRepository = changeRepository;
+        this.changeSequence = changeSequence;
+        this.objectMapper = objectMapper;
+        this.compactAfter = compactAfter;
+        this.retention = retention;
+    }
+
+    @PreDestroy
+    void shutdown() {
+        pollExecutor.shutdownNow();
+    }
+
+    @EventListener
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordChange(EmployeeChangedEvent event) {
+        EmployeeChange change = new EmployeeChange();
+        change.setSequence(changeSequence.next());
+        change.setEmployeeId(event.id());
+        change.setChangeType(event.type());
+        change.setChangedAt(Instant.now());
+        if (event.employee() != null) {
+            try {
+                change.setPayload(objectMapper.writeValueAsString(event.employee()));
+            } catch (JsonProcessingException ex) {
+                throw new UncheckedIOException(ex);
+            }
+        }
+        changeRepository.save(change);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onChangeCommitted(EmployeeChangedEvent event) {
+        for (CompletableFuture<Void> waiter : waiters) {
+            if (waiters.remove(waiter)) {
+                waiter.complete(null);
+            }
+        }
+    }
+
+    /**
+     * Returns up to {@code limit} changes after sequence {@code after}. If there are none,
+     * waits up to {@code wait} for one to commit before answering with an empty feed.
+     */
+    public CompletableFuture<EmployeeChangeFeedDTO> getChanges(long after, int limit, Duration wait) {
+        if (limit < 1) {
+            throw new IllegalArgumentException("limit must be at least 1");
+        }
+        return poll(after, limit, System.nanoTime() + wait.toNanos());
+    }
+
+    private CompletableFuture<EmployeeChangeFeedDTO> poll(long after, int limit, long deadlineNanos) {
+        // Register before reading so a commit landing in between still wakes us.
+        CompletableFuture<Void> signal = new CompletableFuture<>();
+        waiters.add(signal);
+        EmployeeChangeFeedDTO feed = read(after, limit);
+        long remainingNanos = deadlineNanos - System.nanoTime();
+        if (!feed.getChanges().isEmpty() || remainingNanos <= 0) {
+            waiters.remove(signal);
+            return CompletableFuture.completedFuture(feed);
+        }
+
+        return signal.completeOnTimeout(null, remainingNanos, TimeUnit.NANOSECONDS)
+                .thenComposeAsync(ignored -> {
+                    waiters.remove(signal);
+                    return poll(after, limit, deadlineNanos);
+                }, pollExecutor);
+    }
+
+    private EmployeeChangeFeedDTO read(long after, int limit) {
+        List<EmployeeChange> rows = changeRepository.findBySequenceGreaterThanOrderBySequence(after, Limit.of(limit));
+        List<EmployeeChangeDTO> changes = new ArrayList<>(rows.size());
+        long lastSequence = after;
+        for (EmployeeChange row : rows) {
+            changes.add(new EmployeeChangeDTO(row.getSequence(), row.getChangeType(), row.getEmployeeId(),
+                    row.getPayload(), row.getChangedAt()));
+            lastSequence = row.getSequence();
+        }
+        return new EmployeeChangeFeedDTO(changes, lastSequence);
+    }
+
+    @Scheduled(initialDelayString = "${employee.changes.maintenance-interval:5m}",
+               fixedDelayString = "${employee.changes.maintenance-interval:5m}")
+    public void compactAndExpire() {
+        Long first = changeRepository.findMinSequence();
+        if (first == null) {
+            return;
+        }
+        Instant now = Instant.now();
+        long from = first - 1;
+
+        long expired = 0;
+        Long retentionHorizon = changeRepository.findMaxSequenceChangedBefore(now.minus(retention));
+        if (retentionHorizon != null) {
+            for (long to; from < retentionHorizon; from = to) {
+                to = Math.min(from + MAINTENANCE_CHUNK, retentionHorizon);
+                expired += changeRepository.deleteSequenceRange(from, to);
+            }
+        }
+
+        long compacted = 0;
+        Long compactionHorizon = changeRepository.findMaxSequenceChangedBefore(now.minus(compactAfter));
+        if (compactionHorizon != null) {
+            for (long to; from < compactionHorizon; from = to) {
+                to = Math.min(from + MAINTENANCE_CHUNK, compactionHorizon);
+                List<Long> superseded = changeRepository.findSupersededSequences(from, to);
+                if (!superseded.isEmpty()) {
+                    changeRepository.deleteAllByIdInBatch(superseded);
+                    compacted += superseded.size();
+                }
+            }
+        }
+
+        if (expired > 0 || compacted > 0) {
+            log.info("Employee change feed maintenance: {} expired, {} compacted", expired, compacted);
+        }
+    }
+}
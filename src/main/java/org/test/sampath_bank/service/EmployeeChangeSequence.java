@@ -0,0 +1,85 @@
+package org.test.sampath_bank.service;
+
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+
+/**
+ * Hands out change feed sequence numbers in commit order. The first number a transaction
+ * takes locks the counter row, and the lock is held until that transaction ends, so no
+ * other transaction can take a number until this one has committed or rolled back. The
+ * counter is written back just before commit; a rollback leaves it unchanged. Numbers
+ * are therefore dense, and every change below a visible sequence number is already
+ * visible, so feed readers never have to wait out or skip a gap.
+ * <p>
+ * The price is that transactions writing employees commit one at a time from their
+ * first change onwards, which is why the number is taken as late as possible, from the
+ * event the write raises.
+ */
+@Component
+public class EmployeeChangeSequence {
+
+    private static final String LOCK_SQL = "select next_val from employee_change_counter where id = 1 for update";
+
+    // Seeded past any changes written before the counter existed.
+    private static final String SEED_SQL = "insert into employee_change_counter (id, next_val) "
+            + "select 1, coalesce(max(seq), 0) + 1 from employee_change";
+
+    private static final String STORE_SQL = "update employee_change_counter set next_val = ? where id = 1";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public EmployeeChangeSequence(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /** The next sequence number. Must be called inside the transaction that writes the change. */
+    public long next() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            throw new IllegalStateException("Change sequence numbers can only be taken inside a transaction");
+        }
+        Allocation allocation = (Allocation) TransactionSynchronizationManager.getResource(this);
+        if (allocation == null) {
+            allocation = new Allocation(lockCounter());
+            TransactionSynchronizationManager.bindResource(this, allocation);
+            TransactionSynchronizationManager.registerSynchronization(allocation);
+        }
+        return allocation.next++;
+    }
+
+    private long lockCounter() {
+        List<Long> next = jdbcTemplate.queryForList(LOCK_SQL, Long.class);
+        if (next.isEmpty()) {
+            try {
+                jdbcTemplate.update(SEED_SQL);
+            } catch (DuplicateKeyException ex) {
+                // Another instance seeded it first.
+            }
+            next = jdbcTemplate.queryForList(LOCK_SQL, Long.class);
+        }
+        return next.get(0);
+    }
+
+    private final class Allocation implements TransactionSynchronization {
+
+        private long next;
+
+        private Allocation(long next) {
+            this.next = next;
+        }
+
+        @Override
+        public void beforeCommit(boolean readOnly) {
+            jdbcTemplate.update(STORE_SQL, next);
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(EmployeeChangeSequence.this);
+        }
+    }
+}
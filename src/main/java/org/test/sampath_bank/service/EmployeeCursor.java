@@ -0,0 +1,92 @@
+package org.test.sampath_bank.service;
+
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.test.sampath_bank.model.Employee;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Opaque keyset cursor for the employee listing. It carries the sort field, the
+ * direction and the (sort value, id) of the last row served, so the next page can
+ * be read with a seek predicate instead of an OFFSET.
+ */
+final class EmployeeCursor {
+
+    static final Set<String> SORTABLE_FIELDS = Set.of("id", "firstName", "lastName", "email", "salary");
+
+    private final String sort;
+    private final Sort.Direction direction;
+    private final Object value;
+    private final Long id;
+
+    private EmployeeCursor(String sort, Sort.Direction direction, Object value, Long id) {
+        this.sort = sort;
+        this.direction = direction;
+        this.value = value;
+        this.id = id;
+    }
+
+    static void requireSortable(String sort) {
+        if (!SORTABLE_FIELDS.contains(sort)) {
+            throw new IllegalArgumentException("Unsupported sort field: " + sort);
+        }
+    }
+
+    /** Sort order for a keyset read; {@code id} is always appended as the tie-breaker. */
+    static Sort sortFor(String sort, Sort.Direction direction) {
+        Sort order = Sort.by(direction, sort);
+        return "id".equals(sort) ? order : order.and(Sort.by(direction, "id"));
+    }
+
+    static EmployeeCursor after(Employee employee, String sort, Sort.Direction direction) {
+        Object value = switch (sort) {
+            case "firstName" -> employee.getFirstName();
+            case "lastName" -> employee.getLastName();
+            case "email" -> employee.getEmail();
+            case "salary" -> employee.getSalary();
+            default -> employee.getId();
+        };
+        return new EmployeeCursor(sort, direction, value, employee.getId());
+    }
+
+    static EmployeeCursor decode(String cursor, String sort, Sort.Direction direction) {
+        String[] parts;
+        try {
+            parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split("\n", 4);
+        } catch (IllegalArgumentException ex) {
+            throw new IllegalArgumentException("Malformed cursor", ex);
+        }
+        if (parts.length != 4 || !parts[0].equals(sort) || !parts[1].equals(direction.name())) {
+            throw new IllegalArgumentException("Cursor does not match sort=" + sort + " direction=" + direction);
+        }
+        try {
+            Long id = Long.valueOf(parts[2]);
+            Object value = switch (sort) {
+                case "salary" -> Float.valueOf(parts[3]);
+                case "id" -> id;
+                default -> parts[3];
+            };
+            return new EmployeeCursor(sort, direction, value, id);
+        } catch (NumberFormatException ex) {
+            throw new IllegalArgumentException("Malformed cursor", ex);
+        }
+    }
+
+    String encode() {
+        String raw = sort + "\n" + direction.name() + "\n" + id + "\n" + value;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    KeysetScrollPosition toScrollPosition() {
+        Map<String, Object> keys = new LinkedHashMap<>();
+        keys.put(sort, value);
+        keys.put("id", id);
+        return ScrollPosition.forward(keys);
+    }
+}
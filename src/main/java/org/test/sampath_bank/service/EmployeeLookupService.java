@@ -0,0 +1,163 @@
+package org.test.sampath_bank.service;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Service;
+import org.test.sampath_bank.config.CacheConfig;
+import org.test.sampath_bank.datasource.ReplicaRoutingDataSource;
+import org.test.sampath_bank.dto.EmployeeDTO;
+import org.test.sampath_bank.dto.EmployeeLookupDTO;
+import org.test.sampath_bank.exception.ResourceNotFoundException;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Employee lookups by id, batched. {@link #lookup} resolves a list of ids with one
+ * query. {@link #getEmployee} serves single-id reads: cache hits return straight away,
+ * while misses arriving within {@code employee.lookup.coalesce-window} of each other
+ * are loaded together, so a burst of requests for different employees costs one
+ * {@code IN} query instead of one query each. A batch is sent early once it reaches
+ * {@code employee.lookup.max-batch-size} ids. A window of zero disables coalescing.
+ */
+@Service
+public class EmployeeLookupService {
+
+    private final EmployeeService employeeService;
+    private final Cache cache;
+    private final long windowNanos;
+    private final int maxBatchSize;
+    private final DistributionSummary batchSizes;
+    private final ExecutorService flushExecutor = Executors.newVirtualThreadPerTaskExecutor();
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private Map<Long, CompletableFuture<EmployeeDTO>> pending = new HashMap<>();
+
+    public EmployeeLookupService(
+            EmployeeService employeeService,
+            CacheManager cacheManager,
+            MeterRegistry meterRegistry,
+            @Value("${employee.lookup.coalesce-window:2ms}") Duration window,
+            @Value("${employee.lookup.max-batch-size:200}") int maxBatchSize) {
+        this.employeeService = employeeService;
+        this.cache = cacheManager.getCache(CacheConfig.EMPLOYEES_CACHE);
+        this.windowNanos = window.toNanos();
+        this.maxBatchSize = maxBatchSize;
+        this.batchSizes = DistributionSummary.builder("employee.lookup.batch.size")
+                .description("Employee ids loaded per coalesced lookup query")
+                .register(meterRegistry);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        flushExecutor.shutdownNow();
+    }
+
+    /** Returns the employees that exist, in request order, and the ids that do not. */
+    public EmployeeLookupDTO lookup(List<Long> ids) {
+        Set<Long> distinct = new LinkedHashSet<>(ids);
+        Map<Long, EmployeeDTO> found = employeeService.getEmployeesByIds(distinct);
+        List<EmployeeDTO> employees = new ArrayList<>(found.size());
+        List<Long> missing = new ArrayList<>();
+        for (Long id : distinct) {
+            EmployeeDTO employeeDTO = found.get(id);
+            if (employeeDTO != null) {
+                employees.add(employeeDTO);
+            } else {
+                missing.add(id);
+            }
+        }
+        return new EmployeeLookupDTO(employees, missing);
+    }
+
+    public EmployeeDTO getEmployee(Long id) {
+        EmployeeDTO cached = cache == null ? null : cache.get(id, EmployeeDTO.class);
+        if (cached != null) {
+            return cached;
+        }
+        // A read pinned to the primary for read-your-writes cannot share a batch run on another thread.
+        if (windowNanos <= 0 || ReplicaRoutingDataSource.isPrimaryRequired()) {
+            return employeeService.getEmployeeById(id);
+        }
+
+        EmployeeDTO employeeDTO;
+        try {
+            employeeDTO = enqueue(id).join();
+        } catch (CompletionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw ex;
+        }
+        if (employeeDTO == null) {
+            throw new ResourceNotFoundException("Employee not found with id: " + id);
+        }
+        return employeeDTO;
+    }
+
+    private CompletableFuture<EmployeeDTO> enqueue(Long id) {
+        CompletableFuture<EmployeeDTO> future;
+        Map<Long, CompletableFuture<EmployeeDTO>> full = null;
+        lock.lock();
+        try {
+            future = pending.get(id);
+            if (future == null) {
+                future = new CompletableFuture<>();
+                pending.put(id, future);
+                if (pending.size() >= maxBatchSize) {
+                    full = pending;
+                    pending = new HashMap<>();
+                } else if (pending.size() == 1) {
+                    Map<Long, CompletableFuture<EmployeeDTO>> batch = pending;
+                    CompletableFuture.delayedExecutor(windowNanos, TimeUnit.NANOSECONDS, flushExecutor)
+                            .execute(() -> flushIfPending(batch));
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+        if (full != null) {
+            flush(full);
+        }
+        return future;
+    }
+
+    private void flushIfPending(Map<Long, CompletableFuture<EmployeeDTO>> batch) {
+        lock.lock();
+        try {
+            // Already sent early because it filled up.
+            if (pending != batch) {
+                return;
+            }
+            pending = new HashMap<>();
+        } finally {
+            lock.unlock();
+        }
+        flush(batch);
+    }
+
+    private void flush(Map<Long, CompletableFuture<EmployeeDTO>> batch) {
+        batchSizes.record(batch.size());
+        try {
+            Map<Long, EmployeeDTO> found = employeeService.getEmployeesByIds(batch.keySet());
+            batch.forEach((id, future) -> future.complete(found.get(id)));
+        } catch (RuntimeException ex) {
+            batch.values().forEach(future -> future.completeExceptionally(ex));
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package org.test.sampath_bank.service;
+
+import com.fasterxml.jackson.core.JacksonException;
+import com.fasterxml.jackson.databind.ObjectReader;
+import org.test.sampath_bank.dto.EmployeeDTO;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Reads one employee per NDJSON line. Each line is parsed on its own, so a malformed
+ * line surfaces as a {@link MalformedRowException} from {@link #next()} and the
+ * following lines are still read; the import records it as a row error. Blank lines
+ * are skipped.
+ */
+public class EmployeeNdjsonReader implements Iterator<EmployeeDTO> {
+
+    private final BufferedReader reader;
+    private final ObjectReader employeeReader;
+    private String line;
+
+    public EmployeeNdjsonReader(BufferedReader reader, ObjectReader employeeReader) {
+        this.reader = reader;
+        this.employeeReader = employeeReader;
+    }
+
+    @Override
+    public boolean hasNext() {
+        try {
+            while (line == null) {
+                String read = reader.readLine();
+                if (read == null) {
+                    return false;
+                }
+                if (!read.isBlank()) {
+                    line = read;
+                }
+            }
+            return true;
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    @Override
+    public EmployeeDTO next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        String current = line;
+        line = null;
+        try {
+            return employeeReader.readValue(current);
+        } catch (JacksonException ex) {
+            throw new MalformedRowException("Malformed JSON: " + ex.getOriginalMessage());
+        }
+    }
+
+    /** A line that is not a valid employee document. */
+    public static class MalformedRowException extends RuntimeException {
+
+        public MalformedRowException(String message) {
+            super(message);
+        }
+    }
+}
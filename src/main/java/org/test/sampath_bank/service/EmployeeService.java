@@ -2,14 +2,35 @@ package org.test.sampath_bank.service;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.test.sampath_bank.dto.EmployeeDTO;
+import org.test.sampath_bank.dto.EmployeeFilter;
+import org.test.sampath_bank.dto.EmployeeImportResult;
+import org.test.sampath_bank.dto.EmployeeSliceDTO;
+import org.test.sampath_bank.dto.EmployeeVersionDTO;
 import org.test.sampath_bank.model.Employee;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Collection;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 
 public interface EmployeeService {
     EmployeeDTO saveEmployee(EmployeeDTO employeeDTO);
+    List<EmployeeDTO> saveEmployees(List<EmployeeDTO> employeeDTOs);
     EmployeeDTO getEmployeeById(Long id);
+    Map<Long, EmployeeDTO> getEmployeesByIds(Collection<Long> ids);
+    EmployeeVersionDTO getEmployeeVersion(Long id);
+    Slice<EmployeeDTO> searchEmployees(EmployeeFilter filter, int page, int size);
+    Slice<Map<String, Object>> searchEmployees(EmployeeFilter filter, List<String> fields, int page, int size);
     Page<EmployeeDTO> getAllEmployees(Pageable pageable);
+    Page<Map<String, Object>> getAllEmployees(Pageable pageable, List<String> fields);
+    EmployeeSliceDTO getEmployeesAfter(String after, int size, String sort, Sort.Direction direction);
     EmployeeDTO updateEmployee(Long id, EmployeeDTO employeeDTO);
+    int[] updateEmployees(List<EmployeeDTO> employeeDTOs);
     void deleteEmployee(Long id);
+    EmployeeImportResult importEmployees(Iterator<EmployeeDTO> employeeDTOs);
+    long exportEmployees(ExportFormat format, OutputStream outputStream) throws IOException;
 }
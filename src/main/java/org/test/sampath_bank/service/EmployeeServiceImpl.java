@@ -1,77 +1,445 @@
 package org.test.sampath_bank.service;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.annotation.Timed;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.CachePut;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.test.sampath_bank.config.CacheConfig;
 import org.test.sampath_bank.dto.EmployeeDTO;
+import org.test.sampath_bank.dto.EmployeeFilter;
+import org.test.sampath_bank.dto.EmployeeImportError;
+import org.test.sampath_bank.dto.EmployeeImportResult;
+import org.test.sampath_bank.dto.EmployeeSliceDTO;
+import org.test.sampath_bank.dto.EmployeeVersionDTO;
+import org.test.sampath_bank.event.EmployeeChangedEvent;
+import org.test.sampath_bank.event.EmployeeChangedEvent.ChangeType;
+import org.test.sampath_bank.exception.DuplicateEmailException;
+import org.test.sampath_bank.exception.EmployeeVersionConflictException;
+import org.test.sampath_bank.exception.ResourceNotFoundException;
 import org.test.sampath_bank.repository.EmployeeRepository;
 import org.test.sampath_bank.model.Employee;
+import org.test.sampath_bank.validation.EmployeeDTOValidator;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
+@Timed(value = "employee.service", description = "Time spent in EmployeeServiceImpl methods")
 public class EmployeeServiceImpl implements EmployeeService {
 
+    private static final String BATCH_UPDATE_SQL = "update employee set first_name = ?, last_name = ?, email = ?, salary = ?, "
+            + "version = version + 1, updated_at = ? where id = ? and (? is null or version = ?)";
+
     @Autowired
     private EmployeeRepository employeeRepository;
 
-    public EmployeeServiceImpl(EmployeeRepository employeeRepository) {
+    @Autowired
+    private EmployeeDTOValidator employeeDTOValidator;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Value("${employee.import.chunk-size:500}")
+    private int importChunkSize;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    public EmployeeServiceImpl(EmployeeRepository employeeRepository, ApplicationEventPublisher eventPublisher) {
         this.employeeRepository = employeeRepository;
+        this.eventPublisher = eventPublisher;
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Page<EmployeeDTO> getAllEmployees(Pageable pageable) {
-        Page<Employee> employeePage = employeeRepository.findAll(pageable);
-        return employeePage.map(this::convertToDTO);
+        return employeeRepository.findAllProjectedBy(pageable);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Page<Map<String, Object>> getAllEmployees(Pageable pageable, List<String> fields) {
+        return employeeRepository.findAllFields(fields, pageable);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public EmployeeSliceDTO getEmployeesAfter(String after, int size, String sort, Sort.Direction direction) {
+        EmployeeCursor.requireSortable(sort);
+        ScrollPosition position = after == null || after.isEmpty()
+                ? ScrollPosition.keyset()
+                : EmployeeCursor.decode(after, sort, direction).toScrollPosition();
+
+        Window<Employee> window = employeeRepository.findAllBy(
+                position, EmployeeCursor.sortFor(sort, direction), Limit.of(size));
+
+        EmployeeSliceDTO slice = new EmployeeSliceDTO();
+        slice.setContent(window.getContent().stream().map(this::convertToDTO).collect(Collectors.toList()));
+        slice.setSize(window.size());
+        slice.setHasNext(window.hasNext());
+        if (window.hasNext() && !window.isEmpty()) {
+            Employee last = window.getContent().get(window.size() - 1);
+            slice.setNextCursor(EmployeeCursor.after(last, sort, direction).encode());
+        }
+        return slice;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Slice<EmployeeDTO> searchEmployees(EmployeeFilter filter, int page, int size) {
+        requireIndexedPredicate(filter);
+        return employeeRepository.search(filter, page, size);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Slice<Map<String, Object>> searchEmployees(EmployeeFilter filter, List<String> fields, int page, int size) {
+        requireIndexedPredicate(filter);
+        return employeeRepository.search(filter, fields, page, size);
+    }
+
+    static void requireIndexedPredicate(EmployeeFilter filter) {
+        if (!filter.hasIndexedPredicate()) {
+            throw new IllegalArgumentException(
+                    "At least one of firstNamePrefix, lastNamePrefix, email, minSalary or maxSalary is required");
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public EmployeeVersionDTO getEmployeeVersion(Long id) {
+        return employeeRepository.findVersionById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Employee not found with id: " + id));
     }
 
     @Override
+    @Cacheable(cacheNames = CacheConfig.EMPLOYEES_CACHE, key = "#id")
+    @Transactional(readOnly = true)
     public EmployeeDTO getEmployeeById(Long id) {
         Employee employee = employeeRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("Employee not found with id: " + id));
+                .orElseThrow(() -> new ResourceNotFoundException("Employee not found with id: " + id));
         return convertToDTO(employee);
     }
 
+    /**
+     * Cached employees are answered from the cache; the rest are loaded with one
+     * {@code IN} query and cached. Ids that do not exist are simply absent from the result.
+     */
     @Override
+    public Map<Long, EmployeeDTO> getEmployeesByIds(Collection<Long> ids) {
+        Cache cache = cacheManager.getCache(CacheConfig.EMPLOYEES_CACHE);
+        Map<Long, EmployeeDTO> found = new HashMap<>();
+        List<Long> misses = new ArrayList<>();
+        for (Long id : ids) {
+            EmployeeDTO cached = cache == null ? null : cache.get(id, EmployeeDTO.class);
+            if (cached != null) {
+                found.put(id, cached);
+            } else {
+                misses.add(id);
+            }
+        }
+        if (!misses.isEmpty()) {
+            for (EmployeeDTO employeeDTO : employeeRepository.findProjectedByIdIn(misses)) {
+                found.put(employeeDTO.getId(), employeeDTO);
+                if (cache != null) {
+                    cache.put(employeeDTO.getId(), employeeDTO);
+                }
+            }
+        }
+        return found;
+    }
+
+    @Override
+    @CachePut(cacheNames = CacheConfig.EMPLOYEES_CACHE, key = "#result.id")
+    @Transactional
     public EmployeeDTO saveEmployee(EmployeeDTO employeeDTO) {
         Employee employee = convertToEntity(employeeDTO);
-        Employee savedEmployee = employeeRepository.save(employee);
-        return convertToDTO(savedEmployee);
+        Employee savedEmployee;
+        try {
+            // Flush here so a duplicate email fails inside the try rather than at commit.
+            savedEmployee = employeeRepository.saveAndFlush(employee);
+        } catch (DataIntegrityViolationException ex) {
+            if (!DuplicateEmailException.isDuplicateEmail(ex)) {
+                throw ex;
+            }
+            throw new DuplicateEmailException("Employee with email " + employeeDTO.getEmail() + " already exists", ex);
+        }
+        EmployeeDTO savedEmployeeDTO = convertToDTO(savedEmployee);
+        eventPublisher.publishEvent(new EmployeeChangedEvent(ChangeType.CREATED, savedEmployeeDTO.getId(), savedEmployeeDTO));
+        return savedEmployeeDTO;
     }
 
     @Override
+    public List<EmployeeDTO> saveEmployees(List<EmployeeDTO> employeeDTOs) {
+        List<Employee> employees = employeeDTOs.stream().map(this::convertToEntity).collect(Collectors.toList());
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> persistChunk(employees));
+        return employees.stream().map(this::convertToDTO).collect(Collectors.toList());
+    }
+
+    @Override
+    @CacheEvict(cacheNames = CacheConfig.EMPLOYEES_CACHE, key = "#id")
+    @Transactional
     public EmployeeDTO updateEmployee(Long id, EmployeeDTO employeeDTO) {
-        Employee employee = employeeRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("Employee not found with id: " + id));
+        Long expectedVersion = employeeDTO.getVersion();
+        Instant updatedAt = Instant.now();
+        int updated;
+        try {
+            updated = expectedVersion == null
+                    ? employeeRepository.updateById(id, employeeDTO.getFirstName(), employeeDTO.getLastName(),
+                            employeeDTO.getEmail(), employeeDTO.getSalary(), updatedAt)
+                    : employeeRepository.updateByIdAndVersion(id, expectedVersion, employeeDTO.getFirstName(),
+                            employeeDTO.getLastName(), employeeDTO.getEmail(), employeeDTO.getSalary(), updatedAt);
+        } catch (DataIntegrityViolationException ex) {
+            if (!DuplicateEmailException.isDuplicateEmail(ex)) {
+                throw ex;
+            }
+            throw new DuplicateEmailException("Employee with email " + employeeDTO.getEmail() + " already exists", ex);
+        }
 
-        employee.setFirstName(employeeDTO.getFirstName());
-        employee.setLastName(employeeDTO.getLastName());
-        employee.setEmail(employeeDTO.getEmail());
-        employee.setSalary(employeeDTO.getSalary());
-        
-        Employee updatedEmployee = employeeRepository.save(employee);
-        return convertToDTO(updatedEmployee);
+        if (updated == 0) {
+            // Only the failure path pays for a second query, to tell a stale version from a missing row.
+            if (expectedVersion != null && employeeRepository.existsById(id)) {
+                throw new EmployeeVersionConflictException(
+                        "Employee " + id + " was modified concurrently; expected version " + expectedVersion);
+            }
+            throw new ResourceNotFoundException("Employee not found with id: " + id);
+        }
+
+        EmployeeDTO updatedEmployeeDTO = new EmployeeDTO();
+        updatedEmployeeDTO.setId(id);
+        updatedEmployeeDTO.setFirstName(employeeDTO.getFirstName());
+        updatedEmployeeDTO.setLastName(employeeDTO.getLastName());
+        updatedEmployeeDTO.setEmail(employeeDTO.getEmail());
+        updatedEmployeeDTO.setSalary(employeeDTO.getSalary());
+        // Without an expected version the new one is not known here; read it back so the
+        // response still carries a usable ETag.
+        updatedEmployeeDTO.setVersion(expectedVersion != null
+                ? expectedVersion + 1
+                : employeeRepository.findVersionById(id).map(EmployeeVersionDTO::getVersion).orElse(null));
+        updatedEmployeeDTO.setUpdatedAt(updatedAt);
+        eventPublisher.publishEvent(new EmployeeChangedEvent(ChangeType.UPDATED, id, updatedEmployeeDTO));
+        return updatedEmployeeDTO;
+    }
+
+    /**
+     * Applies the updates as one JDBC batch in a single transaction. Each DTO carries its
+     * id and, optionally, the version it expects. Returns the per-row update counts; a
+     * zero means the row is missing or was at another version, and nothing is thrown for it.
+     */
+    @Override
+    public int[] updateEmployees(List<EmployeeDTO> employeeDTOs) {
+        Timestamp updatedAt = Timestamp.from(Instant.now());
+        int[] counts = new TransactionTemplate(transactionManager).execute(status -> {
+            int[] updated = jdbcTemplate.batchUpdate(BATCH_UPDATE_SQL, new BatchPreparedStatementSetter() {
+                @Override
+                public void setValues(PreparedStatement ps, int i) throws SQLException {
+                    EmployeeDTO employeeDTO = employeeDTOs.get(i);
+                    ps.setString(1, employeeDTO.getFirstName());
+                    ps.setString(2, employeeDTO.getLastName());
+                    ps.setString(3, employeeDTO.getEmail());
+                    ps.setObject(4, employeeDTO.getSalary(), Types.FLOAT);
+                    ps.setTimestamp(5, updatedAt);
+                    ps.setLong(6, employeeDTO.getId());
+                    ps.setObject(7, employeeDTO.getVersion(), Types.BIGINT);
+                    ps.setObject(8, employeeDTO.getVersion(), Types.BIGINT);
+                }
+
+                @Override
+                public int getBatchSize() {
+                    return employeeDTOs.size();
+                }
+            });
+            for (int i = 0; i < updated.length; i++) {
+                // Rewritten MySQL batches may report SUCCESS_NO_INFO (-2) instead of a row count.
+                if (updated[i] != 0) {
+                    EmployeeDTO employeeDTO = employeeDTOs.get(i);
+                    EmployeeDTO updatedEmployeeDTO = new EmployeeDTO(employeeDTO.getId(), employeeDTO.getFirstName(),
+                            employeeDTO.getLastName(), employeeDTO.getEmail(), employeeDTO.getSalary(),
+                            employeeDTO.getVersion() == null ? null : employeeDTO.getVersion() + 1,
+                            updatedAt.toInstant());
+                    eventPublisher.publishEvent(new EmployeeChangedEvent(ChangeType.UPDATED, employeeDTO.getId(), updatedEmployeeDTO));
+                }
+            }
+            return updated;
+        });
+
+        Cache cache = cacheManager.getCache(CacheConfig.EMPLOYEES_CACHE);
+        if (cache != null) {
+            for (EmployeeDTO employeeDTO : employeeDTOs) {
+                cache.evict(employeeDTO.getId());
+            }
+        }
+        return counts;
     }
 
     @Override
+    @CacheEvict(cacheNames = CacheConfig.EMPLOYEES_CACHE, key = "#id")
+    @Transactional
     public void deleteEmployee(Long id) {
-        Employee employee = employeeRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("Employee not found with id: " + id));
-        employeeRepository.delete(employee);
+        if (employeeRepository.deleteEmployeeById(id) == 0) {
+            throw new ResourceNotFoundException("Employee not found with id: " + id);
+        }
+        eventPublisher.publishEvent(new EmployeeChangedEvent(ChangeType.DELETED, id, null));
+    }
+
+    @Override
+    public EmployeeImportResult importEmployees(Iterator<EmployeeDTO> employeeDTOs) {
+        EmployeeImportResult result = new EmployeeImportResult();
+        List<Employee> chunk = new ArrayList<>(importChunkSize);
+        List<Integer> chunkRows = new ArrayList<>(importChunkSize);
+        int row = 0;
+
+        while (employeeDTOs.hasNext()) {
+            EmployeeDTO employeeDTO;
+            try {
+                employeeDTO = employeeDTOs.next();
+            } catch (EmployeeNdjsonReader.MalformedRowException ex) {
+                result.getErrors().add(new EmployeeImportError(row++, List.of(ex.getMessage())));
+                continue;
+            }
+            List<String> violations = validate(employeeDTO);
+            if (violations.isEmpty()) {
+                chunk.add(convertToEntity(employeeDTO));
+                chunkRows.add(row);
+            } else {
+                result.getErrors().add(new EmployeeImportError(row, violations));
+            }
+            row++;
+
+            if (chunk.size() >= importChunkSize) {
+                writeChunk(chunk, chunkRows, result);
+                chunk.clear();
+                chunkRows.clear();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            writeChunk(chunk, chunkRows, result);
+        }
+
+        result.setReceived(row);
+        result.getErrors().sort(Comparator.comparingInt(EmployeeImportError::getRow));
+        return result;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public long exportEmployees(ExportFormat format, OutputStream outputStream) throws IOException {
+        EmployeeExportWriter exportWriter = new EmployeeExportWriter(format, outputStream, objectMapper);
+        try (Stream<Employee> employees = employeeRepository.streamAllByOrderById()) {
+            Iterator<Employee> iterator = employees.iterator();
+            while (iterator.hasNext()) {
+                Employee employee = iterator.next();
+                exportWriter.write(convertToDTO(employee));
+                // Detach so the persistence context does not grow with the table.
+                entityManager.detach(employee);
+            }
+        }
+        return exportWriter.finish();
+    }
+
+    private List<String> validate(EmployeeDTO employeeDTO) {
+        if (employeeDTO == null) {
+            return List.of("Row is empty");
+        }
+        return employeeDTOValidator.violations(employeeDTO);
+    }
+
+    private void writeChunk(List<Employee> chunk, List<Integer> chunkRows, EmployeeImportResult result) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        try {
+            transactionTemplate.executeWithoutResult(status -> persistChunk(chunk));
+            result.setImported(result.getImported() + chunk.size());
+        } catch (RuntimeException chunkFailure) {
+            // One bad row fails the whole JDBC batch, so retry the chunk row by row
+            // to find it and still write everything else.
+            for (int i = 0; i < chunk.size(); i++) {
+                Employee employee = chunk.get(i);
+                employee.setId(null);
+                try {
+                    transactionTemplate.executeWithoutResult(status -> persistChunk(List.of(employee)));
+                    result.setImported(result.getImported() + 1);
+                } catch (RuntimeException rowFailure) {
+                    String message = NestedExceptionUtils.getMostSpecificCause(rowFailure).getMessage();
+                    result.getErrors().add(new EmployeeImportError(chunkRows.get(i), List.of(String.valueOf(message))));
+                }
+            }
+        }
+    }
+
+    private void persistChunk(List<Employee> employees) {
+        for (Employee employee : employees) {
+            entityManager.persist(employee);
+        }
+        entityManager.flush();
+        for (Employee employee : employees) {
+            eventPublisher.publishEvent(new EmployeeChangedEvent(ChangeType.CREATED, employee.getId(), convertToDTO(employee)));
+        }
+        // Listeners may have persisted rows of their own (the change feed outbox); write them before clearing.
+        entityManager.flush();
+        entityManager.clear();
     }
 
-    private EmployeeDTO convertToDTO(Employee employee) {
+    EmployeeDTO convertToDTO(Employee employee) {
         EmployeeDTO employeeDTO = new EmployeeDTO();
         employeeDTO.setId(employee.getId());
         employeeDTO.setFirstName(employee.getFirstName());
         employeeDTO.setLastName(employee.getLastName());
         employeeDTO.setEmail(employee.getEmail());
         employeeDTO.setSalary(employee.getSalary());
+        employeeDTO.setVersion(employee.getVersion());
+        employeeDTO.setUpdatedAt(employee.getUpdatedAt());
         return employeeDTO;
     }
 
-    private Employee convertToEntity(EmployeeDTO employeeDTO) {
+    Employee convertToEntity(EmployeeDTO employeeDTO) {
         Employee employee = new Employee();
         employee.setId(employee.getId());
         employee.setFirstName(employeeDTO.getFirstName());
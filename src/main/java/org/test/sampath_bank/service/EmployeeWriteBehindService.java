@@ -0,0 +1,417 @@
+package org.test.sampath_bank.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.CannotCreateTransactionException;
+import org.test.sampath_bank.dto.EmployeeDTO;
+import org.test.sampath_bank.dto.WriteQueueStatusDTO;
+import org.test.sampath_bank.dto.WriteStatusDTO;
+import org.test.sampath_bank.dto.WriteStatusDTO.Operation;
+import org.test.sampath_bank.dto.WriteStatusDTO.State;
+import org.test.sampath_bank.exception.ResourceNotFoundException;
+import org.test.sampath_bank.exception.WriteQueueFullException;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Write-behind mode for employee creates and updates. Requests are journaled, queued
+ * and acknowledged straight away; a single background writer drains the queue in
+ * batches through {@link EmployeeService#saveEmployees} and
+ * {@link EmployeeService#updateEmployees}. Queued updates to the same employee collapse
+ * into one write. When the queue is full new requests are rejected rather than queued.
+ * Only enabled with {@code employee.write-behind.enabled=true}.
+ */
+@Service
+@ConditionalOnProperty(name = "employee.write-behind.enabled", havingValue = "true")
+public class EmployeeWriteBehindService {
+
+    private static final Logger log = LoggerFactory.getLogger(EmployeeWriteBehindService.class);
+
+    private final EmployeeService employeeService;
+    private final WriteBehindJournal journal;
+    private final int capacity;
+    private final int batchSize;
+    private final Duration linger;
+    private final Duration retryBackoff;
+    private final Cache<String, WriteStatusDTO> statuses;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition notEmpty = lock.newCondition();
+    private final ArrayDeque<PendingWrite> creates = new ArrayDeque<>();
+    private final LinkedHashMap<Long, PendingWrite> updates = new LinkedHashMap<>();
+
+    private final AtomicLong accepted = new AtomicLong();
+    private final AtomicLong coalesced = new AtomicLong();
+    private final AtomicLong written = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+    private final AtomicLong rejected = new AtomicLong();
+
+    private volatile boolean running;
+    private Thread writer;
+
+    public EmployeeWriteBehindService(
+            EmployeeService employeeService,
+            ObjectMapper objectMapper,
+            @Value("${employee.write-behind.journal:data/employee-write-behind.journal}") Path journalPath,
+            @Value("${employee.write-behind.capacity:10000}") int capacity,
+            @Value("${employee.write-behind.batch-size:500}") int batchSize,
+            @Value("${employee.write-behind.linger:20ms}") Duration linger,
+            @Value("${employee.write-behind.retry-backoff:1s}") Duration retryBackoff,
+            @Value("${employee.write-behind.status-ttl:1h}") Duration statusTtl,
+            @Value("${employee.write-behind.status-maximum-size:100000}") long statusMaximumSize) throws IOException {
+        this.employeeService = employeeService;
+        this.journal = new WriteBehindJournal(journalPath, objectMapper);
+        this.capacity = capacity;
+        this.batchSize = batchSize;
+        this.linger = linger;
+        this.retryBackoff = retryBackoff;
+        this.statuses = Caffeine.newBuilder()
+                .maximumSize(statusMaximumSize)
+                .expireAfterWrite(statusTtl)
+                .build();
+    }
+
+    @PostConstruct
+    void start() throws IOException {
+        List<PendingWrite> recovered = journal.recover();
+        for (PendingWrite write : recovered) {
+            queued(write);
+            enqueue(write);
+        }
+        if (!recovered.isEmpty()) {
+            log.info("Replaying {} write-behind requests from the journal", recovered.size());
+        }
+
+        running = true;
+        writer = Thread.ofPlatform().name("employee-write-behind").daemon(true).start(this::runWriter);
+    }
+
+    @PreDestroy
+    void stop() throws InterruptedException, IOException {
+        lock.lock();
+        try {
+            running = false;
+            notEmpty.signalAll();
+        } finally {
+            lock.unlock();
+        }
+        // Whatever is not flushed in time stays in the journal for the next start.
+        if (writer != null) {
+            writer.join(TimeUnit.SECONDS.toMillis(30));
+        }
+        journal.close();
+    }
+
+    public WriteStatusDTO submitCreate(EmployeeDTO employeeDTO) {
+        return submit(new PendingWrite(UUID.randomUUID().toString(), Operation.CREATE, null, employeeDTO));
+    }
+
+    public WriteStatusDTO submitUpdate(Long id, EmployeeDTO employeeDTO) {
+        return submit(new PendingWrite(UUID.randomUUID().toString(), Operation.UPDATE, id, employeeDTO));
+    }
+
+    public WriteStatusDTO getStatus(String trackingId) {
+        WriteStatusDTO status = statuses.getIfPresent(trackingId);
+        if (status == null) {
+            throw new ResourceNotFoundException("No write-behind request with tracking id: " + trackingId);
+        }
+        return status;
+    }
+
+    public WriteQueueStatusDTO getQueueStatus() {
+        WriteQueueStatusDTO queueStatus = new WriteQueueStatusDTO();
+        lock.lock();
+        try {
+            queueStatus.setPending(pending());
+        } finally {
+            lock.unlock();
+        }
+        queueStatus.setCapacity(capacity);
+        queueStatus.setAccepted(accepted.get());
+        queueStatus.setCoalesced(coalesced.get());
+        queueStatus.setWritten(written.get());
+        queueStatus.setFailed(failed.get());
+        queueStatus.setRejected(rejected.get());
+        return queueStatus;
+    }
+
+    private WriteStatusDTO submit(PendingWrite write) {
+        CompletableFuture<Void> synced;
+        WriteStatusDTO status;
+        lock.lock();
+        try {
+            boolean coalesces = write.operation() == Operation.UPDATE && updates.containsKey(write.employeeId());
+            if (!coalesces && pending() >= capacity) {
+                rejected.incrementAndGet();
+                throw new WriteQueueFullException("Write-behind queue is full (" + capacity + " pending writes)");
+            }
+            // The journal is appended under the lock so a drained queue always means a finished journal.
+            synced = journal.accepted(write);
+            status = queued(write);
+            if (enqueue(write)) {
+                coalesced.incrementAndGet();
+            }
+            accepted.incrementAndGet();
+            notEmpty.signal();
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Could not journal write-behind request", ex);
+        } finally {
+            lock.unlock();
+        }
+
+        // Wait for the force outside the lock, so concurrent submitters share one fsync.
+        // If it fails the caller gets an error, though the queued write may still be applied.
+        try {
+            synced.join();
+        } catch (CompletionException ex) {
+            Throwable cause = ex.getCause();
+            throw new UncheckedIOException("Could not journal write-behind request",
+                    cause instanceof IOException io ? io : new IOException(cause));
+        }
+        return status;
+    }
+
+    /** Adds the write to the queue and returns whether it was folded into a queued update. */
+    private boolean enqueue(PendingWrite write) {
+        if (write.operation() == Operation.CREATE) {
+            creates.addLast(write);
+            return false;
+        }
+        PendingWrite queued = updates.get(write.employeeId());
+        if (queued == null) {
+            updates.put(write.employeeId(), write);
+            return false;
+        }
+        queued.coalesce(write);
+        return true;
+    }
+
+    private int pending() {
+        return creates.size() + updates.size();
+    }
+
+    private void runWriter() {
+        while (true) {
+            List<PendingWrite> batch;
+            try {
+                batch = take();
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            if (batch.isEmpty()) {
+                return;
+            }
+            try {
+                flush(batch);
+            } catch (RuntimeException ex) {
+                log.error("Write-behind flush of {} requests failed", batch.size(), ex);
+            }
+        }
+    }
+
+    /**
+     * Waits for work, then lingers briefly so a burst of requests fills one batch instead
+     * of being written a row at a time. Returns an empty batch only once stopped and drained.
+     */
+    private List<PendingWrite> take() throws InterruptedException {
+        lock.lock();
+        try {
+            while (running && pending() == 0) {
+                notEmpty.await();
+            }
+            long lingerNanos = linger.toNanos();
+            while (running && pending() < batchSize && lingerNanos > 0) {
+                lingerNanos = notEmpty.awaitNanos(lingerNanos);
+            }
+
+            List<PendingWrite> batch = new ArrayList<>(Math.min(batchSize, pending()));
+            while (batch.size() < batchSize && !creates.isEmpty()) {
+                batch.add(creates.pollFirst());
+            }
+            Iterator<PendingWrite> queuedUpdates = updates.values().iterator();
+            while (batch.size() < batchSize && queuedUpdates.hasNext()) {
+                batch.add(queuedUpdates.next());
+                queuedUpdates.remove();
+            }
+            return batch;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void flush(List<PendingWrite> batch) {
+        List<PendingWrite> batchCreates = new ArrayList<>();
+        List<PendingWrite> batchUpdates = new ArrayList<>();
+        for (PendingWrite write : batch) {
+            (write.operation() == Operation.CREATE ? batchCreates : batchUpdates).add(write);
+        }
+
+        List<PendingWrite> retry = new ArrayList<>();
+        if (!batchCreates.isEmpty() && !writeCreates(batchCreates)) {
+            retry.addAll(batchCreates);
+        }
+        if (!batchUpdates.isEmpty() && !writeUpdates(batchUpdates)) {
+            retry.addAll(batchUpdates);
+        }
+
+        List<String> completed = new ArrayList<>();
+        for (PendingWrite write : batch) {
+            if (!retry.contains(write)) {
+                completed.addAll(write.trackingIds());
+            }
+        }
+        lock.lock();
+        try {
+            journal.completed(completed);
+            if (retry.isEmpty() && pending() == 0) {
+                journal.truncate();
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Could not update write-behind journal", ex);
+        } finally {
+            lock.unlock();
+        }
+
+        if (!retry.isEmpty() && running) {
+            requeue(retry);
+            try {
+                Thread.sleep(retryBackoff);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /** Returns false when the database was unreachable and the writes should be retried later. */
+    private boolean writeCreates(List<PendingWrite> writes) {
+        try {
+            List<EmployeeDTO> saved = employeeService.saveEmployees(writes.stream().map(PendingWrite::employee).toList());
+            for (int i = 0; i < writes.size(); i++) {
+                written(writes.get(i), saved.get(i).getId());
+            }
+            return true;
+        } catch (RuntimeException batchFailure) {
+            if (isRetryable(batchFailure)) {
+                log.warn("Write-behind batch of {} creates deferred: {}", writes.size(), batchFailure.getMessage());
+                return false;
+            }
+            // One bad row fails the whole JDBC batch, so write them one at a time to find it.
+            for (PendingWrite write : writes) {
+                try {
+                    written(write, employeeService.saveEmployee(write.employee()).getId());
+                } catch (RuntimeException rowFailure) {
+                    failed(write, rowFailure);
+                }
+            }
+            return true;
+        }
+    }
+
+    /** Returns false when the database was unreachable and the writes should be retried later. */
+    private boolean writeUpdates(List<PendingWrite> writes) {
+        int[] counts;
+        try {
+            counts = employeeService.updateEmployees(writes.stream().map(PendingWrite::employee).toList());
+        } catch (RuntimeException batchFailure) {
+            if (isRetryable(batchFailure)) {
+                log.warn("Write-behind batch of {} updates deferred: {}", writes.size(), batchFailure.getMessage());
+                return false;
+            }
+            counts = new int[writes.size()];
+        }
+        for (int i = 0; i < writes.size(); i++) {
+            PendingWrite write = writes.get(i);
+            if (counts[i] != 0) {
+                written(write, write.employeeId());
+                continue;
+            }
+            // Either the whole batch failed or this row did not match; the single-row
+            // update reports exactly why (missing, stale version or duplicate email).
+            try {
+                employeeService.updateEmployee(write.employeeId(), write.employee());
+                written(write, write.employeeId());
+            } catch (RuntimeException rowFailure) {
+                failed(write, rowFailure);
+            }
+        }
+        return true;
+    }
+
+    private void requeue(List<PendingWrite> writes) {
+        lock.lock();
+        try {
+            for (int i = writes.size() - 1; i >= 0; i--) {
+                PendingWrite write = writes.get(i);
+                if (write.operation() == Operation.CREATE) {
+                    creates.addFirst(write);
+                    continue;
+                }
+                // Updates accepted while this one was in flight are newer, so they fold into it.
+                PendingWrite newer = updates.remove(write.employeeId());
+                if (newer != null) {
+                    write.coalesce(newer);
+                }
+                updates.put(write.employeeId(), write);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private static boolean isRetryable(RuntimeException ex) {
+        return ex instanceof CannotCreateTransactionException
+                || ex instanceof DataAccessResourceFailureException
+                || ex instanceof TransientDataAccessException;
+    }
+
+    private WriteStatusDTO queued(PendingWrite write) {
+        WriteStatusDTO status = null;
+        for (String trackingId : write.trackingIds()) {
+            status = new WriteStatusDTO(trackingId, write.operation(), State.QUEUED, write.employeeId(), null);
+            statuses.put(trackingId, status);
+        }
+        return status;
+    }
+
+    private void written(PendingWrite write, Long employeeId) {
+        written.addAndGet(write.trackingIds().size());
+        for (String trackingId : write.trackingIds()) {
+            statuses.put(trackingId, new WriteStatusDTO(trackingId, write.operation(), State.WRITTEN, employeeId, null));
+        }
+    }
+
+    private void failed(PendingWrite write, RuntimeException ex) {
+        failed.addAndGet(write.trackingIds().size());
+        log.warn("Write-behind {} of employee {} failed: {}", write.operation(), write.employeeId(), ex.getMessage());
+        for (String trackingId : write.trackingIds()) {
+            statuses.put(trackingId, new WriteStatusDTO(trackingId, write.operation(), State.FAILED,
+                    write.employeeId(), ex.getMessage()));
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package org.test.sampath_bank.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.test.sampath_bank.dto.EmployeeDTO;
+import org.test.sampath_bank.exception.IdempotencyKeyReusedException;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Supplier;
+
+/**
+ * Remembers the outcome of employee creations made with an {@code Idempotency-Key}, so a
+ * retried request gets the original employee back instead of writing a second one.
+ * <p>
+ * The first request with a key registers a pending result before it writes; duplicates
+ * arriving while it runs wait on that result rather than writing themselves. A failed
+ * write is forgotten so the client can retry it, and its waiting duplicates fail the same
+ * way. Keys are held for {@code employee.idempotency.ttl} in a bounded map, so under
+ * heavy churn the oldest keys may be forgotten early. A key reused with a different
+ * request body is rejected.
+ */
+@Service
+public class IdempotencyService {
+
+    static final int MAX_KEY_LENGTH = 255;
+
+    private final Cache<String, Entry> entries;
+
+    public IdempotencyService(
+            @Value("${employee.idempotency.ttl:24h}") Duration ttl,
+            @Value("${employee.idempotency.maximum-size:100000}") long maximumSize) {
+        this.entries = Caffeine.newBuilder()
+                .expireAfterWrite(ttl)
+                .maximumSize(maximumSize)
+                .build();
+    }
+
+    /**
+     * Runs {@code action} once per {@code key}. {@code fingerprint} identifies the request
+     * body; a later request with the same key must carry the same fingerprint.
+     */
+    public Result execute(String key, String fingerprint, Supplier<EmployeeDTO> action) {
+        if (key.isBlank() || key.length() > MAX_KEY_LENGTH) {
+            throw new IllegalArgumentException("Idempotency-Key must be 1 to " + MAX_KEY_LENGTH + " characters");
+        }
+        Entry entry = new Entry(fingerprint, new CompletableFuture<>());
+        Entry existing = entries.asMap().putIfAbsent(key, entry);
+        if (existing != null) {
+            return replay(existing, fingerprint);
+        }
+
+        EmployeeDTO employee;
+        try {
+            employee = action.get();
+        } catch (RuntimeException | Error ex) {
+            entries.asMap().remove(key, entry);
+            entry.result().completeExceptionally(ex);
+            throw ex;
+        }
+        entry.result().complete(employee);
+        return new Result(employee, false);
+    }
+
+    private static Result replay(Entry existing, String fingerprint) {
+        if (!existing.fingerprint().equals(fingerprint)) {
+            throw new IdempotencyKeyReusedException("Idempotency-Key was already used for a different request");
+        }
+        try {
+            return new Result(existing.result().join(), true);
+        } catch (CompletionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw ex;
+        }
+    }
+
+    public record Result(EmployeeDTO employee, boolean replayed) {
+    }
+
+    private record Entry(String fingerprint, CompletableFuture<EmployeeDTO> result) {
+    }
+}
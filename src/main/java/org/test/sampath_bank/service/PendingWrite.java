@@ -0,0 +1,52 @@
+package org.test.sampath_bank.service;
+
+import org.test.sampath_bank.dto.EmployeeDTO;
+import org.test.sampath_bank.dto.WriteStatusDTO.Operation;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * One queued create or update. Updates to the same employee are coalesced into a single
+ * write that carries the newest field values, the version expected by the first of them
+ * and every tracking id, so all of the callers see the same outcome.
+ */
+final class PendingWrite {
+
+    private final Operation operation;
+    private final Long employeeId;
+    private final List<String> trackingIds = new ArrayList<>(1);
+    private EmployeeDTO employee;
+
+    PendingWrite(String trackingId, Operation operation, Long employeeId, EmployeeDTO employee) {
+        this.operation = operation;
+        this.employeeId = employeeId;
+        this.employee = employee;
+        this.employee.setId(employeeId);
+        this.trackingIds.add(trackingId);
+    }
+
+    void coalesce(PendingWrite newer) {
+        Long expectedVersion = employee.getVersion();
+        employee = newer.employee;
+        // Only the first update's version is checked against the row as it is now.
+        employee.setVersion(expectedVersion);
+        trackingIds.addAll(newer.trackingIds);
+    }
+
+    Operation operation() {
+        return operation;
+    }
+
+    Long employeeId() {
+        return employeeId;
+    }
+
+    EmployeeDTO employee() {
+        return employee;
+    }
+
+    List<String> trackingIds() {
+        return trackingIds;
+    }
+}
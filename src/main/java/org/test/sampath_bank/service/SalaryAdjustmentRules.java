@@ -0,0 +1,121 @@
+package org.test.sampath_bank.service;
+
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.test.sampath_bank.dto.SalaryAdjustmentRequest;
+import org.test.sampath_bank.dto.SalaryBand;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * SQL for a {@link SalaryAdjustmentRequest}: a match predicate and a new-salary
+ * expression per band, both in terms of the current {@code salary} column, so the
+ * whole adjustment runs as set-based statements without reading rows into the JVM.
+ * Rule values are bound as named parameters from {@link #parameters()}.
+ */
+final class SalaryAdjustmentRules {
+
+    private static final String COLUMNS = "id, first_name, last_name, email, salary, version, updated_at";
+
+    private final SalaryAdjustmentRequest request;
+    private final List<String> predicates = new ArrayList<>();
+    private final List<String> newSalaries = new ArrayList<>();
+    private final MapSqlParameterSource parameters = new MapSqlParameterSource();
+
+    SalaryAdjustmentRules(SalaryAdjustmentRequest request) {
+        this.request = request;
+        validate(request.getBands());
+        if (request.getMaxIncrease() != null) {
+            parameters.addValue("maxIncrease", request.getMaxIncrease());
+        }
+        if (request.getMaxSalary() != null) {
+            parameters.addValue("maxSalary", request.getMaxSalary());
+        }
+        for (int i = 0; i < request.getBands().size(); i++) {
+            SalaryBand band = request.getBands().get(i);
+            List<String> bounds = new ArrayList<>(List.of("salary is not null"));
+            if (band.getMinSalary() != null) {
+                bounds.add("salary >= :min" + i);
+                parameters.addValue("min" + i, band.getMinSalary());
+            }
+            if (band.getMaxSalary() != null) {
+                bounds.add("salary < :max" + i);
+                parameters.addValue("max" + i, band.getMaxSalary());
+            }
+            predicates.add(String.join(" and ", bounds));
+
+            parameters.addValue("percent" + i, band.getPercent());
+            String change = "salary * :percent" + i + " / 100";
+            if (request.getMaxIncrease() != null) {
+                change = "least(" + change + ", :maxIncrease)";
+            }
+            String newSalary = "round(salary + " + change + ", 2)";
+            if (request.getMaxSalary() != null) {
+                // Caps the raise, but never lowers a salary that is already above the cap.
+                newSalary = "least(" + newSalary + ", greatest(salary, :maxSalary))";
+            }
+            newSalaries.add(newSalary);
+        }
+    }
+
+    private static void validate(List<SalaryBand> bands) {
+        for (SalaryBand band : bands) {
+            if (band.getMinSalary() != null && band.getMaxSalary() != null && band.getMinSalary() >= band.getMaxSalary()) {
+                throw new IllegalArgumentException("Band minSalary must be below its maxSalary: "
+                        + band.getMinSalary() + " >= " + band.getMaxSalary());
+            }
+        }
+        List<SalaryBand> sorted = bands.stream()
+                .sorted(Comparator.comparing(SalaryBand::getMinSalary, Comparator.nullsFirst(Comparator.naturalOrder())))
+                .toList();
+        for (int i = 1; i < sorted.size(); i++) {
+            Float previousMax = sorted.get(i - 1).getMaxSalary();
+            Float min = sorted.get(i).getMinSalary();
+            if (previousMax == null || min == null || min < previousMax) {
+                throw new IllegalArgumentException("Salary bands must not overlap");
+            }
+        }
+    }
+
+    SalaryAdjustmentRequest request() {
+        return request;
+    }
+
+    int bandCount() {
+        return predicates.size();
+    }
+
+    MapSqlParameterSource parameters() {
+        return new MapSqlParameterSource(parameters.getValues());
+    }
+
+    /** Count, current total, adjusted total and largest single change of the employees one band would change. */
+    String impactSql(int band) {
+        String newSalary = newSalaries.get(band);
+        return "select count(*), coalesce(sum(salary), 0), coalesce(sum(" + newSalary + "), 0), "
+                + "coalesce(max(abs(" + newSalary + " - salary)), 0) from employee where "
+                + predicates.get(band) + " and " + newSalary + " <> salary";
+    }
+
+    /**
+     * Adjusts the employees with ids in {@code [:from, :to)} whose salary would change,
+     * stamping them with {@code :updatedAt}.
+     */
+    String updateSql() {
+        StringBuilder salary = new StringBuilder("case");
+        List<String> changed = new ArrayList<>(bandCount());
+        for (int i = 0; i < bandCount(); i++) {
+            salary.append(" when ").append(predicates.get(i)).append(" then ").append(newSalaries.get(i));
+            changed.add("(" + predicates.get(i) + " and " + newSalaries.get(i) + " <> salary)");
+        }
+        salary.append(" end");
+        return "update employee set salary = " + salary + ", version = version + 1, updated_at = :updatedAt "
+                + "where id >= :from and id < :to and (" + String.join(" or ", changed) + ")";
+    }
+
+    /** Reads back the rows {@link #updateSql()} just changed. */
+    String changedSql() {
+        return "select " + COLUMNS + " from employee where id >= :from and id < :to and updated_at = :updatedAt";
+    }
+}
@@ -0,0 +1,332 @@
+package org.test.sampath_bank.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.test.sampath_bank.config.CacheConfig;
+import org.test.sampath_bank.dto.EmployeeDTO;
+import org.test.sampath_bank.dto.SalaryAdjustmentImpactDTO;
+import org.test.sampath_bank.dto.SalaryAdjustmentJobDTO;
+import org.test.sampath_bank.dto.SalaryAdjustmentRequest;
+import org.test.sampath_bank.dto.SalaryBandImpactDTO;
+import org.test.sampath_bank.event.EmployeeChangedEvent;
+import org.test.sampath_bank.event.EmployeeChangedEvent.ChangeType;
+import org.test.sampath_bank.exception.ResourceNotFoundException;
+import org.test.sampath_bank.model.SalaryAdjustmentJob;
+import org.test.sampath_bank.model.SalaryAdjustmentJob.State;
+import org.test.sampath_bank.repository.SalaryAdjustmentChunkRepository;
+import org.test.sampath_bank.repository.SalaryAdjustmentJobRepository;
+
+import java.io.UncheckedIOException;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Bulk salary adjustments. Instead of a read-modify-write per employee, a job splits the
+ * id space into ranges of {@code employee.salary-adjustment.chunk-size} ids and applies
+ * the rules to each range with one {@code UPDATE}, {@code employee.salary-adjustment.parallelism}
+ * ranges at a time. Every range commits on its own, together with its outbox events and
+ * a {@link org.test.sampath_bank.model.SalaryAdjustmentChunk} marker; the marker is
+ * inserted first and keyed by job and range, so a range can never be adjusted twice.
+ * A failed or interrupted job is resumed by running it again: ranges already marked
+ * are skipped.
+ * <p>
+ * A job covers the ids that existed when it was created. Not available with sharded
+ * storage.
+ */
+@Service
+@ConditionalOnProperty(name = "employee.sharding.enabled", havingValue = "false", matchIfMissing = true)
+public class SalaryAdjustmentService {
+
+    private static final Logger log = LoggerFactory.getLogger(SalaryAdjustmentService.class);
+
+    private static final String CLAIM_SQL = "insert into salary_adjustment_chunk (job_id, range_start, rows_updated, completed_at) "
+            + "values (:jobId, :rangeStart, 0, :completedAt)";
+
+    private static final String COMPLETE_SQL = "update salary_adjustment_chunk set rows_updated = :rowsUpdated, "
+            + "completed_at = :completedAt where job_id = :jobId and range_start = :rangeStart";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final SalaryAdjustmentJobRepository jobRepository;
+    private final SalaryAdjustmentChunkRepository chunkRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final CacheManager cacheManager;
+    private final ObjectMapper objectMapper;
+    private final int chunkSize;
+    private final int parallelism;
+
+    private final Map<Long, AtomicReference<RuntimeException>> runs = new ConcurrentHashMap<>();
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private volatile boolean stopping;
+
+    public SalaryAdjustmentService(
+            NamedParameterJdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            SalaryAdjustmentJobRepository jobRepository,
+            SalaryAdjustmentChunkRepository chunkRepository,
+            ApplicationEventPublisher eventPublisher,
+            CacheManager cacheManager,
+            ObjectMapper objectMapper,
+            @Value("${employee.salary-adjustment.chunk-size:1000}") int chunkSize,
+            @Value("${employee.salary-adjustment.parallelism:4}") int parallelism) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.jobRepository = jobRepository;
+        this.chunkRepository = chunkRepository;
+        this.eventPublisher = eventPublisher;
+        this.cacheManager = cacheManager;
+        this.objectMapper = objectMapper;
+        this.chunkSize = chunkSize;
+        this.parallelism = parallelism;
+    }
+
+    @PreDestroy
+    void stop() throws InterruptedException {
+        // Workers finish the range they are on; the job stays RUNNING and can be resumed.
+        stopping = true;
+        executor.shutdown();
+        executor.awaitTermination(30, TimeUnit.SECONDS);
+    }
+
+    /** Dry run: what the rules would change, per band, without writing anything. */
+    @Transactional(readOnly = true)
+    public SalaryAdjustmentImpactDTO preview(SalaryAdjustmentRequest request) {
+        SalaryAdjustmentRules rules = new SalaryAdjustmentRules(request);
+        List<SalaryBandImpactDTO> bands = new ArrayList<>(rules.bandCount());
+        for (int i = 0; i < rules.bandCount(); i++) {
+            int band = i;
+            bands.add(jdbcTemplate.queryForObject(rules.impactSql(band), rules.parameters(),
+                    (rs, rowNum) -> new SalaryBandImpactDTO(request.getBands().get(band),
+                            rs.getLong(1), rs.getDouble(2), rs.getDouble(3), rs.getDouble(4))));
+        }
+        return new SalaryAdjustmentImpactDTO(bands);
+    }
+
+    public SalaryAdjustmentJobDTO start(SalaryAdjustmentRequest request) {
+        SalaryAdjustmentRules rules = new SalaryAdjustmentRules(request);
+        SalaryAdjustmentJob job = transactionTemplate.execute(status -> {
+            SalaryAdjustmentJob created = new SalaryAdjustmentJob();
+            jdbcTemplate.getJdbcOperations().query("select min(id), max(id) from employee", rs -> {
+                long firstId = rs.getLong(1);
+                boolean empty = rs.wasNull();
+                long lastId = rs.getLong(2);
+                created.setFirstId(firstId);
+                created.setLastId(lastId);
+                created.setTotalChunks(empty ? 0 : (lastId - firstId) / chunkSize + 1);
+            });
+            Instant now = Instant.now();
+            created.setRules(writeRules(request));
+            created.setState(State.RUNNING);
+            created.setChunkSize(chunkSize);
+            created.setCreatedAt(now);
+            created.setStartedAt(now);
+            return jobRepository.save(created);
+        });
+        log.info("Salary adjustment job {} started over {} id ranges", job.getId(), job.getTotalChunks());
+        launch(job, rules);
+        return toDTO(job);
+    }
+
+    /** Runs the job again from the ranges it has not finished yet. A completed job is returned as is. */
+    public SalaryAdjustmentJobDTO resume(Long id) {
+        SalaryAdjustmentJob job = findJob(id);
+        if (job.getState() != State.COMPLETED && !runs.containsKey(id)) {
+            job.setState(State.RUNNING);
+            job.setStartedAt(Instant.now());
+            job.setFinishedAt(null);
+            job.setFailure(null);
+            job = jobRepository.save(job);
+            log.info("Salary adjustment job {} resumed", id);
+            launch(job, new SalaryAdjustmentRules(readRules(job)));
+        }
+        return toDTO(job);
+    }
+
+    public SalaryAdjustmentJobDTO getJob(Long id) {
+        return toDTO(findJob(id));
+    }
+
+    private void launch(SalaryAdjustmentJob job, SalaryAdjustmentRules rules) {
+        AtomicReference<RuntimeException> failure = new AtomicReference<>();
+        if (runs.putIfAbsent(job.getId(), failure) != null) {
+            return;
+        }
+        executor.execute(() -> {
+            try {
+                run(job, rules, failure);
+            } finally {
+                runs.remove(job.getId());
+            }
+        });
+    }
+
+    private void run(SalaryAdjustmentJob job, SalaryAdjustmentRules rules, AtomicReference<RuntimeException> failure) {
+        try {
+            Set<Long> done = chunkRepository.findRangeStarts(job.getId());
+            AtomicLong nextChunk = new AtomicLong();
+            List<Future<?>> workers = new ArrayList<>(parallelism);
+            for (int i = 0; i < parallelism; i++) {
+                workers.add(executor.submit(() -> {
+                    long chunk;
+                    while (!stopping && failure.get() == null && (chunk = nextChunk.getAndIncrement()) < job.getTotalChunks()) {
+                        long from = job.getFirstId() + chunk * job.getChunkSize();
+                        if (!done.contains(from)) {
+                            try {
+                                adjustRange(job.getId(), rules, from, from + job.getChunkSize());
+                            } catch (RuntimeException ex) {
+                                failure.compareAndSet(null, ex);
+                            }
+                        }
+                    }
+                }));
+            }
+            for (Future<?> worker : workers) {
+                worker.get();
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return;
+        } catch (ExecutionException | RuntimeException ex) {
+            failure.compareAndSet(null, new IllegalStateException("Salary adjustment job " + job.getId() + " failed", ex));
+        }
+
+        if (failure.get() != null) {
+            log.error("Salary adjustment job {} failed; resume it to continue", job.getId(), failure.get());
+            finish(job.getId(), State.FAILED, String.valueOf(failure.get().getMessage()));
+        } else if (!stopping) {
+            log.info("Salary adjustment job {} completed", job.getId());
+            finish(job.getId(), State.COMPLETED, null);
+        }
+    }
+
+    private void adjustRange(Long jobId, SalaryAdjustmentRules rules, long from, long to) {
+        // Truncated to what a timestamp(6) column keeps, so the rows can be found again by it.
+        Timestamp updatedAt = Timestamp.from(Instant.now().truncatedTo(ChronoUnit.MICROS));
+        MapSqlParameterSource marker = new MapSqlParameterSource()
+                .addValue("jobId", jobId)
+                .addValue("rangeStart", from)
+                .addValue("completedAt", updatedAt);
+        MapSqlParameterSource parameters = rules.parameters()
+                .addValue("from", from)
+                .addValue("to", to)
+                .addValue("updatedAt", updatedAt);
+
+        List<Long> changedIds = transactionTemplate.execute(status -> {
+            try {
+                jdbcTemplate.update(CLAIM_SQL, marker);
+            } catch (DuplicateKeyException ex) {
+                // Another run of this job has already adjusted the range.
+                status.setRollbackOnly();
+                return List.<Long>of();
+            }
+            List<EmployeeDTO> changed = jdbcTemplate.update(rules.updateSql(), parameters) == 0
+                    ? List.of()
+                    : jdbcTemplate.query(rules.changedSql(), parameters, SalaryAdjustmentService::mapRow);
+            for (EmployeeDTO employeeDTO : changed) {
+                eventPublisher.publishEvent(new EmployeeChangedEvent(ChangeType.UPDATED, employeeDTO.getId(), employeeDTO));
+            }
+            jdbcTemplate.update(COMPLETE_SQL, marker
+                    .addValue("rowsUpdated", changed.size())
+                    .addValue("completedAt", Timestamp.from(Instant.now())));
+            return changed.stream().map(EmployeeDTO::getId).toList();
+        });
+
+        Cache cache = cacheManager.getCache(CacheConfig.EMPLOYEES_CACHE);
+        if (cache != null) {
+            for (Long id : changedIds) {
+                cache.evict(id);
+            }
+        }
+    }
+
+    private void finish(Long id, State state, String failure) {
+        SalaryAdjustmentJob job = findJob(id);
+        job.setState(state);
+        job.setFinishedAt(Instant.now());
+        job.setFailure(failure == null || failure.length() <= 1024 ? failure : failure.substring(0, 1024));
+        jobRepository.save(job);
+    }
+
+    private SalaryAdjustmentJob findJob(Long id) {
+        return jobRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Salary adjustment job not found with id: " + id));
+    }
+
+    private SalaryAdjustmentJobDTO toDTO(SalaryAdjustmentJob job) {
+        SalaryAdjustmentJobDTO dto = new SalaryAdjustmentJobDTO();
+        dto.setId(job.getId());
+        dto.setState(job.getState());
+        dto.setActive(runs.containsKey(job.getId()));
+        dto.setRules(readRules(job));
+        dto.setTotalChunks(job.getTotalChunks());
+        dto.setCompletedChunks(chunkRepository.countByJobId(job.getId()));
+        dto.setEmployeesUpdated(chunkRepository.sumRowsUpdated(job.getId(), Instant.EPOCH));
+        dto.setCreatedAt(job.getCreatedAt());
+        dto.setStartedAt(job.getStartedAt());
+        dto.setFinishedAt(job.getFinishedAt());
+        dto.setFailure(job.getFailure());
+        if (job.getStartedAt() != null) {
+            Instant end = job.getFinishedAt() != null ? job.getFinishedAt() : Instant.now();
+            long millis = Duration.between(job.getStartedAt(), end).toMillis();
+            long updatedThisRun = chunkRepository.sumRowsUpdated(job.getId(), job.getStartedAt());
+            dto.setEmployeesPerSecond(millis > 0 ? updatedThisRun * 1000.0 / millis : 0);
+        }
+        return dto;
+    }
+
+    private String writeRules(SalaryAdjustmentRequest request) {
+        try {
+            return objectMapper.writeValueAsString(request);
+        } catch (JsonProcessingException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private SalaryAdjustmentRequest readRules(SalaryAdjustmentJob job) {
+        try {
+            return objectMapper.readValue(job.getRules(), SalaryAdjustmentRequest.class);
+        } catch (JsonProcessingException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private static EmployeeDTO mapRow(ResultSet rs, int rowNum) throws SQLException {
+        float salary = rs.getFloat("salary");
+        Float nullableSalary = rs.wasNull() ? null : salary;
+        Timestamp updatedAt = rs.getTimestamp("updated_at");
+        return new EmployeeDTO(rs.getLong("id"), rs.getString("first_name"), rs.getString("last_name"),
+                rs.getString("email"), nullableSalary, rs.getLong("version"),
+                updatedAt == null ? null : updatedAt.toInstant());
+    }
+}
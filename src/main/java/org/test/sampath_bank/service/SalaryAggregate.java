@@ -0,0 +1,89 @@
+package org.test.sampath_bank.service;
+
+import org.test.sampath_bank.dto.SalaryBucketDTO;
+import org.test.sampath_bank.dto.SalaryStatisticsDTO;
+import org.test.sampath_bank.repository.EmployeeRepositoryCustom.SalaryBucketCount;
+import org.test.sampath_bank.repository.EmployeeRepositoryCustom.SalaryTotals;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Running salary aggregate for one filter. Seeded from the database once and then
+ * kept current by {@link #add(float)} as employees are created.
+ */
+final class SalaryAggregate {
+
+    private static final double[] PERCENTILES = {0.5, 0.9, 0.99};
+
+    private final float bucketWidth;
+    private long count;
+    private double sum;
+    private Float min;
+    private Float max;
+    private final TreeMap<Long, Long> buckets = new TreeMap<>();
+
+    SalaryAggregate(float bucketWidth, SalaryTotals totals, List<SalaryBucketCount> histogram) {
+        this.bucketWidth = bucketWidth;
+        this.count = totals.count();
+        this.sum = totals.sum();
+        this.min = totals.min();
+        this.max = totals.max();
+        for (SalaryBucketCount bucket : histogram) {
+            buckets.put(bucket.bucket(), bucket.count());
+        }
+    }
+
+    synchronized void add(float salary) {
+        count++;
+        sum += salary;
+        min = min == null ? salary : Math.min(min, salary);
+        max = max == null ? salary : Math.max(max, salary);
+        buckets.merge((long) Math.floor(salary / bucketWidth), 1L, Long::sum);
+    }
+
+    synchronized SalaryStatisticsDTO toDTO() {
+        SalaryStatisticsDTO dto = new SalaryStatisticsDTO();
+        dto.setCount(count);
+        dto.setSum(sum);
+        dto.setMin(min);
+        dto.setMax(max);
+        dto.setAverage(count == 0 ? null : sum / count);
+
+        List<SalaryBucketDTO> bucketDTOs = new ArrayList<>(buckets.size());
+        long histogramCount = 0;
+        for (Map.Entry<Long, Long> bucket : buckets.entrySet()) {
+            bucketDTOs.add(new SalaryBucketDTO(
+                    bucket.getKey() * (double) bucketWidth, (bucket.getKey() + 1) * (double) bucketWidth, bucket.getValue()));
+            histogramCount += bucket.getValue();
+        }
+        dto.setBuckets(bucketDTOs);
+
+        Map<String, Double> percentiles = new LinkedHashMap<>();
+        if (histogramCount > 0) {
+            for (double percentile : PERCENTILES) {
+                percentiles.put("p" + Math.round(percentile * 100), estimatePercentile(percentile, histogramCount));
+            }
+        }
+        dto.setPercentiles(percentiles);
+        return dto;
+    }
+
+    /** Linear interpolation inside the bucket holding the target rank, clamped to [min, max]. */
+    private double estimatePercentile(double percentile, long histogramCount) {
+        long rank = Math.max(1, (long) Math.ceil(percentile * histogramCount));
+        long seen = 0;
+        for (Map.Entry<Long, Long> bucket : buckets.entrySet()) {
+            if (seen + bucket.getValue() >= rank) {
+                double fraction = (double) (rank - seen) / bucket.getValue();
+                double estimate = (bucket.getKey() + fraction) * bucketWidth;
+                return Math.max(min, Math.min(max, estimate));
+            }
+            seen += bucket.getValue();
+        }
+        return max;
+    }
+}
@@ -0,0 +1,89 @@
+package org.test.sampath_bank.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.test.sampath_bank.dto.EmployeeFilter;
+import org.test.sampath_bank.dto.SalaryStatisticsDTO;
+import org.test.sampath_bank.event.EmployeeChangedEvent;
+import org.test.sampath_bank.event.EmployeeChangedEvent.ChangeType;
+import org.test.sampath_bank.repository.EmployeeRepository;
+import org.test.sampath_bank.sharding.ShardedEmployeeStore;
+
+import java.util.Optional;
+
+/**
+ * Salary statistics computed in the database and cached per filter. New employees
+ * are folded into every cached aggregate they match. Updates and deletes only carry
+ * the new state, so they drop the cached aggregates, which are rebuilt on next read.
+ * With sharding enabled the totals and histogram are gathered from every shard.
+ */
+@Service
+public class SalaryStatisticsService {
+
+    private final EmployeeRepository employeeRepository;
+    private final Optional<ShardedEmployeeStore> shardedStore;
+    private final float bucketWidth;
+    private final Cache<EmployeeFilter, SalaryAggregate> aggregates;
+    private final Object writeLock = new Object();
+    private long writeGeneration;
+
+    public SalaryStatisticsService(
+            EmployeeRepository employeeRepository,
+            Optional<ShardedEmployeeStore> shardedStore,
+            @Value("${employee.stats.bucket-width:10000}") float bucketWidth,
+            @Value("${employee.stats.cache-size:256}") long cacheSize) {
+        this.employeeRepository = employeeRepository;
+        this.shardedStore = shardedStore;
+        this.bucketWidth = bucketWidth;
+        this.aggregates = Caffeine.newBuilder().maximumSize(cacheSize).build();
+    }
+
+    @Transactional(readOnly = true)
+    public SalaryStatisticsDTO getSalaryStatistics(EmployeeFilter filter) {
+        SalaryAggregate aggregate = aggregates.getIfPresent(filter);
+        if (aggregate != null) {
+            return aggregate.toDTO();
+        }
+
+        long generation;
+        synchronized (writeLock) {
+            generation = writeGeneration;
+        }
+        aggregate = shardedStore
+                .map(store -> new SalaryAggregate(bucketWidth,
+                        store.salaryTotals(filter),
+                        store.salaryHistogram(filter, bucketWidth)))
+                .orElseGet(() -> new SalaryAggregate(bucketWidth,
+                        employeeRepository.salaryTotals(filter),
+                        employeeRepository.salaryHistogram(filter, bucketWidth)));
+        synchronized (writeLock) {
+            // A write that landed while we were querying may or may not be in the result,
+            // so only cache it if nothing was written in between.
+            if (generation == writeGeneration) {
+                aggregates.asMap().putIfAbsent(filter, aggregate);
+            }
+        }
+        return aggregate.toDTO();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEmployeeChanged(EmployeeChangedEvent event) {
+        synchronized (writeLock) {
+            writeGeneration++;
+            if (event.type() == ChangeType.CREATED && event.employee().getSalary() != null) {
+                float salary = event.employee().getSalary();
+                aggregates.asMap().forEach((filter, aggregate) -> {
+                    if (filter.matches(event.employee())) {
+                        aggregate.add(salary);
+                    }
+                });
+            } else {
+                aggregates.invalidateAll();
+            }
+        }
+    }
+}
@@ -0,0 +1,271 @@
+package org.test.sampath_bank.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.CachePut;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Primary;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.test.sampath_bank.config.CacheConfig;
+import org.test.sampath_bank.dto.EmployeeDTO;
+import org.test.sampath_bank.dto.EmployeeFilter;
+import org.test.sampath_bank.dto.EmployeeImportResult;
+import org.test.sampath_bank.dto.EmployeeSliceDTO;
+import org.test.sampath_bank.dto.EmployeeVersionDTO;
+import org.test.sampath_bank.event.EmployeeChangedEvent;
+import org.test.sampath_bank.event.EmployeeChangedEvent.ChangeType;
+import org.test.sampath_bank.exception.DuplicateEmailException;
+import org.test.sampath_bank.exception.EmployeeVersionConflictException;
+import org.test.sampath_bank.exception.NotShardedException;
+import org.test.sampath_bank.exception.ResourceNotFoundException;
+import org.test.sampath_bank.repository.EmployeeFields;
+import org.test.sampath_bank.sharding.ShardedEmployeeStore;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * {@link EmployeeService} over {@link ShardedEmployeeStore}, replacing
+ * {@link EmployeeServiceImpl} when {@code employee.sharding.enabled=true}. Point reads and
+ * writes go to the owning shard; pages, search, sparse fieldsets and the export are
+ * scatter-gathered. Keyset scrolling and bulk import still assume a single table and
+ * answer 501.
+ * <p>
+ * Write methods run in a transaction on the primary datasource so that change events
+ * still reach the outbox there. The shard write commits first; if the outbox transaction
+ * then rolls back, inserted rows are deleted again, so no employee is created without its
+ * change event.
+ */
+@Service
+@Primary
+@ConditionalOnProperty(name = "employee.sharding.enabled", havingValue = "true")
+public class ShardedEmployeeService implements EmployeeService {
+
+    private static final int EXPORT_BATCH_SIZE = 1000;
+
+    private final ShardedEmployeeStore store;
+    private final ApplicationEventPublisher eventPublisher;
+    private final CacheManager cacheManager;
+    private final ObjectMapper objectMapper;
+
+    public ShardedEmployeeService(ShardedEmployeeStore store, ApplicationEventPublisher eventPublisher,
+                                  CacheManager cacheManager, ObjectMapper objectMapper) {
+        this.store = store;
+        this.eventPublisher = eventPublisher;
+        this.cacheManager = cacheManager;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    @CachePut(cacheNames = CacheConfig.EMPLOYEES_CACHE, key = "#result.id")
+    @Transactional
+    public EmployeeDTO saveEmployee(EmployeeDTO employeeDTO) {
+        EmployeeDTO saved;
+        try {
+            saved = store.insert(employeeDTO);
+        } catch (DataIntegrityViolationException ex) {
+            if (!DuplicateEmailException.isDuplicateEmail(ex)) {
+                throw ex;
+            }
+            throw new DuplicateEmailException("Employee with email " + employeeDTO.getEmail() + " already exists", ex);
+        }
+        deleteOnRollback(List.of(saved.getId()));
+        eventPublisher.publishEvent(new EmployeeChangedEvent(ChangeType.CREATED, saved.getId(), saved));
+        return saved;
+    }
+
+    @Override
+    @Transactional
+    public List<EmployeeDTO> saveEmployees(List<EmployeeDTO> employeeDTOs) {
+        List<EmployeeDTO> saved = store.insertAll(employeeDTOs);
+        deleteOnRollback(saved.stream().map(EmployeeDTO::getId).toList());
+        for (EmployeeDTO employeeDTO : saved) {
+            eventPublisher.publishEvent(new EmployeeChangedEvent(ChangeType.CREATED, employeeDTO.getId(), employeeDTO));
+        }
+        return saved;
+    }
+
+    @Override
+    @Cacheable(cacheNames = CacheConfig.EMPLOYEES_CACHE, key = "#id")
+    public EmployeeDTO getEmployeeById(Long id) {
+        return store.findById(id).orElseThrow(() -> new ResourceNotFoundException("Employee not found with id: " + id));
+    }
+
+    @Override
+    public Map<Long, EmployeeDTO> getEmployeesByIds(Collection<Long> ids) {
+        return store.findAllById(ids);
+    }
+
+    @Override
+    public EmployeeVersionDTO getEmployeeVersion(Long id) {
+        EmployeeDTO employeeDTO = getEmployeeById(id);
+        return new EmployeeVersionDTO(employeeDTO.getVersion(), employeeDTO.getUpdatedAt());
+    }
+
+    @Override
+    public Page<EmployeeDTO> getAllEmployees(Pageable pageable) {
+        return store.findAll(pageable);
+    }
+
+    @Override
+    @CacheEvict(cacheNames = CacheConfig.EMPLOYEES_CACHE, key = "#id")
+    @Transactional
+    public EmployeeDTO updateEmployee(Long id, EmployeeDTO employeeDTO) {
+        Long expectedVersion = employeeDTO.getVersion();
+        Instant updatedAt = Instant.now();
+        EmployeeDTO updatedEmployeeDTO = new EmployeeDTO(id, employeeDTO.getFirstName(), employeeDTO.getLastName(),
+                employeeDTO.getEmail(), employeeDTO.getSalary(), expectedVersion, updatedAt);
+        int updated;
+        try {
+            updated = store.update(updatedEmployeeDTO, updatedAt);
+        } catch (DataIntegrityViolationException ex) {
+            if (!DuplicateEmailException.isDuplicateEmail(ex)) {
+                throw ex;
+            }
+            throw new DuplicateEmailException("Employee with email " + employeeDTO.getEmail() + " already exists", ex);
+        }
+        if (updated == 0) {
+            if (expectedVersion != null && store.existsById(id)) {
+                throw new EmployeeVersionConflictException(
+                        "Employee " + id + " was modified concurrently; expected version " + expectedVersion);
+            }
+            throw new ResourceNotFoundException("Employee not found with id: " + id);
+        }
+
+        updatedEmployeeDTO.setVersion(expectedVersion != null
+                ? expectedVersion + 1
+                : store.findById(id).map(EmployeeDTO::getVersion).orElse(null));
+        eventPublisher.publishEvent(new EmployeeChangedEvent(ChangeType.UPDATED, id, updatedEmployeeDTO));
+        return updatedEmployeeDTO;
+    }
+
+    @Override
+    @Transactional
+    public int[] updateEmployees(List<EmployeeDTO> employeeDTOs) {
+        Instant updatedAt = Instant.now();
+        int[] counts = store.updateAll(employeeDTOs, updatedAt);
+        Cache cache = cacheManager.getCache(CacheConfig.EMPLOYEES_CACHE);
+        for (int i = 0; i < counts.length; i++) {
+            EmployeeDTO employeeDTO = employeeDTOs.get(i);
+            if (cache != null) {
+                cache.evict(employeeDTO.getId());
+            }
+            if (counts[i] != 0) {
+                EmployeeDTO updatedEmployeeDTO = new EmployeeDTO(employeeDTO.getId(), employeeDTO.getFirstName(),
+                        employeeDTO.getLastName(), employeeDTO.getEmail(), employeeDTO.getSalary(),
+                        employeeDTO.getVersion() == null ? null : employeeDTO.getVersion() + 1, updatedAt);
+                eventPublisher.publishEvent(new EmployeeChangedEvent(ChangeType.UPDATED, employeeDTO.getId(), updatedEmployeeDTO));
+            }
+        }
+        return counts;
+    }
+
+    @Override
+    @CacheEvict(cacheNames = CacheConfig.EMPLOYEES_CACHE, key = "#id")
+    @Transactional
+    public void deleteEmployee(Long id) {
+        if (store.deleteById(id) == 0) {
+            throw new ResourceNotFoundException("Employee not found with id: " + id);
+        }
+        eventPublisher.publishEvent(new EmployeeChangedEvent(ChangeType.DELETED, id, null));
+    }
+
+    @Override
+    public Slice<EmployeeDTO> searchEmployees(EmployeeFilter filter, int page, int size) {
+        EmployeeServiceImpl.requireIndexedPredicate(filter);
+        return store.search(filter, page, size);
+    }
+
+    @Override
+    public Slice<Map<String, Object>> searchEmployees(EmployeeFilter filter, List<String> fields, int page, int size) {
+        fields.forEach(ShardedEmployeeService::requireField);
+        return searchEmployees(filter, page, size).map(employeeDTO -> project(employeeDTO, fields));
+    }
+
+    @Override
+    public Page<Map<String, Object>> getAllEmployees(Pageable pageable, List<String> fields) {
+        fields.forEach(ShardedEmployeeService::requireField);
+        return store.findAll(pageable).map(employeeDTO -> project(employeeDTO, fields));
+    }
+
+    @Override
+    public EmployeeSliceDTO getEmployeesAfter(String after, int size, String sort, Sort.Direction direction) {
+        throw unsupported("Keyset scrolling");
+    }
+
+    @Override
+    public EmployeeImportResult importEmployees(Iterator<EmployeeDTO> employeeDTOs) {
+        throw unsupported("Bulk import");
+    }
+
+    @Override
+    public long exportEmployees(ExportFormat format, OutputStream outputStream) throws IOException {
+        EmployeeExportWriter exportWriter = new EmployeeExportWriter(format, outputStream, objectMapper);
+        Iterator<EmployeeDTO> employees = store.iterateAll(EXPORT_BATCH_SIZE);
+        while (employees.hasNext()) {
+            exportWriter.write(employees.next());
+        }
+        return exportWriter.finish();
+    }
+
+    /** The sparse fieldset of a full row, keyed and ordered like the single-table projection. */
+    private static Map<String, Object> project(EmployeeDTO employeeDTO, List<String> fields) {
+        Map<String, Object> row = new LinkedHashMap<>(fields.size() * 2);
+        for (String field : fields) {
+            row.put(field, switch (field) {
+                case "id" -> employeeDTO.getId();
+                case "firstName" -> employeeDTO.getFirstName();
+                case "lastName" -> employeeDTO.getLastName();
+                case "email" -> employeeDTO.getEmail();
+                case "salary" -> employeeDTO.getSalary();
+                case "version" -> employeeDTO.getVersion();
+                case "updatedAt" -> employeeDTO.getUpdatedAt();
+                default -> throw new IllegalArgumentException("Unknown employee field: " + field);
+            });
+        }
+        return row;
+    }
+
+    private static void requireField(String field) {
+        if (!EmployeeFields.ALL.contains(field)) {
+            throw new IllegalArgumentException("Unknown employee field: " + field);
+        }
+    }
+
+    private static NotShardedException unsupported(String operation) {
+        return new NotShardedException(operation + " is not available with sharded employee storage");
+    }
+
+    /** Undoes committed shard inserts when the outbox transaction does not commit. */
+    private void deleteOnRollback(List<Long> ids) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_COMMITTED) {
+                    store.deleteAllById(ids);
+                }
+            }
+        });
+    }
+}
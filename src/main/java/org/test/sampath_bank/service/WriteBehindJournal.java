@@ -0,0 +1,187 @@
+package org.test.sampath_bank.service;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.test.sampath_bank.dto.EmployeeDTO;
+import org.test.sampath_bank.dto.WriteStatusDTO.Operation;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Append-only NDJSON journal of accepted write-behind requests. An accepted write is
+ * forced to disk before the caller gets its 202; completions are appended without a
+ * force, so after a crash a write may be replayed once more but is never lost. The
+ * file is truncated whenever the queue drains.
+ * <p>
+ * Forces are group-committed: appends return a future, and a single sync thread forces
+ * everything appended since its last force and completes those futures together, so
+ * concurrent submitters share one fsync instead of queueing for their own.
+ */
+final class WriteBehindJournal implements Closeable {
+
+    private static final Logger log = LoggerFactory.getLogger(WriteBehindJournal.class);
+
+    private final Path path;
+    private final ObjectMapper objectMapper;
+    private volatile FileChannel channel;
+
+    private final Object syncLock = new Object();
+    private List<CompletableFuture<Void>> unsynced = new ArrayList<>();
+    private boolean closed;
+    private final Thread syncer;
+
+    WriteBehindJournal(Path path, ObjectMapper objectMapper) throws IOException {
+        this.path = path.toAbsolutePath();
+        this.objectMapper = objectMapper;
+        Files.createDirectories(this.path.getParent());
+        this.channel = open();
+        this.syncer = Thread.ofPlatform().name("employee-write-behind-sync").daemon(true).start(this::runSyncer);
+    }
+
+    /**
+     * Returns the writes that were accepted but never completed, in acceptance order,
+     * and compacts the file down to just those.
+     */
+    List<PendingWrite> recover() throws IOException {
+        Map<String, JournalRecord> pending = new LinkedHashMap<>();
+        try (BufferedReader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank()) {
+                    continue;
+                }
+                JournalRecord record;
+                try {
+                    record = objectMapper.readValue(line, JournalRecord.class);
+                } catch (IOException ex) {
+                    // A crash can leave a torn last line; everything before it is intact.
+                    log.warn("Skipping unreadable write-behind journal line: {}", ex.getMessage());
+                    continue;
+                }
+                if (record.done()) {
+                    pending.remove(record.trackingId());
+                } else {
+                    pending.put(record.trackingId(), record);
+                }
+            }
+        }
+
+        channel.close();
+        Path compacted = path.resolveSibling(path.getFileName() + ".tmp");
+        try (BufferedWriter writer = Files.newBufferedWriter(compacted, StandardCharsets.UTF_8)) {
+            for (JournalRecord record : pending.values()) {
+                writer.write(objectMapper.writeValueAsString(record));
+                writer.write('\n');
+            }
+        }
+        Files.move(compacted, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        channel = open();
+
+        List<PendingWrite> writes = new ArrayList<>(pending.size());
+        for (JournalRecord record : pending.values()) {
+            writes.add(new PendingWrite(record.trackingId(), record.operation(), record.employeeId(), record.employee()));
+        }
+        return writes;
+    }
+
+    /** Appends the write and returns a future that completes once the append is on disk. */
+    CompletableFuture<Void> accepted(PendingWrite write) throws IOException {
+        append(new JournalRecord(write.trackingIds().get(0), false, write.operation(), write.employeeId(), write.employee()));
+        CompletableFuture<Void> synced = new CompletableFuture<>();
+        synchronized (syncLock) {
+            if (closed) {
+                throw new IOException("Write-behind journal is closed");
+            }
+            unsynced.add(synced);
+            syncLock.notifyAll();
+        }
+        return synced;
+    }
+
+    void completed(Collection<String> trackingIds) throws IOException {
+        for (String trackingId : trackingIds) {
+            append(new JournalRecord(trackingId, true, null, null, null));
+        }
+    }
+
+    void truncate() throws IOException {
+        channel.truncate(0);
+        channel.force(false);
+    }
+
+    @Override
+    public void close() throws IOException {
+        synchronized (syncLock) {
+            closed = true;
+            syncLock.notifyAll();
+        }
+        try {
+            // The sync thread forces whatever is still waiting before it exits.
+            syncer.join();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+        channel.close();
+    }
+
+    private void runSyncer() {
+        while (true) {
+            List<CompletableFuture<Void>> batch;
+            synchronized (syncLock) {
+                while (unsynced.isEmpty() && !closed) {
+                    try {
+                        syncLock.wait();
+                    } catch (InterruptedException ex) {
+                        closed = true;
+                    }
+                }
+                if (unsynced.isEmpty()) {
+                    return;
+                }
+                batch = unsynced;
+                unsynced = new ArrayList<>();
+            }
+            try {
+                channel.force(false);
+                batch.forEach(synced -> synced.complete(null));
+            } catch (IOException ex) {
+                log.error("Could not force the write-behind journal for {} requests", batch.size(), ex);
+                batch.forEach(synced -> synced.completeExceptionally(ex));
+            }
+        }
+    }
+
+    private FileChannel open() throws IOException {
+        return FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+    }
+
+    private void append(JournalRecord record) throws IOException {
+        byte[] line = (objectMapper.writeValueAsString(record) + "\n").getBytes(StandardCharsets.UTF_8);
+        ByteBuffer buffer = ByteBuffer.wrap(line);
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    record JournalRecord(String trackingId, boolean done, Operation operation, Long employeeId, EmployeeDTO employee) {
+    }
+}
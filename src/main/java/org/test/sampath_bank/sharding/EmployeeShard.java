@@ -0,0 +1,10 @@
+package org.test.sampath_bank.sharding;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/** One shard database: its position in the shard list and how to reach it. */
+record EmployeeShard(int index, JdbcTemplate jdbcTemplate, NamedParameterJdbcTemplate namedJdbcTemplate,
+                     TransactionTemplate transactionTemplate, ShardIdAllocator idAllocator) {
+}
@@ -0,0 +1,51 @@
+package org.test.sampath_bank.sharding;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Hands out a shard's local sequence numbers. Blocks of {@code blockSize} are reserved
+ * from the shard's {@code employee_id_block} table under a row lock and then served from
+ * memory, so one database round trip covers a whole block. Numbers of a block not used
+ * before shutdown are skipped.
+ */
+class ShardIdAllocator {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final int blockSize;
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private long next;
+    private long limit;
+
+    ShardIdAllocator(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate, int blockSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.blockSize = blockSize;
+    }
+
+    long nextSequence() {
+        lock.lock();
+        try {
+            if (next == limit) {
+                long start = reserveBlock();
+                next = start;
+                limit = start + blockSize;
+            }
+            return next++;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private long reserveBlock() {
+        return transactionTemplate.execute(status -> {
+            Long start = jdbcTemplate.queryForObject("select next_val from employee_id_block for update", Long.class);
+            jdbcTemplate.update("update employee_id_block set next_val = ?", start + blockSize);
+            return start;
+        });
+    }
+}
@@ -0,0 +1,65 @@
+package org.test.sampath_bank.sharding;
+
+import org.test.sampath_bank.dto.EmployeeFilter;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * SQL counterpart of the repository's JPQL filter builder, for the shard databases:
+ * builds the where-clause for an {@link EmployeeFilter} with a predicate only for the
+ * filters that are set, bound as named parameters.
+ */
+final class ShardQueryFilters {
+
+    private final StringBuilder where = new StringBuilder();
+    private final Map<String, Object> parameters = new LinkedHashMap<>();
+
+    ShardQueryFilters(EmployeeFilter filter) {
+        if (filter.firstNamePrefix() != null) {
+            and("first_name like :firstNamePrefix escape '!'", "firstNamePrefix", escapeLike(filter.firstNamePrefix()) + "%");
+        }
+        if (filter.lastNamePrefix() != null) {
+            and("last_name like :lastNamePrefix escape '!'", "lastNamePrefix", escapeLike(filter.lastNamePrefix()) + "%");
+        }
+        if (filter.email() != null) {
+            and("email = :email", "email", filter.email());
+        }
+        if (filter.emailDomain() != null) {
+            and("email like :emailDomain escape '!'", "emailDomain", "%@" + escapeLike(filter.emailDomain()));
+        }
+        if (filter.minSalary() != null) {
+            and("salary >= :minSalary", "minSalary", filter.minSalary());
+        }
+        if (filter.maxSalary() != null) {
+            and("salary <= :maxSalary", "maxSalary", filter.maxSalary());
+        }
+    }
+
+    /** The where-clause including the leading {@code where}, or an empty string. */
+    String where() {
+        return where.length() == 0 ? "" : " where " + where;
+    }
+
+    Map<String, Object> parameters() {
+        return parameters;
+    }
+
+    /** Adds a fixed predicate that takes no parameter. */
+    ShardQueryFilters and(String predicate) {
+        if (where.length() > 0) {
+            where.append(" and ");
+        }
+        where.append(predicate);
+        return this;
+    }
+
+    private void and(String predicate, String name, Object value) {
+        and(predicate);
+        parameters.put(name, value);
+    }
+
+    private static String escapeLike(String value) {
+        return value.replace("!", "!!").replace("%", "!%").replace("_", "!_");
+    }
+}
@@ -0,0 +1,561 @@
+package org.test.sampath_bank.sharding;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.test.sampath_bank.dto.EmployeeDTO;
+import org.test.sampath_bank.dto.EmployeeFilter;
+import org.test.sampath_bank.repository.EmployeeRepositoryCustom.SalaryBucketCount;
+import org.test.sampath_bank.repository.EmployeeRepositoryCustom.SalaryTotals;
+
+import javax.sql.DataSource;
+import java.io.Closeable;
+import java.io.IOException;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * Employee rows spread over several databases. The owning shard is encoded in each id
+ * (see {@link ShardedIds}), so reads and writes of a single employee touch one shard.
+ * New employees are placed round-robin. Pages are answered by scatter-gather: every
+ * shard returns its first {@code offset + size} rows in the requested order, in parallel,
+ * and a k-way merge keeps the global order. Deep pages therefore cost each shard the
+ * whole offset; keyset pagination is the scalable way through the table.
+ * <p>
+ * String columns are merged case-insensitively to match MySQL's default {@code _ci}
+ * collations. Uniqueness constraints such as the one on email hold per shard only.
+ */
+public class ShardedEmployeeStore implements Closeable {
+
+    private static final Logger log = LoggerFactory.getLogger(ShardedEmployeeStore.class);
+
+    private static final String COLUMNS = "id, first_name, last_name, email, salary, version, updated_at";
+
+    private static final String INSERT_SQL = "insert into employee (" + COLUMNS + ") values (?, ?, ?, ?, ?, 0, ?)";
+
+    private static final String UPDATE_SQL = "update employee set first_name = ?, last_name = ?, email = ?, salary = ?, "
+            + "version = version + 1, updated_at = ? where id = ? and (? is null or version = ?)";
+
+    private static final Map<String, String> SORT_COLUMNS = Map.of(
+            "id", "id",
+            "firstName", "first_name",
+            "lastName", "last_name",
+            "email", "email",
+            "salary", "salary",
+            "version", "version",
+            "updatedAt", "updated_at");
+
+    private static final RowMapper<EmployeeDTO> ROW_MAPPER = ShardedEmployeeStore::mapRow;
+
+    private final List<DataSource> dataSources;
+    private final List<EmployeeShard> shards;
+    private final AtomicInteger nextShard = new AtomicInteger();
+    private final ExecutorService scatterExecutor = Executors.newVirtualThreadPerTaskExecutor();
+
+    /** Shard {@code i} is {@code dataSources.get(i)}; closing the store closes them. */
+    public ShardedEmployeeStore(List<? extends DataSource> dataSources, int idBlockSize) {
+        if (dataSources.isEmpty() || dataSources.size() > ShardedIds.MAX_SHARDS) {
+            throw new IllegalArgumentException("Between 1 and " + ShardedIds.MAX_SHARDS + " shards are required");
+        }
+        this.dataSources = List.copyOf(dataSources);
+        List<EmployeeShard> shards = new ArrayList<>(dataSources.size());
+        for (DataSource dataSource : dataSources) {
+            JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+            TransactionTemplate transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+            shards.add(new EmployeeShard(shards.size(), jdbcTemplate, new NamedParameterJdbcTemplate(jdbcTemplate),
+                    transactionTemplate, new ShardIdAllocator(jdbcTemplate, transactionTemplate, idBlockSize)));
+        }
+        this.shards = List.copyOf(shards);
+    }
+
+    public int shardCount() {
+        return shards.size();
+    }
+
+    public EmployeeDTO insert(EmployeeDTO employeeDTO) {
+        return insertAll(List.of(employeeDTO)).get(0);
+    }
+
+    /**
+     * Inserts the employees with one JDBC batch per shard and returns them with ids assigned.
+     * Each shard's batch is a transaction of its own. If any shard fails, the rows already
+     * committed on the other shards are deleted again before the failure is rethrown, so
+     * the insert is all or nothing and a retry does not leave duplicates behind.
+     */
+    public List<EmployeeDTO> insertAll(List<EmployeeDTO> employeeDTOs) {
+        Instant updatedAt = Instant.now();
+        Map<EmployeeShard, List<EmployeeDTO>> byShard = new HashMap<>();
+        List<EmployeeDTO> inserted = new ArrayList<>(employeeDTOs.size());
+        for (EmployeeDTO employeeDTO : employeeDTOs) {
+            EmployeeShard shard = shards.get(Math.floorMod(nextShard.getAndIncrement(), shards.size()));
+            long id = ShardedIds.compose(shard.idAllocator().nextSequence(), shard.index());
+            EmployeeDTO row = new EmployeeDTO(id, employeeDTO.getFirstName(), employeeDTO.getLastName(),
+                    employeeDTO.getEmail(), employeeDTO.getSalary(), 0L, updatedAt);
+            byShard.computeIfAbsent(shard, s -> new ArrayList<>()).add(row);
+            inserted.add(row);
+        }
+
+        List<EmployeeShard> targets = new ArrayList<>(byShard.keySet());
+        List<CompletableFuture<int[][]>> writes = targets.stream()
+                .map(shard -> CompletableFuture.supplyAsync(() -> shard.transactionTemplate().execute(status ->
+                        shard.jdbcTemplate().batchUpdate(INSERT_SQL, byShard.get(shard), 1000,
+                                ShardedEmployeeStore::setInsertValues)), scatterExecutor))
+                .toList();
+        RuntimeException failure = null;
+        List<EmployeeShard> committed = new ArrayList<>(targets.size());
+        for (int i = 0; i < targets.size(); i++) {
+            try {
+                join(writes.get(i));
+                committed.add(targets.get(i));
+            } catch (RuntimeException ex) {
+                if (failure == null) {
+                    failure = ex;
+                } else {
+                    failure.addSuppressed(ex);
+                }
+            }
+        }
+        if (failure != null) {
+            for (EmployeeShard shard : committed) {
+                List<Long> ids = byShard.get(shard).stream().map(EmployeeDTO::getId).toList();
+                try {
+                    deleteAll(shard, ids);
+                } catch (RuntimeException ex) {
+                    log.error("Could not undo {} employee inserts on shard {}: {}", ids.size(), shard.index(), ids, ex);
+                    failure.addSuppressed(ex);
+                }
+            }
+            throw failure;
+        }
+        return inserted;
+    }
+
+    /** Deletes the employees that exist, with one statement per shard involved. */
+    public void deleteAllById(Collection<Long> ids) {
+        Map<EmployeeShard, List<Long>> byShard = new HashMap<>();
+        for (Long id : ids) {
+            shardFor(id).ifPresent(shard -> byShard.computeIfAbsent(shard, s -> new ArrayList<>()).add(id));
+        }
+        scatter(byShard.keySet(), shard -> deleteAll(shard, byShard.get(shard)));
+    }
+
+    public Optional<EmployeeDTO> findById(long id) {
+        return shardFor(id).flatMap(shard -> shard.jdbcTemplate()
+                .query("select " + COLUMNS + " from employee where id = ?", ROW_MAPPER, id)
+                .stream().findFirst());
+    }
+
+    public boolean existsById(long id) {
+        return findById(id).isPresent();
+    }
+
+    /** Loads the employees that exist, with one query per shard involved, run in parallel. */
+    public Map<Long, EmployeeDTO> findAllById(Collection<Long> ids) {
+        Map<EmployeeShard, List<Long>> byShard = new HashMap<>();
+        for (Long id : ids) {
+            shardFor(id).ifPresent(shard -> byShard.computeIfAbsent(shard, s -> new ArrayList<>()).add(id));
+        }
+        Map<Long, EmployeeDTO> found = new HashMap<>();
+        for (List<EmployeeDTO> rows : scatter(byShard.keySet(), shard -> shard.namedJdbcTemplate().query(
+                "select " + COLUMNS + " from employee where id in (:ids)", Map.of("ids", byShard.get(shard)), ROW_MAPPER))) {
+            for (EmployeeDTO row : rows) {
+                found.put(row.getId(), row);
+            }
+        }
+        return found;
+    }
+
+    public Page<EmployeeDTO> findAll(Pageable pageable) {
+        Sort sort = pageable.getSort();
+        String sql = "select " + COLUMNS + " from employee" + orderBy(sort) + " limit ?";
+        long fetch = pageable.getOffset() + pageable.getPageSize();
+        if (fetch > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Page is too deep for scatter-gather: " + pageable);
+        }
+
+        List<CompletableFuture<Long>> counts = shards.stream()
+                .map(shard -> CompletableFuture.supplyAsync(
+                        () -> shard.jdbcTemplate().queryForObject("select count(*) from employee", Long.class), scatterExecutor))
+                .toList();
+        List<List<EmployeeDTO>> runs = scatter(shards, shard -> shard.jdbcTemplate().query(sql, ROW_MAPPER, (int) fetch));
+        long total = 0;
+        for (CompletableFuture<Long> count : counts) {
+            total += join(count);
+        }
+        List<EmployeeDTO> content = mergeSorted(runs, comparator(sort), pageable.getOffset(), pageable.getPageSize());
+        return new PageImpl<>(content, pageable, total);
+    }
+
+    /**
+     * Filtered search, scatter-gathered like {@link #findAll}: the order is the one the
+     * single-table repository uses for the same filter, with id as the tiebreaker.
+     */
+    public Slice<EmployeeDTO> search(EmployeeFilter filter, int page, int size) {
+        long fetch = (long) (page + 1) * size + 1;
+        if (fetch > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Page is too deep for scatter-gather: " + page);
+        }
+        Sort sort = searchSort(filter);
+        ShardQueryFilters filters = new ShardQueryFilters(filter);
+        String sql = "select " + COLUMNS + " from employee" + filters.where() + orderBy(sort) + " limit :limit";
+        Map<String, Object> parameters = new HashMap<>(filters.parameters());
+        parameters.put("limit", (int) fetch);
+        List<List<EmployeeDTO>> runs = scatter(shards, shard -> shard.namedJdbcTemplate().query(sql, parameters, ROW_MAPPER));
+        List<EmployeeDTO> rows = mergeSorted(runs, comparator(sort), (long) page * size, size + 1);
+        boolean hasNext = rows.size() > size;
+        return new SliceImpl<>(hasNext ? rows.subList(0, size) : rows, PageRequest.of(page, size), hasNext);
+    }
+
+    /**
+     * Every employee in id order. Each shard is read lazily in keyset batches of
+     * {@code batchSize} and the batches are merged, so an export holds one batch per
+     * shard in memory however large the table grows.
+     */
+    public Iterator<EmployeeDTO> iterateAll(int batchSize) {
+        List<Iterator<EmployeeDTO>> runs = shards.stream()
+                .map(shard -> (Iterator<EmployeeDTO>) new KeysetIterator(shard, batchSize))
+                .toList();
+        return merge(runs, comparator("id"));
+    }
+
+    /** Salary totals over all shards: one aggregate query per shard, run in parallel, then combined. */
+    public SalaryTotals salaryTotals(EmployeeFilter filter) {
+        ShardQueryFilters filters = new ShardQueryFilters(filter);
+        String sql = "select count(*), sum(salary), min(salary), max(salary) from employee" + filters.where();
+        long count = 0;
+        double sum = 0;
+        Float min = null;
+        Float max = null;
+        for (SalaryTotals totals : scatter(shards, shard -> shard.namedJdbcTemplate().queryForObject(sql,
+                filters.parameters(), (rs, rowNum) -> {
+                    float shardMin = rs.getFloat(3);
+                    boolean minNull = rs.wasNull();
+                    float shardMax = rs.getFloat(4);
+                    boolean maxNull = rs.wasNull();
+                    return new SalaryTotals(rs.getLong(1), rs.getDouble(2), minNull ? null : shardMin, maxNull ? null : shardMax);
+                }))) {
+            count += totals.count();
+            sum += totals.sum();
+            if (totals.min() != null) {
+                min = min == null ? totals.min() : Math.min(min, totals.min());
+            }
+            if (totals.max() != null) {
+                max = max == null ? totals.max() : Math.max(max, totals.max());
+            }
+        }
+        return new SalaryTotals(count, sum, min, max);
+    }
+
+    /** Salary histogram over all shards; bucket counts from each shard are added up. */
+    public List<SalaryBucketCount> salaryHistogram(EmployeeFilter filter, float bucketWidth) {
+        ShardQueryFilters filters = new ShardQueryFilters(filter).and("salary is not null");
+        // Inlined rather than bound, as in the repository query, so GROUP BY matches the select list.
+        String bucket = "floor(salary / " + Float.toString(bucketWidth) + ")";
+        String sql = "select " + bucket + ", count(*) from employee" + filters.where() + " group by " + bucket;
+        TreeMap<Long, Long> buckets = new TreeMap<>();
+        for (List<SalaryBucketCount> rows : scatter(shards, shard -> shard.namedJdbcTemplate().query(sql,
+                filters.parameters(), (rs, rowNum) -> new SalaryBucketCount(rs.getLong(1), rs.getLong(2))))) {
+            for (SalaryBucketCount row : rows) {
+                buckets.merge(row.bucket(), row.count(), Long::sum);
+            }
+        }
+        return buckets.entrySet().stream()
+                .map(entry -> new SalaryBucketCount(entry.getKey(), entry.getValue()))
+                .toList();
+    }
+
+    /**
+     * Applies the employee's fields, guarded by its version when it has one. Returns the
+     * number of rows updated: 0 when the employee is missing or at another version.
+     */
+    public int update(EmployeeDTO employeeDTO, Instant updatedAt) {
+        return updateAll(List.of(employeeDTO), updatedAt)[0];
+    }
+
+    /** Batch form of {@link #update}; the counts are in the order of {@code employeeDTOs}. */
+    public int[] updateAll(List<EmployeeDTO> employeeDTOs, Instant updatedAt) {
+        Map<EmployeeShard, List<Integer>> byShard = new HashMap<>();
+        for (int i = 0; i < employeeDTOs.size(); i++) {
+            int position = i;
+            shardFor(employeeDTOs.get(i).getId())
+                    .ifPresent(shard -> byShard.computeIfAbsent(shard, s -> new ArrayList<>()).add(position));
+        }
+        int[] counts = new int[employeeDTOs.size()];
+        Timestamp timestamp = Timestamp.from(updatedAt);
+        List<EmployeeShard> targets = new ArrayList<>(byShard.keySet());
+        List<int[][]> results = scatter(targets, shard -> shard.jdbcTemplate().batchUpdate(UPDATE_SQL,
+                byShard.get(shard).stream().map(employeeDTOs::get).toList(), 1000,
+                (ps, employeeDTO) -> setUpdateValues(ps, employeeDTO, timestamp)));
+        for (int s = 0; s < targets.size(); s++) {
+            List<Integer> positions = byShard.get(targets.get(s));
+            int i = 0;
+            for (int[] batch : results.get(s)) {
+                for (int count : batch) {
+                    counts[positions.get(i++)] = count;
+                }
+            }
+        }
+        return counts;
+    }
+
+    public int deleteById(long id) {
+        return shardFor(id).map(shard -> shard.jdbcTemplate().update("delete from employee where id = ?", id)).orElse(0);
+    }
+
+    @Override
+    public void close() throws IOException {
+        scatterExecutor.shutdownNow();
+        for (DataSource dataSource : dataSources) {
+            if (dataSource instanceof Closeable closeable) {
+                closeable.close();
+            }
+        }
+    }
+
+    private static int deleteAll(EmployeeShard shard, List<Long> ids) {
+        return shard.namedJdbcTemplate().update("delete from employee where id in (:ids)", Map.of("ids", ids));
+    }
+
+    private Optional<EmployeeShard> shardFor(long id) {
+        int shard = ShardedIds.shardOf(id);
+        return shard < shards.size() ? Optional.of(shards.get(shard)) : Optional.empty();
+    }
+
+    private <T> List<T> scatter(Collection<EmployeeShard> targets, Function<EmployeeShard, T> query) {
+        if (targets.size() == 1) {
+            return List.of(query.apply(targets.iterator().next()));
+        }
+        List<CompletableFuture<T>> futures = targets.stream()
+                .map(shard -> CompletableFuture.supplyAsync(() -> query.apply(shard), scatterExecutor))
+                .toList();
+        List<T> results = new ArrayList<>(futures.size());
+        for (CompletableFuture<T> future : futures) {
+            results.add(join(future));
+        }
+        return results;
+    }
+
+    private static <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw ex;
+        }
+    }
+
+    /** Merges runs that are each sorted by {@code comparator}, skipping {@code skip} rows and keeping {@code limit}. */
+    static <T> List<T> mergeSorted(List<List<T>> runs, Comparator<? super T> comparator, long skip, int limit) {
+        Iterator<T> iterator = merge(runs.stream().map(List::iterator).toList(), comparator);
+        for (long position = 0; position < skip && iterator.hasNext(); position++) {
+            iterator.next();
+        }
+        List<T> merged = new ArrayList<>(limit);
+        while (merged.size() < limit && iterator.hasNext()) {
+            merged.add(iterator.next());
+        }
+        return merged;
+    }
+
+    /** Lazy k-way merge of iterators that are each sorted by {@code comparator}. */
+    static <T> Iterator<T> merge(List<Iterator<T>> runs, Comparator<? super T> comparator) {
+        PriorityQueue<Head<T>> heads = new PriorityQueue<>(Math.max(1, runs.size()),
+                (a, b) -> comparator.compare(a.value(), b.value()));
+        for (Iterator<T> run : runs) {
+            if (run.hasNext()) {
+                heads.add(new Head<>(run.next(), run));
+            }
+        }
+        return new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                return !heads.isEmpty();
+            }
+
+            @Override
+            public T next() {
+                Head<T> head = heads.poll();
+                if (head == null) {
+                    throw new NoSuchElementException();
+                }
+                if (head.rest().hasNext()) {
+                    heads.add(new Head<>(head.rest().next(), head.rest()));
+                }
+                return head.value();
+            }
+        };
+    }
+
+    private record Head<T>(T value, Iterator<T> rest) {
+    }
+
+    /** One shard's employees in id order, fetched a batch at a time with {@code id > last}. */
+    private static final class KeysetIterator implements Iterator<EmployeeDTO> {
+
+        private final EmployeeShard shard;
+        private final int batchSize;
+        private Iterator<EmployeeDTO> batch = Collections.emptyIterator();
+        private long lastId = Long.MIN_VALUE;
+        private boolean exhausted;
+
+        KeysetIterator(EmployeeShard shard, int batchSize) {
+            this.shard = shard;
+            this.batchSize = batchSize;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (!batch.hasNext() && !exhausted) {
+                List<EmployeeDTO> rows = shard.jdbcTemplate().query(
+                        "select " + COLUMNS + " from employee where id > ? order by id limit ?", ROW_MAPPER, lastId, batchSize);
+                exhausted = rows.size() < batchSize;
+                if (!rows.isEmpty()) {
+                    lastId = rows.get(rows.size() - 1).getId();
+                }
+                batch = rows.iterator();
+            }
+            return batch.hasNext();
+        }
+
+        @Override
+        public EmployeeDTO next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return batch.next();
+        }
+    }
+
+    private static String orderBy(Sort sort) {
+        StringBuilder orderBy = new StringBuilder();
+        boolean hasId = false;
+        for (Sort.Order order : sort) {
+            orderBy.append(orderBy.length() == 0 ? " order by " : ", ")
+                    .append(column(order.getProperty()))
+                    .append(order.isAscending() ? " asc" : " desc");
+            hasId |= order.getProperty().equals("id");
+        }
+        if (!hasId) {
+            orderBy.append(orderBy.length() == 0 ? " order by " : ", ").append("id asc");
+        }
+        return orderBy.toString();
+    }
+
+    private static Sort searchSort(EmployeeFilter filter) {
+        if (filter.email() != null) {
+            return Sort.by("id");
+        }
+        if (filter.lastNamePrefix() != null) {
+            return Sort.by("lastName", "id");
+        }
+        if (filter.firstNamePrefix() != null) {
+            return Sort.by("firstName", "id");
+        }
+        return Sort.by("salary", "id");
+    }
+
+    private static String column(String property) {
+        String column = SORT_COLUMNS.get(property);
+        if (column == null) {
+            throw new IllegalArgumentException("Unknown employee field: " + property);
+        }
+        return column;
+    }
+
+    static Comparator<EmployeeDTO> comparator(Sort sort) {
+        Comparator<EmployeeDTO> comparator = null;
+        boolean hasId = false;
+        for (Sort.Order order : sort) {
+            Comparator<EmployeeDTO> next = comparator(order.getProperty());
+            if (order.isDescending()) {
+                next = next.reversed();
+            }
+            comparator = comparator == null ? next : comparator.thenComparing(next);
+            hasId |= order.getProperty().equals("id");
+        }
+        if (!hasId) {
+            Comparator<EmployeeDTO> byId = comparator("id");
+            comparator = comparator == null ? byId : comparator.thenComparing(byId);
+        }
+        return comparator;
+    }
+
+    // Nulls first, as MySQL sorts them in ascending order.
+    private static Comparator<EmployeeDTO> comparator(String property) {
+        Comparator<String> text = Comparator.nullsFirst(String.CASE_INSENSITIVE_ORDER);
+        return switch (property) {
+            case "id" -> Comparator.comparing(EmployeeDTO::getId, Comparator.nullsFirst(Comparator.naturalOrder()));
+            case "firstName" -> Comparator.comparing(EmployeeDTO::getFirstName, text);
+            case "lastName" -> Comparator.comparing(EmployeeDTO::getLastName, text);
+            case "email" -> Comparator.comparing(EmployeeDTO::getEmail, text);
+            case "salary" -> Comparator.comparing(EmployeeDTO::getSalary, Comparator.nullsFirst(Comparator.naturalOrder()));
+            case "version" -> Comparator.comparing(EmployeeDTO::getVersion, Comparator.nullsFirst(Comparator.naturalOrder()));
+            case "updatedAt" -> Comparator.comparing(EmployeeDTO::getUpdatedAt, Comparator.nullsFirst(Comparator.naturalOrder()));
+            default -> throw new IllegalArgumentException("Unknown employee field: " + property);
+        };
+    }
+
+    private static void setInsertValues(PreparedStatement ps, EmployeeDTO employeeDTO) throws SQLException {
+        ps.setLong(1, employeeDTO.getId());
+        ps.setString(2, employeeDTO.getFirstName());
+        ps.setString(3, employeeDTO.getLastName());
+        ps.setString(4, employeeDTO.getEmail());
+        ps.setObject(5, employeeDTO.getSalary(), Types.FLOAT);
+        ps.setTimestamp(6, Timestamp.from(employeeDTO.getUpdatedAt()));
+    }
+
+    private static void setUpdateValues(PreparedStatement ps, EmployeeDTO employeeDTO, Timestamp updatedAt) throws SQLException {
+        ps.setString(1, employeeDTO.getFirstName());
+        ps.setString(2, employeeDTO.getLastName());
+        ps.setString(3, employeeDTO.getEmail());
+        ps.setObject(4, employeeDTO.getSalary(), Types.FLOAT);
+        ps.setTimestamp(5, updatedAt);
+        ps.setLong(6, employeeDTO.getId());
+        ps.setObject(7, employeeDTO.getVersion(), Types.BIGINT);
+        ps.setObject(8, employeeDTO.getVersion(), Types.BIGINT);
+    }
+
+    private static EmployeeDTO mapRow(ResultSet rs, int rowNum) throws SQLException {
+        float salary = rs.getFloat("salary");
+        boolean salaryNull = rs.wasNull();
+        Timestamp updatedAt = rs.getTimestamp("updated_at");
+        return new EmployeeDTO(rs.getLong("id"), rs.getString("first_name"), rs.getString("last_name"),
+                rs.getString("email"), salaryNull ? null : salary, rs.getLong("version"),
+                updatedAt == null ? null : updatedAt.toInstant());
+    }
+}
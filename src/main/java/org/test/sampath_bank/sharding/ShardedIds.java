@@ -0,0 +1,30 @@
+package org.test.sampath_bank.sharding;
+
+/**
+ * Layout of shard-aware employee ids: the low {@value #SHARD_BITS} bits hold the index of
+ * the shard that owns the row, the bits above them a sequence number local to that shard.
+ * Every shard allocates from its own sequence, so no database hands out ids for the whole
+ * table, and the owning shard of any id is known without a lookup. Adding shards later
+ * does not move existing rows.
+ */
+public final class ShardedIds {
+
+    public static final int SHARD_BITS = 10;
+    public static final int MAX_SHARDS = 1 << SHARD_BITS;
+
+    private static final long SHARD_MASK = MAX_SHARDS - 1;
+
+    private ShardedIds() {
+    }
+
+    public static long compose(long sequence, int shard) {
+        if (shard < 0 || shard >= MAX_SHARDS) {
+            throw new IllegalArgumentException("Shard index out of range: " + shard);
+        }
+        return (sequence << SHARD_BITS) | shard;
+    }
+
+    public static int shardOf(long id) {
+        return (int) (id & SHARD_MASK);
+    }
+}
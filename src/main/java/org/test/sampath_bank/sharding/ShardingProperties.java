@@ -0,0 +1,85 @@
+package org.test.sampath_bank.sharding;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@ConfigurationProperties(prefix = "employee.sharding")
+public class ShardingProperties {
+
+    /** Shard databases, in shard-index order. The order must never change once rows exist. */
+    private List<Shard> shards = new ArrayList<>();
+
+    /** Ids reserved from a shard's id block table per round trip. */
+    private int idBlockSize = 1000;
+
+    /** Create the employee and id block tables on each shard at startup if they are missing. */
+    private boolean initializeSchema = true;
+
+    public List<Shard> getShards() {
+        return shards;
+    }
+
+    public void setShards(List<Shard> shards) {
+        this.shards = shards;
+    }
+
+    public int getIdBlockSize() {
+        return idBlockSize;
+    }
+
+    public void setIdBlockSize(int idBlockSize) {
+        this.idBlockSize = idBlockSize;
+    }
+
+    public boolean isInitializeSchema() {
+        return initializeSchema;
+    }
+
+    public void setInitializeSchema(boolean initializeSchema) {
+        this.initializeSchema = initializeSchema;
+    }
+
+    public static class Shard {
+
+        private String url;
+        /** Defaults to spring.datasource.username. */
+        private String username;
+        /** Defaults to spring.datasource.password. */
+        private String password;
+        private int maximumPoolSize = 10;
+
+        public String getUrl() {
+            return url;
+        }
+
+        public void setUrl(String url) {
+            this.url = url;
+        }
+
+        public String getUsername() {
+            return username;
+        }
+
+        public void setUsername(String username) {
+            this.username = username;
+        }
+
+        public String getPassword() {
+            return password;
+        }
+
+        public void setPassword(String password) {
+            this.password = password;
+        }
+
+        public int getMaximumPoolSize() {
+            return maximumPoolSize;
+        }
+
+        public void setMaximumPoolSize(int maximumPoolSize) {
+            this.maximumPoolSize = maximumPoolSize;
+        }
+    }
+}
@@ -0,0 +1,195 @@
+package org.test.sampath_bank.validation;
+
+import jakarta.validation.ConstraintViolation;
+import org.springframework.validation.Errors;
+import org.springframework.validation.Validator;
+import org.test.sampath_bank.dto.EmployeeDTO;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * The {@link EmployeeDTO} constraints compiled by hand into straight-line checks, so a
+ * valid employee is accepted without reflection, regex matching or allocation.
+ * <p>
+ * Inputs the fast checks cannot decide with certainty, such as quoted or non-ASCII email
+ * addresses, NaN or small negative salaries, are handed to Bean Validation, whose answer
+ * is authoritative; everything else must agree with it, which
+ * {@code EmployeeDTOValidatorTest} checks against the annotations. With
+ * {@code employee.validation.mode=bean-validation} requests keep Spring's Bean Validation
+ * and {@link #violations} delegates to it entirely.
+ */
+public class EmployeeDTOValidator implements Validator {
+
+    // Same messages as the annotations on EmployeeDTO.
+    static final String FIRST_NAME_NULL = "First name cannot be null";
+    static final String FIRST_NAME_SIZE = "First name must be between 2 and 50 characters";
+    static final String LAST_NAME_NULL = "Last name cannot be null";
+    static final String LAST_NAME_SIZE = "Last name must be between 2 and 50 characters";
+    static final String EMAIL_NULL = "Email cannot be null";
+    static final String SALARY_NULL = "Salary cannot be null";
+    static final String SALARY_MIN = "Salary should not be negative";
+
+    private static final int NAME_MIN = 2;
+    private static final int NAME_MAX = 50;
+    private static final int MAX_LOCAL_PART = 64;
+    private static final int MAX_LABEL = 63;
+    private static final int MAX_DOMAIN = 255;
+
+    private final jakarta.validation.Validator beanValidator;
+    private final boolean precompiled;
+
+    public EmployeeDTOValidator(jakarta.validation.Validator beanValidator, boolean precompiled) {
+        this.beanValidator = beanValidator;
+        this.precompiled = precompiled;
+    }
+
+    public boolean isPrecompiled() {
+        return precompiled;
+    }
+
+    @Override
+    public boolean supports(Class<?> clazz) {
+        return EmployeeDTO.class.equals(clazz);
+    }
+
+    @Override
+    public void validate(Object target, Errors errors) {
+        EmployeeDTO employeeDTO = (EmployeeDTO) target;
+        reject(errors, "firstName", "NotNull", "Size", nameViolation(employeeDTO.getFirstName(), FIRST_NAME_NULL, FIRST_NAME_SIZE));
+        reject(errors, "lastName", "NotNull", "Size", nameViolation(employeeDTO.getLastName(), LAST_NAME_NULL, LAST_NAME_SIZE));
+        reject(errors, "email", "NotNull", "Email", emailViolation(employeeDTO.getEmail()));
+        reject(errors, "salary", "NotNull", "Min", salaryViolation(employeeDTO.getSalary()));
+    }
+
+    /** Violations as {@code "field: message"}, sorted; an empty immutable list when the employee is valid. */
+    public List<String> violations(EmployeeDTO employeeDTO) {
+        if (!precompiled) {
+            Set<ConstraintViolation<EmployeeDTO>> violations = beanValidator.validate(employeeDTO);
+            return violations.stream()
+                    .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                    .sorted()
+                    .toList();
+        }
+        String firstName = nameViolation(employeeDTO.getFirstName(), FIRST_NAME_NULL, FIRST_NAME_SIZE);
+        String lastName = nameViolation(employeeDTO.getLastName(), LAST_NAME_NULL, LAST_NAME_SIZE);
+        String email = emailViolation(employeeDTO.getEmail());
+        String salary = salaryViolation(employeeDTO.getSalary());
+        if (firstName == null && lastName == null && email == null && salary == null) {
+            return List.of();
+        }
+        // Alphabetical by field, as the sorted Bean Validation output would be.
+        List<String> violations = new ArrayList<>(4);
+        add(violations, "email", email);
+        add(violations, "firstName", firstName);
+        add(violations, "lastName", lastName);
+        add(violations, "salary", salary);
+        return violations;
+    }
+
+    private static void add(List<String> violations, String field, String message) {
+        if (message != null) {
+            violations.add(field + ": " + message);
+        }
+    }
+
+    private static void reject(Errors errors, String field, String nullCode, String code, String message) {
+        if (message != null) {
+            errors.rejectValue(field, errors.getFieldValue(field) == null ? nullCode : code, message);
+        }
+    }
+
+    private static String nameViolation(String name, String nullMessage, String sizeMessage) {
+        if (name == null) {
+            return nullMessage;
+        }
+        return name.length() < NAME_MIN || name.length() > NAME_MAX ? sizeMessage : null;
+    }
+
+    private String emailViolation(String email) {
+        if (email == null) {
+            return EMAIL_NULL;
+        }
+        if (precompiled && isPlainEmail(email)) {
+            return null;
+        }
+        return beanViolation("email", email);
+    }
+
+    private String salaryViolation(Float salary) {
+        if (salary == null) {
+            return SALARY_NULL;
+        }
+        float value = salary;
+        if (precompiled) {
+            // Sign bit clear and not NaN: +0.0 up to +Infinity.
+            if (Float.floatToRawIntBits(value) >= 0 && !Float.isNaN(value)) {
+                return null;
+            }
+            if (value <= -1) {
+                return SALARY_MIN;
+            }
+        }
+        // NaN, -0.0 and (-1, 0) depend on how @Min compares floating point numbers.
+        return beanViolation("salary", salary);
+    }
+
+    private String beanViolation(String property, Object value) {
+        Set<ConstraintViolation<EmployeeDTO>> violations = beanValidator.validateValue(EmployeeDTO.class, property, value);
+        return violations.isEmpty() ? null : violations.iterator().next().getMessage();
+    }
+
+    /**
+     * True for the everyday address shape: a dot-separated local part of RFC 5322 atom
+     * characters, and a host name of ASCII letter-digit-hyphen labels. Every such address
+     * is accepted by {@code @Email}; anything else is left for Bean Validation to decide.
+     */
+    static boolean isPlainEmail(String email) {
+        int at = email.lastIndexOf('@');
+        if (at < 1 || at > MAX_LOCAL_PART || email.length() - at - 1 > MAX_DOMAIN) {
+            return false;
+        }
+
+        boolean atomStart = true;
+        for (int i = 0; i < at; i++) {
+            char c = email.charAt(i);
+            if (c == '.') {
+                if (atomStart) {
+                    return false;
+                }
+                atomStart = true;
+            } else if (isAtomChar(c)) {
+                atomStart = false;
+            } else {
+                return false;
+            }
+        }
+        if (atomStart) {
+            return false;
+        }
+
+        int labelStart = at + 1;
+        for (int i = labelStart; i <= email.length(); i++) {
+            if (i == email.length() || email.charAt(i) == '.') {
+                int labelLength = i - labelStart;
+                if (labelLength == 0 || labelLength > MAX_LABEL
+                        || email.charAt(labelStart) == '-' || email.charAt(i - 1) == '-') {
+                    return false;
+                }
+                labelStart = i + 1;
+            } else if (!isLetterOrDigit(email.charAt(i)) && email.charAt(i) != '-') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isLetterOrDigit(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9');
+    }
+
+    private static boolean isAtomChar(char c) {
+        return isLetterOrDigit(c) || "!#$%&'*+/=?^_`{|}~-".indexOf(c) >= 0;
+    }
+}
@@ -0,0 +1,21 @@
+-- Employee table and id block of one shard; run on every shard at startup.
+create table if not exists employee (
+    id bigint not null primary key,
+    first_name varchar(255),
+    last_name varchar(255),
+    email varchar(255),
+    salary float,
+    version bigint not null,
+    updated_at timestamp(6),
+    constraint ux_employee_email unique (email),
+    key idx_employee_first_name_id (first_name, id),
+    key idx_employee_last_name_id (last_name, id),
+    key idx_employee_salary_id (salary, id)
+);
+
+create table if not exists employee_id_block (
+    next_val bigint not null
+);
+
+insert into employee_id_block (next_val)
+select 1 from dual where not exists (select 1 from employee_id_block);
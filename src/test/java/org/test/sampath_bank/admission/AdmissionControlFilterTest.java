@@ -0,0 +1,123 @@
+package org.test.sampath_bank.admission;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AdmissionControlFilterTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void tokenBucket_AdmitsBurstThenReportsWait() {
+        TokenBucket bucket = new TokenBucket(10, 3, 0);
+
+        assertEquals(0, bucket.tryAcquire(0));
+        assertEquals(0, bucket.tryAcquire(0));
+        assertEquals(0, bucket.tryAcquire(0));
+        assertEquals(100_000_000L, bucket.tryAcquire(0));
+        assertEquals(0, bucket.tryAcquire(100_000_000L));
+    }
+
+    @Test
+    void rejectsClientOverItsRateWith429() throws Exception {
+        AdmissionControlFilter filter = new AdmissionControlFilter(1, 2, 10, meterRegistry);
+
+        assertEquals(200, call(filter, "10.0.0.1").getStatus());
+        assertEquals(200, call(filter, "10.0.0.1").getStatus());
+        MockHttpServletResponse rejected = call(filter, "10.0.0.1");
+
+        assertEquals(429, rejected.getStatus());
+        assertEquals("1", rejected.getHeader("Retry-After"));
+        assertEquals(200, call(filter, "10.0.0.2").getStatus());
+        assertEquals(1.0, meterRegistry.get("employee.admission.rejected").tag("reason", "rate_limited").counter().count());
+    }
+
+    @Test
+    void clientIdHeader_DoesNotBuyAFreshBucket() throws Exception {
+        AdmissionControlFilter filter = new AdmissionControlFilter(1, 2, 10, meterRegistry);
+
+        for (String clientId : new String[] {"first", "second"}) {
+            MockHttpServletRequest request = request("10.0.0.1");
+            request.addHeader(ClientKey.CLIENT_ID_HEADER, clientId);
+            filter.doFilter(request, new MockHttpServletResponse(), (req, res) -> { });
+        }
+        MockHttpServletRequest spoofed = request("10.0.0.1");
+        spoofed.addHeader(ClientKey.CLIENT_ID_HEADER, "third");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(spoofed, response, (req, res) -> { });
+
+        assertEquals(429, response.getStatus());
+    }
+
+    @Test
+    void authenticatedUsers_BehindOneAddress_GetTheirOwnBuckets() throws Exception {
+        AdmissionControlFilter filter = new AdmissionControlFilter(1, 1, 10, meterRegistry);
+        MockHttpServletRequest alice = request("10.0.0.1");
+        alice.setUserPrincipal(() -> "alice");
+        MockHttpServletRequest bob = request("10.0.0.1");
+        bob.setUserPrincipal(() -> "bob");
+        MockHttpServletResponse aliceResponse = new MockHttpServletResponse();
+        MockHttpServletResponse bobResponse = new MockHttpServletResponse();
+
+        filter.doFilter(alice, aliceResponse, (req, res) -> { });
+        filter.doFilter(bob, bobResponse, (req, res) -> { });
+
+        assertEquals(200, aliceResponse.getStatus());
+        assertEquals(200, bobResponse.getStatus());
+    }
+
+    @Test
+    void shedsRequestsBeyondConcurrencyCapWith503() throws Exception {
+        AdmissionControlFilter filter = new AdmissionControlFilter(1000, 1000, 1, meterRegistry);
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicReference<Exception> failure = new AtomicReference<>();
+
+        Thread holder = Thread.ofVirtual().start(() -> {
+            try {
+                filter.doFilter(request("10.0.0.1"), new MockHttpServletResponse(), (req, res) -> {
+                    entered.countDown();
+                    try {
+                        release.await();
+                    } catch (InterruptedException ex) {
+                        Thread.currentThread().interrupt();
+                    }
+                });
+            } catch (Exception ex) {
+                failure.set(ex);
+            }
+        });
+        assertTrue(entered.await(5, TimeUnit.SECONDS));
+
+        MockHttpServletResponse rejected = call(filter, "10.0.0.2");
+        assertEquals(503, rejected.getStatus());
+        assertNotNull(rejected.getHeader("Retry-After"));
+
+        release.countDown();
+        holder.join();
+        assertNull(failure.get());
+        assertEquals(200, call(filter, "10.0.0.2").getStatus());
+    }
+
+    private static MockHttpServletResponse call(AdmissionControlFilter filter, String remoteAddress) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        FilterChain chain = (req, res) -> { };
+        filter.doFilter(request(remoteAddress), response, chain);
+        return response;
+    }
+
+    private static MockHttpServletRequest request(String remoteAddress) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/employees");
+        request.setRemoteAddr(remoteAddress);
+        return request;
+    }
+}
@@ -0,0 +1,234 @@
+package org.test.sampath_bank.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.test.sampath_bank.dto.EmployeeDTO;
+import org.test.sampath_bank.dto.EmployeeImportResult;
+import org.test.sampath_bank.service.EmployeeService;
+
+import java.io.File;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntFunction;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * End-to-end throughput and latency benchmark for the employee API, run against
+ * an embedded H2 database in MySQL mode. Excluded from the normal test run; use
+ * {@code mvn -Pe2e-bench test}. Tunable with {@code -Dbench.employees},
+ * {@code -Dbench.requests}, {@code -Dbench.concurrency} and {@code -Dbench.warmup}.
+ * The report is printed and written to {@code target/e2e-benchmark.json}.
+ */
+@Tag("benchmark")
+@SpringBootTest(
+    webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+    properties = {
+        // H2 waits 1s for a lock by default, which 32 concurrent writers can exceed on a small machine.
+        "spring.datasource.url=jdbc:h2:mem:bench;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1;LOCK_TIMEOUT=10000",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.show-sql=false",
+        "spring.datasource.hikari.maximum-pool-size=32",
+        // The benchmark is one client driving the API flat out; admission control would throttle it.
+        "employee.admission.enabled=false"
+    }
+)
+class EmployeeApiBenchmarkTest {
+
+    private static final int EMPLOYEES = Integer.getInteger("bench.employees", 1_000_000);
+    private static final int REQUESTS = Integer.getInteger("bench.requests", 5_000);
+    private static final int CONCURRENCY = Integer.getInteger("bench.concurrency", 32);
+    private static final int WARMUP = Integer.getInteger("bench.warmup", 1_000);
+    private static final int PAGE_SIZE = 20;
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private EmployeeService employeeService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final AtomicInteger uniqueEmails = new AtomicInteger();
+
+    private final HttpClient client = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(10))
+            .build();
+
+    @Test
+    void crudThroughput() throws Exception {
+        long seedStart = System.nanoTime();
+        EmployeeImportResult seeded = employeeService.importEmployees(seedEmployees(EMPLOYEES));
+        long seedMillis = (System.nanoTime() - seedStart) / 1_000_000;
+        assertEquals(EMPLOYEES, seeded.getImported());
+
+        long[] ids = jdbcTemplate.queryForList("select id from employee order by id", Long.class)
+                .stream().mapToLong(Long::longValue).toArray();
+        int deepPage = Math.max(0, EMPLOYEES / PAGE_SIZE - 10);
+        // Deletes consume ids from the top of the range; reads and updates stay below it.
+        int readableIds = Math.max(1, ids.length - REQUESTS - WARMUP);
+
+        Map<String, IntFunction<HttpRequest>> operations = new LinkedHashMap<>();
+        operations.put("create", i -> json("POST", ""));
+        operations.put("getById", i -> get("/" + ids[random().nextInt(readableIds)]));
+        operations.put("listShallow", i -> get("?page=" + (i % 10) + "&size=" + PAGE_SIZE));
+        operations.put("listDeep", i -> get("?page=" + (deepPage + i % 10) + "&size=" + PAGE_SIZE));
+        int searchableRows = Math.max(1, EMPLOYEES - REQUESTS - WARMUP);
+        operations.put("searchEmail", i -> get("/search?email=employee" + random().nextInt(searchableRows) + "@example.com"));
+        operations.put("searchLastName", i -> get("/search?lastNamePrefix=Last" + random().nextInt(7919) + "&size=" + PAGE_SIZE));
+        operations.put("searchSalary", i -> {
+            int low = 1000 + random().nextInt(99_000);
+            return get("/search?minSalary=" + low + "&maxSalary=" + (low + 50) + "&size=" + PAGE_SIZE);
+        });
+        operations.put("update", i -> json("PUT", "/" + ids[random().nextInt(readableIds)]));
+        AtomicInteger nextDelete = new AtomicInteger(ids.length - 1);
+        operations.put("delete", i -> delete(ids[nextDelete.getAndDecrement()]));
+
+        List<OperationResult> results = new ArrayList<>();
+        for (Map.Entry<String, IntFunction<HttpRequest>> operation : operations.entrySet()) {
+            run(operation.getKey(), WARMUP, operation.getValue());
+            OperationResult result = run(operation.getKey(), REQUESTS, operation.getValue());
+            results.add(result);
+            assertEquals(0, result.errors(), operation.getKey() + " returned error responses");
+        }
+
+        report(new BenchmarkReport(EMPLOYEES, REQUESTS, CONCURRENCY, seedMillis, results));
+    }
+
+    private OperationResult run(String name, int requests, IntFunction<HttpRequest> requestFactory) throws Exception {
+        long[] latencies = new long[requests];
+        AtomicInteger next = new AtomicInteger();
+        AtomicInteger errors = new AtomicInteger();
+        ExecutorService pool = Executors.newFixedThreadPool(CONCURRENCY);
+        List<Future<Object>> workers = new ArrayList<>(CONCURRENCY);
+
+        long start = System.nanoTime();
+        for (int w = 0; w < CONCURRENCY; w++) {
+            workers.add(pool.submit(() -> {
+                int i;
+                while ((i = next.getAndIncrement()) < requests) {
+                    HttpRequest request = requestFactory.apply(i);
+                    long requestStart = System.nanoTime();
+                    HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                    latencies[i] = System.nanoTime() - requestStart;
+                    if (response.statusCode() >= 400) {
+                        errors.incrementAndGet();
+                    }
+                }
+                return null;
+            }));
+        }
+        for (Future<Object> worker : workers) {
+            worker.get();
+        }
+        long elapsed = System.nanoTime() - start;
+        pool.shutdown();
+
+        Arrays.sort(latencies);
+        return new OperationResult(name, requests, errors.get(),
+                requests * 1_000_000_000.0 / elapsed,
+                percentileMillis(latencies, 50),
+                percentileMillis(latencies, 95),
+                percentileMillis(latencies, 99),
+                latencies[latencies.length - 1] / 1_000_000.0);
+    }
+
+    private static double percentileMillis(long[] sortedNanos, int percentile) {
+        int index = (int) Math.ceil(percentile / 100.0 * sortedNanos.length) - 1;
+        return sortedNanos[Math.max(0, index)] / 1_000_000.0;
+    }
+
+    private void report(BenchmarkReport report) throws Exception {
+        System.out.printf("%nEmployee API benchmark: %d employees, %d requests/op, concurrency %d, seeded in %d ms%n",
+                report.employees(), report.requestsPerOperation(), report.concurrency(), report.seedMillis());
+        System.out.printf("%-12s %12s %10s %10s %10s %10s%n", "operation", "req/s", "p50 ms", "p95 ms", "p99 ms", "max ms");
+        for (OperationResult result : report.results()) {
+            System.out.printf("%-12s %12.1f %10.2f %10.2f %10.2f %10.2f%n", result.operation(), result.requestsPerSecond(),
+                    result.p50Millis(), result.p95Millis(), result.p99Millis(), result.maxMillis());
+        }
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT)
+                .writeValue(new File("target/e2e-benchmark.json"), report);
+    }
+
+    private static Iterator<EmployeeDTO> seedEmployees(int count) {
+        return new Iterator<>() {
+            private int next;
+
+            @Override
+            public boolean hasNext() {
+                return next < count;
+            }
+
+            @Override
+            public EmployeeDTO next() {
+                int i = next++;
+                EmployeeDTO employeeDTO = new EmployeeDTO();
+                employeeDTO.setFirstName("First" + (i % 5000));
+                employeeDTO.setLastName("Last" + (i % 7919));
+                employeeDTO.setEmail("employee" + i + "@example.com");
+                employeeDTO.setSalary(1000f + (i % 100_000));
+                return employeeDTO;
+            }
+        };
+    }
+
+    private static Random random() {
+        return ThreadLocalRandom.current();
+    }
+
+    private URI uri(String suffix) {
+        return URI.create("http://localhost:" + port + "/api/employees" + suffix);
+    }
+
+    private HttpRequest get(String suffix) {
+        return HttpRequest.newBuilder(uri(suffix)).GET().build();
+    }
+
+    private HttpRequest delete(long id) {
+        return HttpRequest.newBuilder(uri("/" + id)).DELETE().build();
+    }
+
+    private HttpRequest json(String method, String suffix) {
+        // Every write carries a fresh email so it never collides with another row.
+        String body = "{\"firstName\":\"Bench\",\"lastName\":\"User\",\"email\":\"bench"
+                + uniqueEmails.incrementAndGet() + "@example.com\",\"salary\":1000}";
+        return HttpRequest.newBuilder(uri(suffix))
+                .header("Content-Type", "application/json")
+                .method(method, HttpRequest.BodyPublishers.ofString(body))
+                .build();
+    }
+
+    record OperationResult(String operation, int requests, int errors, double requestsPerSecond,
+                           double p50Millis, double p95Millis, double p99Millis, double maxMillis) {
+    }
+
+    record BenchmarkReport(int employees, int requestsPerOperation, int concurrency, long seedMillis,
+                           List<OperationResult> results) {
+    }
+}
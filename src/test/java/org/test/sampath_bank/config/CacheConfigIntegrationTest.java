@@ -0,0 +1,142 @@
+package org.test.sampath_bank.config;
+
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.cache.transaction.TransactionAwareCacheDecorator;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.test.sampath_bank.dto.EmployeeDTO;
+import org.test.sampath_bank.service.EmployeeService;
+
+import java.util.UUID;
+
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.hasSize;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Checks the employees cache through the service proxy, so the @Cacheable, @CachePut
+ * and @CacheEvict annotations are the ones under test, against an embedded H2 database.
+ * The change feed poller is off: it would evict this instance's own writes at random.
+ */
+@SpringBootTest(properties = {
+    "spring.datasource.url=jdbc:h2:mem:cache;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+    "spring.datasource.driver-class-name=org.h2.Driver",
+    "spring.datasource.username=sa",
+    "spring.datasource.password=",
+    "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+    "spring.jpa.hibernate.ddl-auto=create-drop",
+    "employee.cache.cluster-invalidation.enabled=false"
+})
+@AutoConfigureMockMvc
+class CacheConfigIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private EmployeeService employeeService;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private CaffeineCache employees;
+    private EmployeeDTO saved;
+
+    @BeforeEach
+    void setUp() {
+        employees = (CaffeineCache) ((TransactionAwareCacheDecorator) cacheManager.getCache(CacheConfig.EMPLOYEES_CACHE))
+                .getTargetCache();
+        employees.clear();
+        saved = employeeService.saveEmployee(employee("John"));
+    }
+
+    @Test
+    void saveEmployee_PutsResultInCache() {
+        assertEquals(saved.getEmail(), ((EmployeeDTO) employees.get(saved.getId()).get()).getEmail());
+    }
+
+    @Test
+    void getEmployeeById_SecondReadIsACacheHit() {
+        employees.evict(saved.getId());
+        CacheStats before = employees.getNativeCache().stats();
+
+        employeeService.getEmployeeById(saved.getId());
+        EmployeeDTO second = employeeService.getEmployeeById(saved.getId());
+
+        CacheStats delta = employees.getNativeCache().stats().minus(before);
+        assertEquals(1, delta.missCount());
+        assertEquals(1, delta.hitCount());
+        assertEquals(saved.getEmail(), second.getEmail());
+    }
+
+    @Test
+    void updateEmployee_EvictsEntry() {
+        employeeService.getEmployeeById(saved.getId());
+        assertNotNull(employees.get(saved.getId()));
+
+        EmployeeDTO update = employee("Jane");
+        employeeService.updateEmployee(saved.getId(), update);
+
+        assertNull(employees.get(saved.getId()));
+        assertEquals("Jane", employeeService.getEmployeeById(saved.getId()).getFirstName());
+    }
+
+    @Test
+    void deleteEmployee_EvictsEntry() {
+        employeeService.getEmployeeById(saved.getId());
+        assertNotNull(employees.get(saved.getId()));
+
+        employeeService.deleteEmployee(saved.getId());
+
+        assertNull(employees.get(saved.getId()));
+    }
+
+    @Test
+    void evictInsideTransaction_TakesEffectAtCommit() {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            cacheManager.getCache(CacheConfig.EMPLOYEES_CACHE).evict(saved.getId());
+            assertNotNull(employees.get(saved.getId()));
+        });
+
+        assertNull(employees.get(saved.getId()));
+    }
+
+    @Test
+    void cacheStats_ReportsEmployeesCache() throws Exception {
+        employees.evict(saved.getId());
+        employeeService.getEmployeeById(saved.getId());
+        employeeService.getEmployeeById(saved.getId());
+
+        mockMvc.perform(get("/api/cache/stats"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(jsonPath("$[0].name").value(CacheConfig.EMPLOYEES_CACHE))
+                .andExpect(jsonPath("$[0].size").value(1))
+                .andExpect(jsonPath("$[0].hitCount", greaterThanOrEqualTo(1)))
+                .andExpect(jsonPath("$[0].missCount", greaterThanOrEqualTo(1)))
+                .andExpect(jsonPath("$[0].hitRate").isNumber());
+    }
+
+    private EmployeeDTO employee(String firstName) {
+        EmployeeDTO dto = new EmployeeDTO();
+        dto.setFirstName(firstName);
+        dto.setLastName("Doe");
+        dto.setEmail(UUID.randomUUID() + "@example.com");
+        dto.setSalary(1000f);
+        return dto;
+    }
+}
@@ -0,0 +1,68 @@
+package org.test.sampath_bank.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.mock.http.MockHttpOutputMessage;
+import org.test.sampath_bank.dto.EmployeeDTO;
+
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ColumnarSliceHttpMessageConverterTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+    private final ColumnarSliceHttpMessageConverter converter = new ColumnarSliceHttpMessageConverter(objectMapper);
+
+    @Test
+    void writesEmployeePageColumnWise() throws Exception {
+        EmployeeDTO employee = new EmployeeDTO(1L, "John", "Doe", "john@example.com", 1500f, 2L,
+                Instant.parse("2024-01-01T00:00:00Z"));
+
+        JsonNode body = write(new PageImpl<>(List.of(employee), PageRequest.of(0, 10), 11));
+
+        assertEquals("[\"id\",\"firstName\",\"lastName\",\"email\",\"salary\",\"version\",\"updatedAt\"]",
+                body.get("columns").toString());
+        JsonNode row = body.get("rows").get(0);
+        assertEquals(1L, row.get(0).asLong());
+        assertEquals("john@example.com", row.get(3).asText());
+        assertEquals(1500.0, row.get(4).asDouble());
+        assertEquals(11, body.get("page").get("totalElements").asLong());
+        assertEquals(2, body.get("page").get("totalPages").asInt());
+    }
+
+    @Test
+    void writesSparseFieldsetSliceWithoutTotals() throws Exception {
+        Map<String, Object> row = new LinkedHashMap<>();
+        row.put("id", 7L);
+        row.put("email", "jane@example.com");
+
+        JsonNode body = write(new SliceImpl<>(List.of(row), PageRequest.of(0, 1), true));
+
+        assertEquals("[\"id\",\"email\"]", body.get("columns").toString());
+        assertEquals("[7,\"jane@example.com\"]", body.get("rows").get(0).toString());
+        assertTrue(body.get("page").get("hasNext").asBoolean());
+        assertFalse(body.get("page").has("totalElements"));
+    }
+
+    @Test
+    void supportsOnlySlices() {
+        assertTrue(converter.canWrite(PageImpl.class, ColumnarSliceHttpMessageConverter.COLUMNAR_JSON));
+        assertFalse(converter.canWrite(EmployeeDTO.class, ColumnarSliceHttpMessageConverter.COLUMNAR_JSON));
+        assertFalse(converter.canRead(PageImpl.class, ColumnarSliceHttpMessageConverter.COLUMNAR_JSON));
+    }
+
+    private JsonNode write(Slice<?> slice) throws Exception {
+        MockHttpOutputMessage outputMessage = new MockHttpOutputMessage();
+        converter.write(slice, ColumnarSliceHttpMessageConverter.COLUMNAR_JSON, outputMessage);
+        return objectMapper.readTree(outputMessage.getBodyAsBytes());
+    }
+}
@@ -10,14 +10,28 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 import org.test.sampath_bank.dto.EmployeeDTO;
+import org.test.sampath_bank.dto.EmployeeImportError;
+import org.test.sampath_bank.dto.EmployeeImportResult;
+import org.test.sampath_bank.dto.EmployeeLookupDTO;
+import org.test.sampath_bank.dto.EmployeeVersionDTO;
 import org.test.sampath_bank.exception.ResourceNotFoundException;
+import org.test.sampath_bank.service.EmployeeLookupService;
 import org.test.sampath_bank.service.EmployeeService;
+import org.test.sampath_bank.service.ExportFormat;
 
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
 import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 
 import static org.hamcrest.Matchers.hasSize;
 import static org.mockito.ArgumentMatchers.any;
@@ -34,6 +48,9 @@ class EmployeeControllerTest {
     @Mock
     private EmployeeService employeeService;
 
+    @Mock
+    private EmployeeLookupService employeeLookupService;
+
     @InjectMocks
     private EmployeeController employeeController;
 
@@ -78,9 +95,27 @@ class EmployeeControllerTest {
                 .andExpect(jsonPath("$.email").value("john.doe@example.com"));
     }
 
+    @Test
+    void importEmployees_ReportsRejectedRows() throws Exception {
+        EmployeeImportResult importResult = new EmployeeImportResult();
+        importResult.setReceived(2);
+        importResult.setImported(1);
+        importResult.getErrors().add(new EmployeeImportError(1, List.of("email: Email should be valid")));
+        when(employeeService.importEmployees(any())).thenReturn(importResult);
+
+        mockMvc.perform(post("/api/employees/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(Arrays.asList(sampleEmployeeDTO, new EmployeeDTO()))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.received").value(2))
+                .andExpect(jsonPath("$.imported").value(1))
+                .andExpect(jsonPath("$.failed").value(1))
+                .andExpect(jsonPath("$.errors[0].row").value(1));
+    }
+
     @Test
     void getAllEmployees_Success() throws Exception {
-        Page<EmployeeDTO> employeePage = new PageImpl<>(Arrays.asList(sampleEmployeeDTO));
+        Page<EmployeeDTO> employeePage = new PageImpl<>(Arrays.asList(sampleEmployeeDTO), PageRequest.of(0, 10), 1);
         when(employeeService.getAllEmployees(any(PageRequest.class))).thenReturn(employeePage);
 
         mockMvc.perform(get("/api/employees")
@@ -93,9 +128,35 @@ class EmployeeControllerTest {
                 .andExpect(jsonPath("$.totalElements").value(1));
     }
 
+    @Test
+    void getAllEmployees_SizeAboveMaximum_ReturnsBadRequest() throws Exception {
+        mockMvc.perform(get("/api/employees")
+                .param("size", "100000"))
+                .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(employeeService);
+    }
+
+    @Test
+    void getAllEmployees_WithSparseFieldset_ReturnsOnlyRequestedFields() throws Exception {
+        Map<String, Object> row = new LinkedHashMap<>();
+        row.put("id", 1L);
+        row.put("email", "john.doe@example.com");
+        Page<Map<String, Object>> employeePage = new PageImpl<>(List.of(row), PageRequest.of(0, 10), 1);
+        when(employeeService.getAllEmployees(any(PageRequest.class), eq(List.of("id", "email"))))
+                .thenReturn(employeePage);
+
+        mockMvc.perform(get("/api/employees")
+                .param("fields", "email"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].id").value(1))
+                .andExpect(jsonPath("$.content[0].email").value("john.doe@example.com"))
+                .andExpect(jsonPath("$.content[0].firstName").doesNotExist());
+    }
+
     @Test
     void getEmployeeById_Success() throws Exception {
-        when(employeeService.getEmployeeById(1L)).thenReturn(sampleEmployeeDTO);
+        when(employeeLookupService.getEmployee(1L)).thenReturn(sampleEmployeeDTO);
 
         mockMvc.perform(get("/api/employees/{id}", 1))
                 .andExpect(status().isOk())
@@ -105,9 +166,48 @@ class EmployeeControllerTest {
                 .andExpect(jsonPath("$.email").value("john.doe@example.com"));
     }
 
+    @Test
+    void getEmployeeById_WithMatchingETag_ReturnsNotModifiedWithoutLoadingEmployee() throws Exception {
+        when(employeeService.getEmployeeVersion(1L)).thenReturn(new EmployeeVersionDTO(3L, Instant.parse("2024-01-01T00:00:00Z")));
+
+        mockMvc.perform(get("/api/employees/{id}", 1)
+                .header("If-None-Match", "\"3\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", "\"3\""))
+                .andExpect(content().string(""));
+
+        verify(employeeLookupService, never()).getEmployee(any());
+    }
+
+    @Test
+    void getEmployeeById_WithStaleETag_ReturnsEmployee() throws Exception {
+        sampleEmployeeDTO.setVersion(4L);
+        when(employeeService.getEmployeeVersion(1L)).thenReturn(new EmployeeVersionDTO(4L, null));
+        when(employeeLookupService.getEmployee(1L)).thenReturn(sampleEmployeeDTO);
+
+        mockMvc.perform(get("/api/employees/{id}", 1)
+                .header("If-None-Match", "\"3\""))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"4\""))
+                .andExpect(jsonPath("$.id").value(1));
+    }
+
+    @Test
+    void getEmployeesByIds_ReturnsFoundAndMissing() throws Exception {
+        when(employeeLookupService.lookup(List.of(1L, 99L)))
+                .thenReturn(new EmployeeLookupDTO(List.of(sampleEmployeeDTO), List.of(99L)));
+
+        mockMvc.perform(get("/api/employees")
+                .param("ids", "1,99"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.employees", hasSize(1)))
+                .andExpect(jsonPath("$.employees[0].id").value(1))
+                .andExpect(jsonPath("$.missing[0]").value(99));
+    }
+
     @Test
     void getEmployeeById_NotFound() throws Exception {
-        when(employeeService.getEmployeeById(99L))
+        when(employeeLookupService.getEmployee(99L))
                 .thenThrow(new ResourceNotFoundException("Employee not found with id: 99"));
 
         mockMvc.perform(get("/api/employees/{id}", 99))
@@ -164,4 +264,30 @@ class EmployeeControllerTest {
         mockMvc.perform(delete("/api/employees/{id}", 99))
                 .andExpect(status().isNotFound());
     }
-} 
\ No newline at end of file
+
+    @Test
+    void exportEmployees_Csv_StreamsAttachment() throws Exception {
+        when(employeeService.exportEmployees(eq(ExportFormat.CSV), any())).thenAnswer(invocation -> {
+            invocation.<OutputStream>getArgument(1).write("id,firstName\n1,John\n".getBytes(StandardCharsets.UTF_8));
+            return 1L;
+        });
+
+        MvcResult result = mockMvc.perform(get("/api/employees/export").param("format", "csv"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"employees.csv\""))
+                .andExpect(content().string("id,firstName\n1,John\n"));
+    }
+
+    @Test
+    void exportEmployees_UnknownFormat_ReturnsBadRequest() throws Exception {
+        mockMvc.perform(get("/api/employees/export").param("format", "xml"))
+                .andExpect(status().isBadRequest())
+                .andExpect(content().string("Unsupported export format: xml"));
+
+        verifyNoInteractions(employeeService);
+    }
+}
@@ -0,0 +1,98 @@
+package org.test.sampath_bank.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.test.sampath_bank.admission.ClientKey;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Runs against two embedded H2 databases that are deliberately out of sync: the same
+ * employee has a different email on the primary and on the replica, so every response
+ * shows which database served it. Lookups are not coalesced, so a read by id runs in its
+ * own read-only transaction and is routed like any other read.
+ */
+@SpringBootTest(properties = {
+    "spring.datasource.url=jdbc:h2:mem:primary;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+    "spring.datasource.driver-class-name=org.h2.Driver",
+    "spring.datasource.username=sa",
+    "spring.datasource.password=",
+    "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+    "spring.jpa.hibernate.ddl-auto=create-drop",
+    "employee.datasource.routing.enabled=true",
+    "employee.datasource.replicas[0].url=" + ReplicaRoutingIntegrationTest.REPLICA_URL,
+    "employee.datasource.read-your-writes-window=1m",
+    "employee.lookup.coalesce-window=0"
+})
+@AutoConfigureMockMvc
+class ReplicaRoutingIntegrationTest {
+
+    static final String REPLICA_URL = "jdbc:h2:mem:replica;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private HikariDataSource primaryDataSource;
+
+    @BeforeEach
+    void setUp() {
+        JdbcTemplate primary = new JdbcTemplate(primaryDataSource);
+        primary.update("delete from employee");
+        primary.update("insert into employee (id, first_name, last_name, email, salary, version) "
+                + "values (1, 'John', 'Doe', 'primary@example.com', 1000, 0)");
+
+        JdbcTemplate replica = new JdbcTemplate(new DriverManagerDataSource(REPLICA_URL, "sa", ""));
+        replica.execute("create table if not exists employee (id bigint not null primary key, first_name varchar(255), "
+                + "last_name varchar(255), email varchar(255), salary real, version bigint not null, updated_at timestamp(6))");
+        replica.update("delete from employee");
+        replica.update("insert into employee (id, first_name, last_name, email, salary, version) "
+                + "values (1, 'John', 'Doe', 'replica@example.com', 1000, 0)");
+    }
+
+    @Test
+    void reads_AreServedByReplica() throws Exception {
+        mockMvc.perform(get("/api/employees").header(ClientKey.CLIENT_ID_HEADER, "reader"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].email").value("replica@example.com"));
+    }
+
+    @Test
+    void writer_ReadsItsOwnWriteFromPrimary_OtherClientsStayOnReplica() throws Exception {
+        mockMvc.perform(put("/api/employees/1")
+                        .header(ClientKey.CLIENT_ID_HEADER, "writer")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"firstName\":\"John\",\"lastName\":\"Doe\",\"email\":\"updated@example.com\",\"salary\":1200}"))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/api/employees").header(ClientKey.CLIENT_ID_HEADER, "writer"))
+                .andExpect(jsonPath("$.content[0].email").value("updated@example.com"));
+        mockMvc.perform(get("/api/employees").header(ClientKey.CLIENT_ID_HEADER, "someone-else"))
+                .andExpect(jsonPath("$.content[0].email").value("replica@example.com"));
+    }
+
+    @Test
+    void readById_FromLaggingReplica_DoesNotHideTheWriteFromTheWriter() throws Exception {
+        mockMvc.perform(put("/api/employees/1")
+                        .header(ClientKey.CLIENT_ID_HEADER, "writer")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"firstName\":\"John\",\"lastName\":\"Doe\",\"email\":\"updated@example.com\",\"salary\":1200}"))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/api/employees/1").header(ClientKey.CLIENT_ID_HEADER, "someone-else"))
+                .andExpect(jsonPath("$.email").value("replica@example.com"));
+        mockMvc.perform(get("/api/employees/1").header(ClientKey.CLIENT_ID_HEADER, "writer"))
+                .andExpect(jsonPath("$.email").value("updated@example.com"));
+    }
+}
@@ -0,0 +1,45 @@
+package org.test.sampath_bank.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class QueryCountInterceptorTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private QueryCountInspector queryCountInspector;
+    private QueryCountInterceptor interceptor;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        queryCountInspector = new QueryCountInspector();
+        interceptor = new QueryCountInterceptor(queryCountInspector, meterRegistry);
+    }
+
+    @Test
+    void recordsStatementsIssuedDuringRequest() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("PUT", "/api/employees/1");
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/api/employees/{id}");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        queryCountInspector.inspect("select 1");
+        interceptor.preHandle(request, response, null);
+        queryCountInspector.inspect("select e1_0.id from employee e1_0 where e1_0.id=?");
+        queryCountInspector.inspect("update employee set salary=? where id=?");
+        interceptor.afterCompletion(request, response, null, null);
+
+        DistributionSummary summary = meterRegistry.get(QueryCountInterceptor.METRIC_NAME)
+                .tag("method", "PUT")
+                .tag("uri", "/api/employees/{id}")
+                .summary();
+        assertEquals(1, summary.count());
+        assertEquals(2.0, summary.totalAmount());
+    }
+}
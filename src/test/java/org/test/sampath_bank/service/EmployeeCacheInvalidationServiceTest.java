@@ -0,0 +1,100 @@
+package org.test.sampath_bank.service;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.test.sampath_bank.config.CacheConfig;
+import org.test.sampath_bank.dto.EmployeeChangeDTO;
+import org.test.sampath_bank.dto.EmployeeChangeFeedDTO;
+import org.test.sampath_bank.dto.EmployeeDTO;
+import org.test.sampath_bank.event.EmployeeChangedEvent;
+import org.test.sampath_bank.event.EmployeeChangedEvent.ChangeType;
+import org.test.sampath_bank.model.Employee;
+import org.test.sampath_bank.repository.EmployeeChangeRepository;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class EmployeeCacheInvalidationServiceTest {
+
+    @Mock
+    private EmployeeChangeFeedService changeFeedService;
+
+    @Mock
+    private EmployeeChangeRepository changeRepository;
+
+    @Mock
+    private EntityManagerFactory entityManagerFactory;
+
+    @Mock
+    private SessionFactory sessionFactory;
+
+    @Mock
+    private Cache secondLevelCache;
+
+    private ConcurrentMapCacheManager cacheManager;
+    private EmployeeCacheInvalidationService invalidationService;
+
+    @BeforeEach
+    void setUp() {
+        cacheManager = new ConcurrentMapCacheManager(CacheConfig.EMPLOYEES_CACHE);
+        invalidationService = new EmployeeCacheInvalidationService(changeFeedService, changeRepository,
+                entityManagerFactory, cacheManager);
+        lenient().when(entityManagerFactory.unwrap(SessionFactory.class)).thenReturn(sessionFactory);
+        lenient().when(sessionFactory.getCache()).thenReturn(secondLevelCache);
+    }
+
+    @Test
+    void onEmployeeChanged_EvictsEntityAndQueryResults() {
+        invalidationService.onEmployeeChanged(new EmployeeChangedEvent(ChangeType.UPDATED, 5L, new EmployeeDTO()));
+
+        verify(secondLevelCache).evictEntityData(Employee.class, 5L);
+        verify(secondLevelCache).evictDefaultQueryRegion();
+    }
+
+    @Test
+    void pollChanges_StartsAtCurrentEndOfFeed() {
+        when(changeRepository.findMaxSequence()).thenReturn(40L);
+
+        invalidationService.pollChanges();
+
+        verifyNoInteractions(changeFeedService);
+        when(changeFeedService.getChanges(eq(40L), anyInt(), eq(Duration.ZERO)))
+                .thenReturn(CompletableFuture.completedFuture(new EmployeeChangeFeedDTO(List.of(), 40L)));
+        invalidationService.pollChanges();
+        verify(changeFeedService).getChanges(eq(40L), anyInt(), eq(Duration.ZERO));
+    }
+
+    @Test
+    void pollChanges_EvictsChangesFromOtherInstances() {
+        cacheManager.getCache(CacheConfig.EMPLOYEES_CACHE).put(7L, new EmployeeDTO());
+        when(changeRepository.findMaxSequence()).thenReturn(null);
+        when(changeFeedService.getChanges(eq(0L), anyInt(), eq(Duration.ZERO)))
+                .thenReturn(CompletableFuture.completedFuture(new EmployeeChangeFeedDTO(
+                        List.of(new EmployeeChangeDTO(1, ChangeType.UPDATED, 7L, null, Instant.now())), 1L)));
+        when(changeFeedService.getChanges(eq(1L), anyInt(), eq(Duration.ZERO)))
+                .thenReturn(CompletableFuture.completedFuture(new EmployeeChangeFeedDTO(List.of(), 1L)));
+
+        invalidationService.pollChanges();
+        invalidationService.pollChanges();
+        invalidationService.pollChanges();
+
+        assertNull(cacheManager.getCache(CacheConfig.EMPLOYEES_CACHE).get(7L));
+        verify(secondLevelCache).evictEntityData(Employee.class, 7L);
+        verify(secondLevelCache, times(1)).evictDefaultQueryRegion();
+        verify(changeFeedService).getChanges(eq(1L), anyInt(), eq(Duration.ZERO));
+    }
+}
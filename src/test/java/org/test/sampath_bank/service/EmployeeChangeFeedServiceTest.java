@@ -0,0 +1,116 @@
+package org.test.sampath_bank.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import org.test.sampath_bank.dto.EmployeeChangeFeedDTO;
+import org.test.sampath_bank.dto.EmployeeDTO;
+import org.test.sampath_bank.event.EmployeeChangedEvent;
+import org.test.sampath_bank.event.EmployeeChangedEvent.ChangeType;
+import org.test.sampath_bank.model.EmployeeChange;
+import org.test.sampath_bank.repository.EmployeeChangeRepository;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class EmployeeChangeFeedServiceTest {
+
+    @Mock
+    private EmployeeChangeRepository changeRepository;
+
+    @Mock
+    private EmployeeChangeSequence changeSequence;
+
+    private EmployeeChangeFeedService changeFeedService;
+
+    @BeforeEach
+    void setUp() {
+        changeFeedService = new EmployeeChangeFeedService(changeRepository, changeSequence,
+                new ObjectMapper().findAndRegisterModules(), Duration.ofHours(1), Duration.ofDays(7));
+    }
+
+    @AfterEach
+    void tearDown() {
+        changeFeedService.shutdown();
+    }
+
+    @Test
+    void recordChange_StoresEmployeeAsJson() {
+        EmployeeDTO employee = new EmployeeDTO(5L, "John", "Doe", "john@example.com", 1000f, 0L, null);
+        when(changeSequence.next()).thenReturn(42L);
+
+        changeFeedService.recordChange(new EmployeeChangedEvent(ChangeType.CREATED, 5L, employee));
+
+        ArgumentCaptor<EmployeeChange> saved = ArgumentCaptor.forClass(EmployeeChange.class);
+        verify(changeRepository).save(saved.capture());
+        assertEquals(42L, saved.getValue().getSequence());
+        assertTrue(saved.getValue().isNew());
+        assertEquals(5L, saved.getValue().getEmployeeId());
+        assertEquals(ChangeType.CREATED, saved.getValue().getChangeType());
+        assertTrue(saved.getValue().getPayload().contains("\"email\":\"john@example.com\""));
+    }
+
+    @Test
+    void getChanges_ReadsPastGapsLeftByCompaction() throws Exception {
+        Instant now = Instant.now();
+        when(changeRepository.findBySequenceGreaterThanOrderBySequence(eq(10L), any(Limit.class)))
+                .thenReturn(List.of(change(11, now), change(12, now), change(60, now)));
+
+        EmployeeChangeFeedDTO feed = changeFeedService.getChanges(10, 100, Duration.ZERO).get();
+
+        assertEquals(3, feed.getChanges().size());
+        assertEquals(60, feed.getLastSequence());
+    }
+
+    @Test
+    void getChanges_LongPollWakesOnCommit() throws Exception {
+        when(changeRepository.findBySequenceGreaterThanOrderBySequence(eq(0L), any(Limit.class)))
+                .thenReturn(List.of())
+                .thenReturn(List.of(change(1, Instant.now())));
+
+        CompletableFuture<EmployeeChangeFeedDTO> pending = changeFeedService.getChanges(0, 100, Duration.ofSeconds(30));
+        assertFalse(pending.isDone());
+        changeFeedService.onChangeCommitted(new EmployeeChangedEvent(ChangeType.DELETED, 1L, null));
+
+        EmployeeChangeFeedDTO feed = pending.get(5, TimeUnit.SECONDS);
+        assertEquals(1, feed.getLastSequence());
+    }
+
+    @Test
+    void compactAndExpire_DeletesExpiredRangeThenSupersededChanges() {
+        when(changeRepository.findMinSequence()).thenReturn(1L);
+        when(changeRepository.findMaxSequenceChangedBefore(any(Instant.class))).thenReturn(100L, 25_000L);
+        when(changeRepository.deleteSequenceRange(0L, 100L)).thenReturn(100);
+        when(changeRepository.findSupersededSequences(anyLong(), anyLong())).thenReturn(List.of(), List.of(12_000L), List.of());
+
+        changeFeedService.compactAndExpire();
+
+        verify(changeRepository).findSupersededSequences(100L, 10_100L);
+        verify(changeRepository).findSupersededSequences(10_100L, 20_100L);
+        verify(changeRepository).findSupersededSequences(20_100L, 25_000L);
+        verify(changeRepository).deleteAllByIdInBatch(List.of(12_000L));
+    }
+
+    private static EmployeeChange change(long sequence, Instant changedAt) {
+        EmployeeChange change = new EmployeeChange();
+        change.setSequence(sequence);
+        change.setEmployeeId(sequence);
+        change.setChangeType(ChangeType.UPDATED);
+        change.setChangedAt(changedAt);
+        return change;
+    }
+}
@@ -0,0 +1,88 @@
+package org.test.sampath_bank.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs against an embedded H2 database with the counter and outbox tables.
+ */
+class EmployeeChangeSequenceTest {
+
+    private TransactionTemplate transactionTemplate;
+    private EmployeeChangeSequence changeSequence;
+
+    @BeforeEach
+    void setUp() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:changes-" + UUID.randomUUID() + ";MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1;LOCK_TIMEOUT=10000",
+                "sa", "");
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("create table employee_change (seq bigint primary key)");
+        jdbcTemplate.execute("create table employee_change_counter (id bigint primary key, next_val bigint not null)");
+        jdbcTemplate.update("insert into employee_change (seq) values (7)");
+        transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        changeSequence = new EmployeeChangeSequence(jdbcTemplate);
+    }
+
+    @Test
+    void next_IsDenseAcrossTransactionsAndStartsAfterExistingChanges() {
+        List<Long> first = transactionTemplate.execute(status -> List.of(changeSequence.next(), changeSequence.next()));
+        Long second = transactionTemplate.execute(status -> changeSequence.next());
+
+        assertEquals(List.of(8L, 9L), first);
+        assertEquals(10L, second);
+    }
+
+    @Test
+    void next_RollbackReleasesItsNumbers() {
+        transactionTemplate.executeWithoutResult(status -> {
+            changeSequence.next();
+            status.setRollbackOnly();
+        });
+
+        assertEquals(Long.valueOf(8L), transactionTemplate.execute(status -> changeSequence.next()));
+    }
+
+    @Test
+    void next_WaitsForTheHolderToCommit() throws Exception {
+        CountDownLatch locked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<Long> holder = CompletableFuture.supplyAsync(() -> transactionTemplate.execute(status -> {
+            long sequence = changeSequence.next();
+            locked.countDown();
+            try {
+                release.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+            return sequence;
+        }));
+        assertTrue(locked.await(10, TimeUnit.SECONDS));
+
+        CompletableFuture<Long> waiter = CompletableFuture.supplyAsync(
+                () -> transactionTemplate.execute(status -> changeSequence.next()));
+        Thread.sleep(200);
+        assertFalse(waiter.isDone());
+
+        release.countDown();
+        assertEquals(8L, holder.get(10, TimeUnit.SECONDS));
+        assertEquals(9L, waiter.get(10, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void next_OutsideTransaction_Throws() {
+        assertThrows(IllegalStateException.class, () -> changeSequence.next());
+    }
+}
@@ -0,0 +1,100 @@
+package org.test.sampath_bank.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.test.sampath_bank.config.CacheConfig;
+import org.test.sampath_bank.dto.EmployeeDTO;
+import org.test.sampath_bank.dto.EmployeeLookupDTO;
+import org.test.sampath_bank.exception.ResourceNotFoundException;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class EmployeeLookupServiceTest {
+
+    @Mock
+    private EmployeeService employeeService;
+
+    private ConcurrentMapCacheManager cacheManager;
+    private EmployeeLookupService lookupService;
+
+    @BeforeEach
+    void setUp() {
+        cacheManager = new ConcurrentMapCacheManager(CacheConfig.EMPLOYEES_CACHE);
+        lookupService = new EmployeeLookupService(employeeService, cacheManager, new SimpleMeterRegistry(),
+                Duration.ofMillis(200), 200);
+    }
+
+    @AfterEach
+    void tearDown() {
+        lookupService.shutdown();
+    }
+
+    @Test
+    void lookup_ReturnsFoundInRequestOrderAndMissingIds() {
+        when(employeeService.getEmployeesByIds(any())).thenReturn(Map.of(3L, employee(3), 1L, employee(1)));
+
+        EmployeeLookupDTO result = lookupService.lookup(List.of(3L, 2L, 1L, 3L));
+
+        assertEquals(List.of(3L, 1L), result.getEmployees().stream().map(EmployeeDTO::getId).toList());
+        assertEquals(List.of(2L), result.getMissing());
+        verify(employeeService).getEmployeesByIds(Set.of(3L, 2L, 1L));
+    }
+
+    @Test
+    void getEmployee_ConcurrentMissesShareOneQuery() throws Exception {
+        when(employeeService.getEmployeesByIds(anyCollection())).thenAnswer(invocation -> {
+            Collection<Long> ids = invocation.getArgument(0);
+            return ids.stream().filter(id -> id != 99L).collect(Collectors.toMap(id -> id, EmployeeLookupServiceTest::employee));
+        });
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<CompletableFuture<EmployeeDTO>> lookups = List.of(1L, 2L, 3L, 2L).stream()
+                    .map(id -> CompletableFuture.supplyAsync(() -> lookupService.getEmployee(id), executor))
+                    .toList();
+            CompletableFuture<EmployeeDTO> missing = CompletableFuture.supplyAsync(() -> lookupService.getEmployee(99L), executor);
+
+            for (int i = 0; i < lookups.size(); i++) {
+                assertEquals(List.of(1L, 2L, 3L, 2L).get(i), lookups.get(i).get(5, TimeUnit.SECONDS).getId());
+            }
+            Exception failure = assertThrows(Exception.class, () -> missing.get(5, TimeUnit.SECONDS));
+            assertInstanceOf(ResourceNotFoundException.class, failure.getCause());
+        }
+        verify(employeeService, times(1)).getEmployeesByIds(anyCollection());
+    }
+
+    @Test
+    void getEmployee_CacheHitSkipsQuery() {
+        cacheManager.getCache(CacheConfig.EMPLOYEES_CACHE).put(7L, employee(7));
+
+        assertEquals(7L, lookupService.getEmployee(7L).getId());
+
+        verifyNoInteractions(employeeService);
+    }
+
+    private static EmployeeDTO employee(long id) {
+        EmployeeDTO employeeDTO = new EmployeeDTO();
+        employeeDTO.setId(id);
+        return employeeDTO;
+    }
+}
@@ -1,25 +1,56 @@
 package org.test.sampath_bank.service;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.test.sampath_bank.dto.EmployeeDTO;
+import org.test.sampath_bank.dto.EmployeeVersionDTO;
+import org.test.sampath_bank.dto.EmployeeFilter;
+import org.test.sampath_bank.dto.EmployeeImportResult;
+import org.test.sampath_bank.dto.EmployeeSliceDTO;
+import org.test.sampath_bank.event.EmployeeChangedEvent;
 import org.test.sampath_bank.model.Employee;
 import org.test.sampath_bank.repository.EmployeeRepository;
+import org.test.sampath_bank.exception.DuplicateEmailException;
+import org.test.sampath_bank.exception.EmployeeVersionConflictException;
 import org.test.sampath_bank.exception.ResourceNotFoundException;
-
+import org.test.sampath_bank.validation.EmployeeDTOValidator;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLIntegrityConstraintViolationException;
+import java.time.Instant;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -28,6 +59,9 @@ public class EmployeeServiceImplTest {
     @Mock
     private EmployeeRepository employeeRepository;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private EmployeeServiceImpl employeeService;
 
@@ -44,22 +78,39 @@ public class EmployeeServiceImplTest {
 
     @Test
     void createEmployee_Success() {
-        when(employeeRepository.save(any())).thenReturn(convertToEntity(sampleEmployeeDTO));
+        when(employeeRepository.saveAndFlush(any())).thenReturn(convertToEntity(sampleEmployeeDTO));
 
         EmployeeDTO result = employeeService.saveEmployee(sampleEmployeeDTO);
 
         assertNotNull(result);
         assertEquals(sampleEmployeeDTO.getFirstName(), result.getFirstName());
         assertEquals(sampleEmployeeDTO.getLastName(), result.getLastName());
-        verify(employeeRepository, times(1)).save(any());
+        verify(employeeRepository, times(1)).saveAndFlush(any());
+    }
+
+    @Test
+    void createEmployee_WithDuplicateEmail_ThrowsDuplicateEmail() {
+        when(employeeRepository.saveAndFlush(any())).thenThrow(new DataIntegrityViolationException("could not execute statement",
+                new SQLIntegrityConstraintViolationException("Duplicate entry 'john.doe@example.com' for key 'employee.ux_employee_email'")));
+
+        assertThrows(DuplicateEmailException.class, () -> employeeService.saveEmployee(sampleEmployeeDTO));
+    }
+
+    @Test
+    void createEmployee_WithOtherConstraintViolation_IsNotReportedAsDuplicateEmail() {
+        DataIntegrityViolationException violation = new DataIntegrityViolationException("could not execute statement",
+                new SQLIntegrityConstraintViolationException("Column 'version' cannot be null"));
+        when(employeeRepository.saveAndFlush(any())).thenThrow(violation);
+
+        assertSame(violation, assertThrows(DataIntegrityViolationException.class,
+                () -> employeeService.saveEmployee(sampleEmployeeDTO)));
     }
 
     @Test
     void getAllEmployees_Success() {
-        List<Employee> employees = Arrays.asList(convertToEntity(sampleEmployeeDTO));
-        Page<Employee> employeePage = new PageImpl<>(employees);
+        Page<EmployeeDTO> employeePage = new PageImpl<>(Arrays.asList(sampleEmployeeDTO));
         
-        when(employeeRepository.findAll(any(PageRequest.class))).thenReturn(employeePage);
+        when(employeeRepository.findAllProjectedBy(any(PageRequest.class))).thenReturn(employeePage);
 
         Page<EmployeeDTO> result = employeeService.getAllEmployees(PageRequest.of(0, 10));
 
@@ -67,13 +118,14 @@ public class EmployeeServiceImplTest {
         assertFalse(result.isEmpty());
         assertEquals(1, result.getTotalElements());
         assertEquals(sampleEmployeeDTO.getFirstName(), result.getContent().get(0).getFirstName());
-        verify(employeeRepository).findAll(any(PageRequest.class));
+        verify(employeeRepository).findAllProjectedBy(any(PageRequest.class));
+        verify(employeeRepository, never()).findAll(any(PageRequest.class));
     }
 
     @Test
     void getAllEmployees_WhenEmpty_ReturnsEmptyPage() {
-        Page<Employee> emptyPage = new PageImpl<>(Arrays.asList());
-        when(employeeRepository.findAll(any(PageRequest.class))).thenReturn(emptyPage);
+        Page<EmployeeDTO> emptyPage = new PageImpl<>(Arrays.asList());
+        when(employeeRepository.findAllProjectedBy(any(PageRequest.class))).thenReturn(emptyPage);
 
         Page<EmployeeDTO> result = employeeService.getAllEmployees(PageRequest.of(0, 10));
 
@@ -81,6 +133,46 @@ public class EmployeeServiceImplTest {
         assertEquals(0, result.getTotalElements());
     }
 
+    @Test
+    void getEmployeesAfter_ReturnsCursorThatSeeksPastLastRow() {
+        Employee employee = convertToEntity(sampleEmployeeDTO);
+        employee.setSalary(1500f);
+        Window<Employee> window = Window.from(List.of(employee), ScrollPosition::offset, true);
+        when(employeeRepository.findAllBy(any(ScrollPosition.class), any(Sort.class), any(Limit.class)))
+                .thenReturn(window);
+
+        EmployeeSliceDTO first = employeeService.getEmployeesAfter(null, 1, "salary", Sort.Direction.DESC);
+
+        assertTrue(first.isHasNext());
+        assertNotNull(first.getNextCursor());
+        verify(employeeRepository).findAllBy(eq(ScrollPosition.keyset()),
+                eq(Sort.by(Sort.Direction.DESC, "salary").and(Sort.by(Sort.Direction.DESC, "id"))),
+                eq(Limit.of(1)));
+
+        employeeService.getEmployeesAfter(first.getNextCursor(), 1, "salary", Sort.Direction.DESC);
+
+        verify(employeeRepository).findAllBy(
+                eq(ScrollPosition.forward(Map.of("salary", 1500f, "id", 1L))),
+                any(Sort.class), any(Limit.class));
+    }
+
+    @Test
+    void getEmployeesAfter_WithCursorForOtherSort_ThrowsException() {
+        String cursor = EmployeeCursor.after(convertToEntity(sampleEmployeeDTO), "email", Sort.Direction.ASC).encode();
+
+        assertThrows(IllegalArgumentException.class, () ->
+            employeeService.getEmployeesAfter(cursor, 10, "lastName", Sort.Direction.ASC));
+    }
+
+    @Test
+    void searchEmployees_WithoutIndexedFilter_ThrowsException() {
+        EmployeeFilter emailDomainOnly = new EmployeeFilter(null, null, null, "example.com", null, null);
+
+        assertThrows(IllegalArgumentException.class, () ->
+            employeeService.searchEmployees(emailDomainOnly, 0, 20));
+        verifyNoInteractions(employeeRepository);
+    }
+
     @Test
     void getEmployeeById_Success() {
         when(employeeRepository.findById(1L))
@@ -102,20 +194,45 @@ public class EmployeeServiceImplTest {
 
     @Test
     void updateEmployee_Success() {
-        when(employeeRepository.findById(1L))
-                .thenReturn(Optional.of(convertToEntity(sampleEmployeeDTO)));
-        when(employeeRepository.save(any())).thenReturn(convertToEntity(sampleEmployeeDTO));
+        when(employeeRepository.updateById(eq(1L), eq("John"), eq("Doe"), eq("john.doe@example.com"), isNull(), any(Instant.class))).thenReturn(1);
+        when(employeeRepository.findVersionById(1L)).thenReturn(Optional.of(new EmployeeVersionDTO(5L, Instant.now())));
 
         EmployeeDTO result = employeeService.updateEmployee(1L, sampleEmployeeDTO);
 
         assertNotNull(result);
         assertEquals(sampleEmployeeDTO.getFirstName(), result.getFirstName());
-        verify(employeeRepository, times(1)).save(any());
+        assertEquals(5L, result.getVersion());
+        verify(employeeRepository, never()).findById(any());
+        verify(employeeRepository, never()).saveAndFlush(any());
+    }
+
+    @Test
+    void updateEmployee_WithVersion_ReturnsNextVersion() {
+        sampleEmployeeDTO.setVersion(3L);
+        when(employeeRepository.updateByIdAndVersion(eq(1L), eq(3L), eq("John"), eq("Doe"), eq("john.doe@example.com"), isNull(),
+                any(Instant.class)))
+                .thenReturn(1);
+
+        EmployeeDTO result = employeeService.updateEmployee(1L, sampleEmployeeDTO);
+
+        assertEquals(4L, result.getVersion());
+    }
+
+    @Test
+    void updateEmployee_WithStaleVersion_ThrowsConflict() {
+        sampleEmployeeDTO.setVersion(3L);
+        when(employeeRepository.updateByIdAndVersion(eq(1L), eq(3L), eq("John"), eq("Doe"), eq("john.doe@example.com"), isNull(),
+                any(Instant.class)))
+                .thenReturn(0);
+        when(employeeRepository.existsById(1L)).thenReturn(true);
+
+        assertThrows(EmployeeVersionConflictException.class, () ->
+            employeeService.updateEmployee(1L, sampleEmployeeDTO));
     }
 
     @Test
     void updateEmployee_WhenNotFound_ThrowsException() {
-        when(employeeRepository.findById(99L)).thenReturn(Optional.empty());
+        when(employeeRepository.updateById(eq(99L), eq("John"), eq("Doe"), eq("john.doe@example.com"), isNull(), any(Instant.class))).thenReturn(0);
 
         assertThrows(ResourceNotFoundException.class, () -> 
             employeeService.updateEmployee(99L, sampleEmployeeDTO));
@@ -123,18 +240,17 @@ public class EmployeeServiceImplTest {
 
     @Test
     void deleteEmployee_Success() {
-        when(employeeRepository.findById(1L))
-                .thenReturn(Optional.of(convertToEntity(sampleEmployeeDTO)));
-        doNothing().when(employeeRepository).deleteById(1L);
+        when(employeeRepository.deleteEmployeeById(1L)).thenReturn(1);
 
         employeeService.deleteEmployee(1L);
 
-        verify(employeeRepository, times(1)).deleteById(1L);
+        verify(employeeRepository, times(1)).deleteEmployeeById(1L);
+        verify(employeeRepository, never()).findById(any());
     }
 
     @Test
     void deleteEmployee_WhenNotFound_ThrowsException() {
-        when(employeeRepository.findById(99L)).thenReturn(Optional.empty());
+        when(employeeRepository.deleteEmployeeById(99L)).thenReturn(0);
 
         assertThrows(ResourceNotFoundException.class, () -> employeeService.deleteEmployee(99L));
     }
@@ -152,4 +268,122 @@ public class EmployeeServiceImplTest {
         entity.setEmail(dto.getEmail());
         return entity;
     }
-} 
\ No newline at end of file
+
+    @Test
+    void importEmployees_WritesChunksAndRetriesFailedChunkRowByRow() {
+        EntityManager entityManager = prepareImport(2);
+        PlatformTransactionManager transactionManager = (PlatformTransactionManager)
+                ReflectionTestUtils.getField(employeeService, "transactionManager");
+        doAnswer(invocation -> {
+            if ("b@example.com".equals(invocation.<Employee>getArgument(0).getEmail())) {
+                throw new PersistenceException("Duplicate entry 'b@example.com'");
+            }
+            return null;
+        }).when(entityManager).persist(any());
+
+        EmployeeImportResult result = employeeService.importEmployees(List.of(
+                importRow("a"), importRow("b"), importRow("c"), importRow("d"), importRow("e")).iterator());
+
+        assertEquals(5, result.getReceived());
+        assertEquals(4, result.getImported());
+        assertEquals(1, result.getErrors().size());
+        assertEquals(1, result.getErrors().get(0).getRow());
+        assertEquals(List.of("Duplicate entry 'b@example.com'"), result.getErrors().get(0).getMessages());
+        // [a, b] fails as a chunk, a and b are retried alone, then [c, d] and [e] commit.
+        verify(entityManager, times(2)).persist(argThat(e -> "a@example.com".equals(((Employee) e).getEmail())));
+        verify(transactionManager, times(3)).commit(any());
+        verify(transactionManager, times(2)).rollback(any());
+        verify(eventPublisher, times(4)).publishEvent(any(EmployeeChangedEvent.class));
+    }
+
+    @Test
+    void importEmployees_RecordsMalformedNdjsonLineAndContinues() {
+        EntityManager entityManager = prepareImport(500);
+        String ndjson = """
+                {"firstName":"A","lastName":"Row","email":"a@example.com"}
+                {"firstName":"B","lastName":
+                
+                {"firstName":"C","lastName":"Row","email":"c@example.com"}
+                """;
+
+        EmployeeImportResult result = employeeService.importEmployees(new EmployeeNdjsonReader(
+                new BufferedReader(new StringReader(ndjson)), new ObjectMapper().readerFor(EmployeeDTO.class)));
+
+        assertEquals(3, result.getReceived());
+        assertEquals(2, result.getImported());
+        assertEquals(1, result.getErrors().size());
+        assertEquals(1, result.getErrors().get(0).getRow());
+        assertTrue(result.getErrors().get(0).getMessages().get(0).startsWith("Malformed JSON"));
+        verify(entityManager, times(2)).persist(any(Employee.class));
+    }
+
+    private EntityManager prepareImport(int chunkSize) {
+        EntityManager entityManager = mock(EntityManager.class);
+        ReflectionTestUtils.setField(employeeService, "entityManager", entityManager);
+        ReflectionTestUtils.setField(employeeService, "transactionManager", mock(PlatformTransactionManager.class));
+        ReflectionTestUtils.setField(employeeService, "employeeDTOValidator", mock(EmployeeDTOValidator.class));
+        ReflectionTestUtils.setField(employeeService, "importChunkSize", chunkSize);
+        return entityManager;
+    }
+
+    private EmployeeDTO importRow(String name) {
+        EmployeeDTO dto = new EmployeeDTO();
+        dto.setFirstName(name.toUpperCase());
+        dto.setLastName("Row");
+        dto.setEmail(name + "@example.com");
+        return dto;
+    }
+
+    @Test
+    void exportEmployees_Csv_QuotesFieldsWithCommasAndQuotes() throws Exception {
+        prepareExport();
+        when(employeeRepository.streamAllByOrderById()).thenReturn(Stream.of(
+                exportRow(1L, "John", "Doe, Jr.", "john@example.com", 1000f),
+                exportRow(2L, "Say \"Hi\"", "Smith", null, null)));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        long rows = employeeService.exportEmployees(ExportFormat.CSV, out);
+
+        assertEquals(2, rows);
+        assertEquals("""
+                id,firstName,lastName,email,salary
+                1,John,"Doe, Jr.",john@example.com,1000.0
+                2,"Say ""Hi""\",Smith,,
+                """, out.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void exportEmployees_Ndjson_WritesOneEscapedDocumentPerLine() throws Exception {
+        prepareExport();
+        when(employeeRepository.streamAllByOrderById()).thenReturn(Stream.of(
+                exportRow(1L, "John", "Doe, Jr.", "john@example.com", 1000f),
+                exportRow(2L, "Say \"Hi\"", "Smith", null, null)));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        long rows = employeeService.exportEmployees(ExportFormat.NDJSON, out);
+
+        assertEquals(2, rows);
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(2, lines.length);
+        assertTrue(lines[1].contains("\"firstName\":\"Say \\\"Hi\\\"\""));
+        ObjectMapper mapper = new ObjectMapper();
+        assertEquals("Doe, Jr.", mapper.readTree(lines[0]).get("lastName").asText());
+        assertEquals("Say \"Hi\"", mapper.readTree(lines[1]).get("firstName").asText());
+        assertEquals(2, mapper.readTree(lines[1]).get("id").asLong());
+    }
+
+    private void prepareExport() {
+        ReflectionTestUtils.setField(employeeService, "entityManager", mock(EntityManager.class));
+        ReflectionTestUtils.setField(employeeService, "objectMapper", JsonMapper.builder().findAndAddModules().build());
+    }
+
+    private Employee exportRow(Long id, String firstName, String lastName, String email, Float salary) {
+        Employee employee = new Employee();
+        employee.setId(id);
+        employee.setFirstName(firstName);
+        employee.setLastName(lastName);
+        employee.setEmail(email);
+        employee.setSalary(salary);
+        return employee;
+    }
+}
@@ -0,0 +1,152 @@
+package org.test.sampath_bank.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.test.sampath_bank.dto.EmployeeDTO;
+import org.test.sampath_bank.dto.WriteQueueStatusDTO;
+import org.test.sampath_bank.dto.WriteStatusDTO;
+import org.test.sampath_bank.dto.WriteStatusDTO.State;
+import org.test.sampath_bank.exception.ResourceNotFoundException;
+import org.test.sampath_bank.exception.WriteQueueFullException;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class EmployeeWriteBehindServiceTest {
+
+    @Mock
+    private EmployeeService employeeService;
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void updatesToSameEmployee_AreCoalesced() throws Exception {
+        EmployeeWriteBehindService writeBehindService = newService(10);
+
+        writeBehindService.submitUpdate(1L, employee("first@example.com", 3L));
+        writeBehindService.submitUpdate(1L, employee("second@example.com", 4L));
+        writeBehindService.submitUpdate(2L, employee("other@example.com", null));
+
+        WriteQueueStatusDTO queueStatus = writeBehindService.getQueueStatus();
+        assertEquals(2, queueStatus.getPending());
+        assertEquals(3, queueStatus.getAccepted());
+        assertEquals(1, queueStatus.getCoalesced());
+    }
+
+    @Test
+    void fullQueue_RejectsNewWritesButStillCoalesces() throws Exception {
+        EmployeeWriteBehindService writeBehindService = newService(1);
+        writeBehindService.submitUpdate(1L, employee("first@example.com", null));
+
+        assertThrows(WriteQueueFullException.class,
+                () -> writeBehindService.submitCreate(employee("new@example.com", null)));
+        writeBehindService.submitUpdate(1L, employee("second@example.com", null));
+
+        assertEquals(1, writeBehindService.getQueueStatus().getRejected());
+        assertEquals(1, writeBehindService.getQueueStatus().getCoalesced());
+    }
+
+    @Test
+    void journaledWrites_AreReplayedAfterRestart() throws Exception {
+        WriteStatusDTO accepted = newService(10).submitCreate(employee("john@example.com", null));
+        EmployeeDTO saved = employee("john@example.com", 0L);
+        saved.setId(42L);
+        when(employeeService.saveEmployees(anyList())).thenReturn(List.of(saved));
+
+        EmployeeWriteBehindService restarted = newService(10);
+        restarted.start();
+        try {
+            WriteStatusDTO status = awaitCompletion(restarted, accepted.getTrackingId());
+
+            assertEquals(State.WRITTEN, status.getState());
+            assertEquals(42L, status.getEmployeeId());
+        } finally {
+            restarted.stop();
+        }
+        assertEquals(0, Files.size(tempDir.resolve("write-behind.journal")));
+    }
+
+    @Test
+    void concurrentSubmits_AreAllJournaledBeforeTheyReturn() throws Exception {
+        EmployeeWriteBehindService writeBehindService = newService(1000);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<WriteStatusDTO>> submits = new ArrayList<>();
+            for (int i = 0; i < 200; i++) {
+                String email = "user" + i + "@example.com";
+                submits.add(executor.submit(() -> writeBehindService.submitCreate(employee(email, null))));
+            }
+            for (Future<WriteStatusDTO> submit : submits) {
+                assertEquals(State.QUEUED, submit.get(10, TimeUnit.SECONDS).getState());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(200, Files.readAllLines(tempDir.resolve("write-behind.journal")).size());
+        assertEquals(200, writeBehindService.getQueueStatus().getPending());
+    }
+
+    @Test
+    void unmatchedUpdate_IsReportedAsFailed() throws Exception {
+        when(employeeService.updateEmployees(anyList())).thenReturn(new int[] {0});
+        when(employeeService.updateEmployee(eq(99L), any(EmployeeDTO.class)))
+                .thenThrow(new ResourceNotFoundException("Employee not found with id: 99"));
+        EmployeeWriteBehindService writeBehindService = newService(10);
+        writeBehindService.start();
+        try {
+            WriteStatusDTO accepted = writeBehindService.submitUpdate(99L, employee("john@example.com", null));
+            WriteStatusDTO status = awaitCompletion(writeBehindService, accepted.getTrackingId());
+
+            assertEquals(State.FAILED, status.getState());
+            assertEquals("Employee not found with id: 99", status.getMessage());
+            assertEquals(1, writeBehindService.getQueueStatus().getFailed());
+        } finally {
+            writeBehindService.stop();
+        }
+    }
+
+    private EmployeeWriteBehindService newService(int capacity) throws Exception {
+        return new EmployeeWriteBehindService(employeeService, new ObjectMapper().findAndRegisterModules(),
+                tempDir.resolve("write-behind.journal"), capacity, 100, Duration.ofMillis(1), Duration.ofMillis(10),
+                Duration.ofMinutes(1), 1000);
+    }
+
+    private static WriteStatusDTO awaitCompletion(EmployeeWriteBehindService service, String trackingId)
+            throws InterruptedException {
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        WriteStatusDTO status = service.getStatus(trackingId);
+        while (status.getState() == State.QUEUED && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+            status = service.getStatus(trackingId);
+        }
+        return status;
+    }
+
+    private static EmployeeDTO employee(String email, Long version) {
+        EmployeeDTO employeeDTO = new EmployeeDTO();
+        employeeDTO.setFirstName("John");
+        employeeDTO.setLastName("Doe");
+        employeeDTO.setEmail(email);
+        employeeDTO.setSalary(1000f);
+        employeeDTO.setVersion(version);
+        return employeeDTO;
+    }
+}
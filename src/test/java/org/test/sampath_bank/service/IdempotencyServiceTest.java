@@ -0,0 +1,103 @@
+package org.test.sampath_bank.service;
+
+import org.junit.jupiter.api.Test;
+import org.test.sampath_bank.dto.EmployeeDTO;
+import org.test.sampath_bank.exception.DuplicateEmailException;
+import org.test.sampath_bank.exception.IdempotencyKeyReusedException;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IdempotencyServiceTest {
+
+    private final IdempotencyService idempotencyService = new IdempotencyService(Duration.ofHours(1), 1000);
+
+    @Test
+    void execute_RetryReturnsOriginalWithoutWriting() {
+        AtomicInteger writes = new AtomicInteger();
+
+        IdempotencyService.Result first = idempotencyService.execute("client key-1", "body", () -> employee(writes.incrementAndGet()));
+        IdempotencyService.Result retry = idempotencyService.execute("client key-1", "body", () -> employee(writes.incrementAndGet()));
+
+        assertFalse(first.replayed());
+        assertTrue(retry.replayed());
+        assertEquals(1L, retry.employee().getId());
+        assertEquals(1, writes.get());
+    }
+
+    @Test
+    void execute_ConcurrentDuplicatesWriteOnce() throws Exception {
+        AtomicInteger writes = new AtomicInteger();
+        CountDownLatch writing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            CompletableFuture<IdempotencyService.Result> original = CompletableFuture.supplyAsync(
+                    () -> idempotencyService.execute("client key-1", "body", () -> {
+                        writing.countDown();
+                        await(release);
+                        return employee(writes.incrementAndGet());
+                    }), executor);
+            assertTrue(writing.await(5, TimeUnit.SECONDS));
+            CompletableFuture<IdempotencyService.Result> duplicate = CompletableFuture.supplyAsync(
+                    () -> idempotencyService.execute("client key-1", "body", () -> employee(writes.incrementAndGet())), executor);
+
+            release.countDown();
+
+            assertEquals(1L, original.get(5, TimeUnit.SECONDS).employee().getId());
+            assertEquals(1L, duplicate.get(5, TimeUnit.SECONDS).employee().getId());
+            assertTrue(duplicate.get().replayed());
+            assertEquals(1, writes.get());
+        }
+    }
+
+    @Test
+    void execute_KeyReusedForDifferentBody_Throws() {
+        idempotencyService.execute("client key-1", "body", () -> employee(1));
+
+        assertThrows(IdempotencyKeyReusedException.class,
+                () -> idempotencyService.execute("client key-1", "other body", () -> employee(2)));
+    }
+
+    @Test
+    void execute_FailedWriteCanBeRetried() {
+        assertThrows(DuplicateEmailException.class, () -> idempotencyService.execute("client key-1", "body", () -> {
+            throw new DuplicateEmailException("duplicate", null);
+        }));
+
+        IdempotencyService.Result retry = idempotencyService.execute("client key-1", "body", () -> employee(1));
+
+        assertFalse(retry.replayed());
+    }
+
+    @Test
+    void execute_KeysAreScopedPerCaller() {
+        idempotencyService.execute("alice key-1", "body", () -> employee(1));
+
+        IdempotencyService.Result other = idempotencyService.execute("bob key-1", "body", () -> employee(2));
+
+        assertFalse(other.replayed());
+        assertEquals(2L, other.employee().getId());
+    }
+
+    private static EmployeeDTO employee(long id) {
+        EmployeeDTO employeeDTO = new EmployeeDTO();
+        employeeDTO.setId(id);
+        return employeeDTO;
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package org.test.sampath_bank.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.test.sampath_bank.dto.SalaryAdjustmentRequest;
+import org.test.sampath_bank.dto.SalaryBand;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs the generated statements against an embedded H2 database in MySQL mode.
+ */
+class SalaryAdjustmentRulesTest {
+
+    private NamedParameterJdbcTemplate jdbcTemplate;
+
+    private final SalaryAdjustmentRules rules = new SalaryAdjustmentRules(new SalaryAdjustmentRequest(
+            List.of(new SalaryBand(0f, 50_000f, 10.0), new SalaryBand(50_000f, null, 5.0)), 4_000f, 100_000f));
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = new NamedParameterJdbcTemplate(new DriverManagerDataSource(
+                "jdbc:h2:mem:adjust-" + UUID.randomUUID() + ";MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1", "sa", ""));
+        jdbcTemplate.getJdbcOperations().execute("create table employee (id bigint primary key, first_name varchar(255), "
+                + "last_name varchar(255), email varchar(255), salary real, version bigint not null, updated_at timestamp(6))");
+        insert(1, 30_000f);
+        insert(2, 60_000f);
+        insert(3, 90_000f);
+        insert(4, 98_000f);
+        insert(5, 120_000f);
+        insert(6, null);
+        insert(7, 40_000f);
+    }
+
+    @Test
+    void overlappingBands_AreRejected() {
+        SalaryAdjustmentRequest request = new SalaryAdjustmentRequest(
+                List.of(new SalaryBand(0f, 50_000f, 10.0), new SalaryBand(40_000f, null, 5.0)), null, null);
+
+        assertThrows(IllegalArgumentException.class, () -> new SalaryAdjustmentRules(request));
+    }
+
+    @Test
+    void impactSql_CountsOnlyEmployeesWhoseSalaryChanges() {
+        long[] band0 = impact(0);
+        long[] band1 = impact(1);
+
+        assertArrayEquals(new long[]{2, 70_000, 77_000, 4_000}, band0);
+        // 120000 is above the cap and keeps its salary.
+        assertArrayEquals(new long[]{3, 248_000, 257_000, 4_000}, band1);
+    }
+
+    @Test
+    void updateSql_AppliesBandsAndCapsWithinTheIdRange() {
+        Timestamp updatedAt = Timestamp.from(Instant.now().truncatedTo(ChronoUnit.MICROS));
+        MapSqlParameterSource parameters = rules.parameters()
+                .addValue("from", 1L)
+                .addValue("to", 6L)
+                .addValue("updatedAt", updatedAt);
+
+        assertEquals(4, jdbcTemplate.update(rules.updateSql(), parameters));
+
+        assertEquals(33_000f, salary(1));
+        assertEquals(63_000f, salary(2));
+        assertEquals(94_000f, salary(3));
+        assertEquals(100_000f, salary(4));
+        assertEquals(120_000f, salary(5));
+        assertNull(salary(6));
+        assertEquals(40_000f, salary(7));
+        assertEquals(List.of(1L, 2L, 3L, 4L), jdbcTemplate.query(rules.changedSql() + " order by id", parameters,
+                (rs, rowNum) -> rs.getLong("id")));
+        assertEquals(0L, jdbcTemplate.getJdbcOperations().queryForObject("select version from employee where id = 5", Long.class));
+    }
+
+    private long[] impact(int band) {
+        return jdbcTemplate.queryForObject(rules.impactSql(band), rules.parameters(), (rs, rowNum) -> new long[]{
+                rs.getLong(1), Math.round(rs.getDouble(2)), Math.round(rs.getDouble(3)), Math.round(rs.getDouble(4))});
+    }
+
+    private Float salary(long id) {
+        return jdbcTemplate.getJdbcOperations().queryForObject("select salary from employee where id = ?", Float.class, id);
+    }
+
+    private void insert(long id, Float salary) {
+        jdbcTemplate.getJdbcOperations().update("insert into employee values (?, ?, ?, ?, ?, 0, ?)",
+                id, "First" + id, "Last" + id, "employee" + id + "@example.com", salary, Timestamp.from(Instant.EPOCH));
+    }
+}
@@ -0,0 +1,234 @@
+package org.test.sampath_bank.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.test.sampath_bank.dto.EmployeeDTO;
+import org.test.sampath_bank.dto.SalaryAdjustmentJobDTO;
+import org.test.sampath_bank.dto.SalaryAdjustmentRequest;
+import org.test.sampath_bank.dto.SalaryBand;
+import org.test.sampath_bank.event.EmployeeChangedEvent;
+import org.test.sampath_bank.event.EmployeeChangedEvent.ChangeType;
+import org.test.sampath_bank.model.SalaryAdjustmentJob.State;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs whole adjustment jobs against an embedded H2 database: 23 employees in ranges of
+ * five ids, so five ranges shared by three workers, the last one partly empty.
+ */
+@SpringBootTest(properties = {
+    "spring.datasource.url=jdbc:h2:mem:salary-adjustment;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+    "spring.datasource.driver-class-name=org.h2.Driver",
+    "spring.datasource.username=sa",
+    "spring.datasource.password=",
+    "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+    "spring.jpa.hibernate.ddl-auto=create-drop",
+    "employee.salary-adjustment.chunk-size=5",
+    "employee.salary-adjustment.parallelism=3"
+})
+class SalaryAdjustmentServiceIntegrationTest {
+
+    private static final int EMPLOYEES = 23;
+
+    @Autowired
+    private SalaryAdjustmentService salaryAdjustmentService;
+
+    @Autowired
+    private EmployeeService employeeService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private AdjustmentListener listener;
+
+    private List<Long> ids;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("delete from salary_adjustment_chunk");
+        jdbcTemplate.update("delete from employee");
+        listener.reset();
+
+        List<EmployeeDTO> employees = new ArrayList<>();
+        for (int i = 0; i < EMPLOYEES; i++) {
+            employees.add(employee());
+        }
+        ids = employeeService.saveEmployees(employees).stream().map(EmployeeDTO::getId).sorted().toList();
+    }
+
+    @Test
+    void start_SplitsIdsIntoRangesAndAdjustsEachEmployeeOnce() throws InterruptedException {
+        SalaryAdjustmentJobDTO job = awaitFinished(salaryAdjustmentService.start(tenPercent()).getId());
+
+        assertEquals(State.COMPLETED, job.getState());
+        assertEquals(5, job.getTotalChunks());
+        assertEquals(5, job.getCompletedChunks());
+        assertEquals(EMPLOYEES, job.getEmployeesUpdated());
+        long firstId = ids.get(0);
+        assertEquals(List.of(firstId, firstId + 5, firstId + 10, firstId + 15, firstId + 20),
+                jdbcTemplate.queryForList("select range_start from salary_adjustment_chunk where job_id = ? order by range_start",
+                        Long.class, job.getId()));
+        for (Long id : ids) {
+            assertEquals(1100f, salary(id));
+            assertEquals(1L, version(id));
+        }
+    }
+
+    @Test
+    void start_PublishesTheRowsItChangedReadBackByUpdatedAt() throws InterruptedException {
+        awaitFinished(salaryAdjustmentService.start(tenPercent()).getId());
+
+        assertEquals(ids.size(), listener.updated.size());
+        for (Long id : ids) {
+            EmployeeDTO published = listener.updated.get(id);
+            assertEquals(1100f, published.getSalary());
+            assertEquals(1L, published.getVersion());
+        }
+    }
+
+    @Test
+    void resume_AfterAFailedRange_FinishesWithoutAdjustingAnyEmployeeTwice() throws InterruptedException {
+        listener.failOn = ids.get(12);
+
+        SalaryAdjustmentJobDTO failed = awaitFinished(salaryAdjustmentService.start(tenPercent()).getId());
+
+        assertEquals(State.FAILED, failed.getState());
+        assertTrue(failed.getCompletedChunks() < 5);
+        assertEquals(1000f, salary(ids.get(12)));
+        Map<Long, Timestamp> doneBefore = completedRanges(failed.getId());
+
+        listener.failOn = null;
+        SalaryAdjustmentJobDTO resumed = awaitFinished(salaryAdjustmentService.resume(failed.getId()).getId());
+
+        assertEquals(State.COMPLETED, resumed.getState());
+        assertEquals(5, resumed.getCompletedChunks());
+        assertEquals(EMPLOYEES, resumed.getEmployeesUpdated());
+        for (Long id : ids) {
+            assertEquals(1100f, salary(id));
+            assertEquals(1L, version(id));
+        }
+        Map<Long, Timestamp> doneAfter = completedRanges(failed.getId());
+        doneBefore.forEach((rangeStart, completedAt) -> assertEquals(completedAt, doneAfter.get(rangeStart)));
+    }
+
+    @Test
+    void resume_SkipsRangesAlreadyClaimed() throws InterruptedException {
+        listener.failOn = ids.get(12);
+        SalaryAdjustmentJobDTO failed = awaitFinished(salaryAdjustmentService.start(tenPercent()).getId());
+        listener.failOn = null;
+        long claimed = ids.get(0) + 10;
+        jdbcTemplate.update("insert into salary_adjustment_chunk (job_id, range_start, rows_updated, completed_at) "
+                + "values (?, ?, 0, current_timestamp)", failed.getId(), claimed);
+
+        SalaryAdjustmentJobDTO resumed = awaitFinished(salaryAdjustmentService.resume(failed.getId()).getId());
+
+        assertEquals(State.COMPLETED, resumed.getState());
+        assertEquals(EMPLOYEES - 5, resumed.getEmployeesUpdated());
+        for (Long id : ids) {
+            boolean inClaimedRange = id >= claimed && id < claimed + 5;
+            assertEquals(inClaimedRange ? 1000f : 1100f, salary(id));
+        }
+    }
+
+    @Test
+    void resume_OfACompletedJob_ChangesNothing() throws InterruptedException {
+        SalaryAdjustmentJobDTO completed = awaitFinished(salaryAdjustmentService.start(tenPercent()).getId());
+
+        SalaryAdjustmentJobDTO resumed = salaryAdjustmentService.resume(completed.getId());
+
+        assertEquals(State.COMPLETED, resumed.getState());
+        assertFalse(resumed.isActive());
+        for (Long id : ids) {
+            assertEquals(1100f, salary(id));
+        }
+    }
+
+    private SalaryAdjustmentJobDTO awaitFinished(Long jobId) throws InterruptedException {
+        long deadline = System.nanoTime() + 10_000_000_000L;
+        while (System.nanoTime() < deadline) {
+            SalaryAdjustmentJobDTO job = salaryAdjustmentService.getJob(jobId);
+            if (job.getState() != State.RUNNING && !job.isActive()) {
+                return job;
+            }
+            Thread.sleep(20);
+        }
+        fail("Salary adjustment job " + jobId + " did not finish");
+        return null;
+    }
+
+    private Map<Long, Timestamp> completedRanges(Long jobId) {
+        Map<Long, Timestamp> ranges = new HashMap<>();
+        jdbcTemplate.query("select range_start, completed_at from salary_adjustment_chunk where job_id = ?",
+                (RowCallbackHandler) rs -> ranges.put(rs.getLong(1), rs.getTimestamp(2)), jobId);
+        return ranges;
+    }
+
+    private Float salary(Long id) {
+        return jdbcTemplate.queryForObject("select salary from employee where id = ?", Float.class, id);
+    }
+
+    private Long version(Long id) {
+        return jdbcTemplate.queryForObject("select version from employee where id = ?", Long.class, id);
+    }
+
+    private static SalaryAdjustmentRequest tenPercent() {
+        return new SalaryAdjustmentRequest(List.of(new SalaryBand(null, null, 10.0)), null, null);
+    }
+
+    private static EmployeeDTO employee() {
+        EmployeeDTO dto = new EmployeeDTO();
+        dto.setFirstName("John");
+        dto.setLastName("Doe");
+        dto.setEmail(UUID.randomUUID() + "@example.com");
+        dto.setSalary(1000f);
+        return dto;
+    }
+
+    /** Records what the job publishes and can fail the range holding one employee. */
+    static class AdjustmentListener {
+
+        final Map<Long, EmployeeDTO> updated = new ConcurrentHashMap<>();
+        volatile Long failOn;
+
+        void reset() {
+            updated.clear();
+            failOn = null;
+        }
+
+        @EventListener
+        void on(EmployeeChangedEvent event) {
+            if (event.type() != ChangeType.UPDATED) {
+                return;
+            }
+            if (event.id().equals(failOn)) {
+                throw new IllegalStateException("Simulated failure adjusting employee " + event.id());
+            }
+            updated.put(event.id(), event.employee());
+        }
+    }
+
+    @TestConfiguration
+    static class Config {
+
+        @Bean
+        AdjustmentListener adjustmentListener() {
+            return new AdjustmentListener();
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package org.test.sampath_bank.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.test.sampath_bank.dto.EmployeeDTO;
+import org.test.sampath_bank.dto.EmployeeFilter;
+import org.test.sampath_bank.dto.SalaryStatisticsDTO;
+import org.test.sampath_bank.event.EmployeeChangedEvent;
+import org.test.sampath_bank.event.EmployeeChangedEvent.ChangeType;
+import org.test.sampath_bank.repository.EmployeeRepository;
+import org.test.sampath_bank.repository.EmployeeRepositoryCustom.SalaryBucketCount;
+import org.test.sampath_bank.repository.EmployeeRepositoryCustom.SalaryTotals;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SalaryStatisticsServiceTest {
+
+    private static final EmployeeFilter ALL = new EmployeeFilter(null, null, null, null, null, null);
+    private static final EmployeeFilter EXAMPLE_DOMAIN = new EmployeeFilter(null, null, null, "example.com", null, null);
+
+    @Mock
+    private EmployeeRepository employeeRepository;
+
+    private SalaryStatisticsService salaryStatisticsService;
+
+    @BeforeEach
+    void setUp() {
+        salaryStatisticsService = new SalaryStatisticsService(employeeRepository, Optional.empty(), 1000f, 16);
+    }
+
+    @Test
+    void getSalaryStatistics_ComputesFromDatabaseOnce() {
+        stubDatabase(ALL);
+
+        SalaryStatisticsDTO first = salaryStatisticsService.getSalaryStatistics(ALL);
+        SalaryStatisticsDTO second = salaryStatisticsService.getSalaryStatistics(ALL);
+
+        assertEquals(4, first.getCount());
+        assertEquals(1250.0, first.getAverage());
+        assertEquals(3, first.getBuckets().size());
+        assertEquals(first.getSum(), second.getSum());
+        verify(employeeRepository, times(1)).salaryTotals(ALL);
+    }
+
+    @Test
+    void createdEmployee_IsFoldedIntoMatchingAggregates() {
+        stubDatabase(ALL);
+        stubDatabase(EXAMPLE_DOMAIN);
+        salaryStatisticsService.getSalaryStatistics(ALL);
+        salaryStatisticsService.getSalaryStatistics(EXAMPLE_DOMAIN);
+
+        salaryStatisticsService.onEmployeeChanged(
+                new EmployeeChangedEvent(ChangeType.CREATED, 5L, employee("jane@other.org", 4000f)));
+
+        SalaryStatisticsDTO all = salaryStatisticsService.getSalaryStatistics(ALL);
+        SalaryStatisticsDTO exampleDomain = salaryStatisticsService.getSalaryStatistics(EXAMPLE_DOMAIN);
+        assertEquals(5, all.getCount());
+        assertEquals(4000f, all.getMax());
+        assertEquals(4, exampleDomain.getCount());
+        verify(employeeRepository, times(1)).salaryTotals(ALL);
+        verify(employeeRepository, times(1)).salaryTotals(EXAMPLE_DOMAIN);
+    }
+
+    @Test
+    void updatedEmployee_InvalidatesAggregates() {
+        stubDatabase(ALL);
+        salaryStatisticsService.getSalaryStatistics(ALL);
+
+        salaryStatisticsService.onEmployeeChanged(
+                new EmployeeChangedEvent(ChangeType.UPDATED, 1L, employee("john@example.com", 900f)));
+        salaryStatisticsService.getSalaryStatistics(ALL);
+
+        verify(employeeRepository, times(2)).salaryTotals(ALL);
+    }
+
+    private void stubDatabase(EmployeeFilter filter) {
+        when(employeeRepository.salaryTotals(filter)).thenReturn(new SalaryTotals(4, 5000, 500f, 2500f));
+        when(employeeRepository.salaryHistogram(filter, 1000f)).thenReturn(List.of(
+                new SalaryBucketCount(0, 1), new SalaryBucketCount(1, 2), new SalaryBucketCount(2, 1)));
+    }
+
+    private static EmployeeDTO employee(String email, float salary) {
+        EmployeeDTO employeeDTO = new EmployeeDTO();
+        employeeDTO.setFirstName("Jane");
+        employeeDTO.setLastName("Doe");
+        employeeDTO.setEmail(email);
+        employeeDTO.setSalary(salary);
+        return employeeDTO;
+    }
+}
@@ -0,0 +1,192 @@
+package org.test.sampath_bank.sharding;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.init.DatabasePopulatorUtils;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.test.sampath_bank.dto.EmployeeDTO;
+import org.test.sampath_bank.dto.EmployeeFilter;
+import org.test.sampath_bank.repository.EmployeeRepositoryCustom.SalaryBucketCount;
+import org.test.sampath_bank.repository.EmployeeRepositoryCustom.SalaryTotals;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs against three embedded H2 databases, one per shard.
+ */
+class ShardedEmployeeStoreTest {
+
+    private List<DriverManagerDataSource> dataSources;
+    private ShardedEmployeeStore store;
+
+    @BeforeEach
+    void setUp() {
+        dataSources = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                    "jdbc:h2:mem:shard-" + UUID.randomUUID() + ";MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1", "sa", "");
+            DatabasePopulatorUtils.execute(new ResourceDatabasePopulator(new ClassPathResource("sharding/schema-shard.sql")), dataSource);
+            dataSources.add(dataSource);
+        }
+        store = new ShardedEmployeeStore(dataSources, 10);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        store.close();
+    }
+
+    @Test
+    void insert_SpreadsRowsAndEachIdNamesItsShard() {
+        List<EmployeeDTO> saved = store.insertAll(employees(9));
+
+        for (EmployeeDTO employee : saved) {
+            int shard = ShardedIds.shardOf(employee.getId());
+            for (int i = 0; i < dataSources.size(); i++) {
+                Integer rows = new JdbcTemplate(dataSources.get(i))
+                        .queryForObject("select count(*) from employee where id = ?", Integer.class, employee.getId());
+                assertEquals(i == shard ? 1 : 0, rows);
+            }
+        }
+        for (int i = 0; i < dataSources.size(); i++) {
+            assertEquals(3, new JdbcTemplate(dataSources.get(i)).queryForObject("select count(*) from employee", Integer.class));
+        }
+        assertEquals(9, saved.stream().map(EmployeeDTO::getId).distinct().count());
+    }
+
+    @Test
+    void insertAll_WhenOneShardFails_UndoesTheOtherShards() {
+        new JdbcTemplate(dataSources.get(2)).execute("drop table employee");
+
+        assertThrows(RuntimeException.class, () -> store.insertAll(employees(9)));
+
+        for (int i = 0; i < 2; i++) {
+            assertEquals(0, new JdbcTemplate(dataSources.get(i)).queryForObject("select count(*) from employee", Integer.class));
+        }
+    }
+
+    @Test
+    void findById_ReadsOwningShardOnly() {
+        EmployeeDTO saved = store.insert(employee(1));
+
+        assertEquals("employee1@example.com", store.findById(saved.getId()).orElseThrow().getEmail());
+        assertTrue(store.findById(ShardedIds.compose(1, 7)).isEmpty());
+    }
+
+    @Test
+    void findAll_MergesShardsInRequestedOrder() {
+        store.insertAll(employees(20));
+
+        Page<EmployeeDTO> page = store.findAll(PageRequest.of(1, 6, Sort.by(Sort.Direction.DESC, "salary")));
+
+        assertEquals(20, page.getTotalElements());
+        assertEquals(List.of(1014f, 1013f, 1012f, 1011f, 1010f, 1009f),
+                page.getContent().stream().map(EmployeeDTO::getSalary).toList());
+    }
+
+    @Test
+    void search_MergesShardsInSearchOrder() {
+        store.insertAll(employees(20));
+        EmployeeFilter filter = new EmployeeFilter(null, null, null, null, 1005f, null);
+
+        Slice<EmployeeDTO> middle = store.search(filter, 1, 4);
+        Slice<EmployeeDTO> last = store.search(filter, 3, 4);
+
+        assertEquals(List.of(1009f, 1010f, 1011f, 1012f), middle.getContent().stream().map(EmployeeDTO::getSalary).toList());
+        assertTrue(middle.hasNext());
+        assertEquals(List.of(1017f, 1018f, 1019f, 1020f), last.getContent().stream().map(EmployeeDTO::getSalary).toList());
+        assertFalse(last.hasNext());
+    }
+
+    @Test
+    void iterateAll_ReadsEveryShardInBatchesAndMergesById() {
+        List<Long> ids = store.insertAll(employees(20)).stream().map(EmployeeDTO::getId).sorted().toList();
+
+        List<Long> iterated = new ArrayList<>();
+        store.iterateAll(2).forEachRemaining(employee -> iterated.add(employee.getId()));
+
+        assertEquals(ids, iterated);
+    }
+
+    @Test
+    void findAllById_ReturnsOnlyExistingEmployees() {
+        List<EmployeeDTO> saved = store.insertAll(employees(4));
+        long missing = ShardedIds.compose(999, 1);
+
+        Map<Long, EmployeeDTO> found = store.findAllById(List.of(saved.get(0).getId(), saved.get(3).getId(), missing));
+
+        assertEquals(2, found.size());
+        assertFalse(found.containsKey(missing));
+    }
+
+    @Test
+    void update_ChecksVersion() {
+        EmployeeDTO saved = store.insert(employee(1));
+        saved.setFirstName("Renamed");
+
+        saved.setVersion(5L);
+        assertEquals(0, store.update(saved, Instant.now()));
+        saved.setVersion(0L);
+        assertEquals(1, store.update(saved, Instant.now()));
+
+        EmployeeDTO reloaded = store.findById(saved.getId()).orElseThrow();
+        assertEquals("Renamed", reloaded.getFirstName());
+        assertEquals(1L, reloaded.getVersion());
+    }
+
+    @Test
+    void salaryStatistics_AreGatheredFromEveryShard() {
+        store.insertAll(employees(20));
+        EmployeeFilter filter = new EmployeeFilter(null, null, null, "example.com", 1010f, null);
+
+        SalaryTotals totals = store.salaryTotals(filter);
+        List<SalaryBucketCount> histogram = store.salaryHistogram(filter, 10f);
+
+        assertEquals(11, totals.count());
+        assertEquals(11165.0, totals.sum(), 0.001);
+        assertEquals(1010f, totals.min());
+        assertEquals(1020f, totals.max());
+        assertEquals(List.of(new SalaryBucketCount(101, 10), new SalaryBucketCount(102, 1)), histogram);
+    }
+
+    @Test
+    void mergeSorted_SkipsAndLimitsAcrossRuns() {
+        List<Integer> merged = ShardedEmployeeStore.mergeSorted(
+                List.of(List.of(1, 4, 7), List.of(2, 5, 8), List.of(), List.of(3, 6, 9)),
+                Comparator.naturalOrder(), 2, 4);
+
+        assertEquals(List.of(3, 4, 5, 6), merged);
+    }
+
+    private static List<EmployeeDTO> employees(int count) {
+        List<EmployeeDTO> employees = new ArrayList<>();
+        for (int i = 1; i <= count; i++) {
+            employees.add(employee(i));
+        }
+        return employees;
+    }
+
+    private static EmployeeDTO employee(int i) {
+        EmployeeDTO employeeDTO = new EmployeeDTO();
+        employeeDTO.setFirstName("First" + i);
+        employeeDTO.setLastName("Last" + i);
+        employeeDTO.setEmail("employee" + i + "@example.com");
+        employeeDTO.setSalary(1000f + i);
+        return employeeDTO;
+    }
+}
@@ -0,0 +1,142 @@
+package org.test.sampath_bank.validation;
+
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import jakarta.validation.metadata.ConstraintDescriptor;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.Errors;
+import org.test.sampath_bank.dto.EmployeeDTO;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EmployeeDTOValidatorTest {
+
+    private static ValidatorFactory validatorFactory;
+    private static Validator beanValidator;
+    private static EmployeeDTOValidator precompiled;
+    private static EmployeeDTOValidator fallback;
+
+    @BeforeAll
+    static void setUp() {
+        validatorFactory = Validation.buildDefaultValidatorFactory();
+        beanValidator = validatorFactory.getValidator();
+        precompiled = new EmployeeDTOValidator(beanValidator, true);
+        fallback = new EmployeeDTOValidator(beanValidator, false);
+    }
+
+    @AfterAll
+    static void tearDown() {
+        validatorFactory.close();
+    }
+
+    /** Fails when a constraint is added to EmployeeDTO without teaching the precompiled validator about it. */
+    @Test
+    void precompiledChecks_CoverEveryAnnotatedConstraint() {
+        Map<String, Set<String>> constraints = new TreeMap<>();
+        beanValidator.getConstraintsForClass(EmployeeDTO.class).getConstrainedProperties().forEach(property ->
+                constraints.put(property.getPropertyName(), property.getConstraintDescriptors().stream()
+                        .map(ConstraintDescriptor::getAnnotation)
+                        .map(annotation -> annotation.annotationType().getSimpleName())
+                        .collect(Collectors.toCollection(TreeSet::new))));
+
+        assertEquals(Map.of(
+                "firstName", Set.of("NotNull", "Size"),
+                "lastName", Set.of("NotNull", "Size"),
+                "email", Set.of("NotNull", "Email"),
+                "salary", Set.of("NotNull", "Min")), constraints);
+    }
+
+    @Test
+    void violations_MatchBeanValidation() {
+        List<Consumer<EmployeeDTO>> edits = List.of(
+                employee -> { },
+                employee -> employee.setFirstName(null),
+                employee -> employee.setFirstName("J"),
+                employee -> employee.setFirstName("Jo"),
+                employee -> employee.setFirstName("J".repeat(50)),
+                employee -> employee.setFirstName("J".repeat(51)),
+                employee -> employee.setLastName(null),
+                employee -> employee.setLastName(""),
+                employee -> employee.setEmail(null),
+                employee -> employee.setEmail(""),
+                employee -> employee.setEmail("not-an-email"),
+                employee -> employee.setEmail("a@b"),
+                employee -> employee.setEmail("a.b-c+tag@mail-1.example.org"),
+                employee -> employee.setEmail("a..b@example.com"),
+                employee -> employee.setEmail(".a@example.com"),
+                employee -> employee.setEmail("a.@example.com"),
+                employee -> employee.setEmail("a@example."),
+                employee -> employee.setEmail("a@-example.com"),
+                employee -> employee.setEmail("a@example-.com"),
+                employee -> employee.setEmail("a@@example.com"),
+                employee -> employee.setEmail("\"quoted\"@example.com"),
+                employee -> employee.setEmail("a@[127.0.0.1]"),
+                employee -> employee.setEmail("jörg@exämple.de"),
+                employee -> employee.setEmail("a".repeat(64) + "@example.com"),
+                employee -> employee.setEmail("a".repeat(65) + "@example.com"),
+                employee -> employee.setEmail("a@" + "b".repeat(63) + ".com"),
+                employee -> employee.setEmail("a@" + "b".repeat(64) + ".com"),
+                employee -> employee.setSalary(null),
+                employee -> employee.setSalary(0f),
+                employee -> employee.setSalary(-0f),
+                employee -> employee.setSalary(-0.5f),
+                employee -> employee.setSalary(-1f),
+                employee -> employee.setSalary(Float.NaN),
+                employee -> employee.setSalary(Float.POSITIVE_INFINITY),
+                employee -> employee.setSalary(Float.NEGATIVE_INFINITY),
+                employee -> {
+                    employee.setFirstName(null);
+                    employee.setEmail("bad");
+                    employee.setSalary(-5f);
+                });
+
+        for (Consumer<EmployeeDTO> edit : edits) {
+            EmployeeDTO employee = employee();
+            edit.accept(employee);
+            List<String> expected = fallback.violations(employee);
+            assertEquals(expected, precompiled.violations(employee),
+                    () -> "email=" + employee.getEmail() + " salary=" + employee.getSalary());
+        }
+    }
+
+    @Test
+    void violations_ValidEmployee_ReturnsEmptyList() {
+        assertTrue(precompiled.violations(employee()).isEmpty());
+    }
+
+    @Test
+    void validate_RejectsFieldsWithAnnotationMessages() {
+        EmployeeDTO employee = employee();
+        employee.setFirstName("J");
+        employee.setSalary(null);
+        Errors errors = new BeanPropertyBindingResult(employee, "employeeDTO");
+
+        precompiled.validate(employee, errors);
+
+        assertEquals(2, errors.getFieldErrorCount());
+        assertEquals("Size", errors.getFieldError("firstName").getCode());
+        assertEquals(EmployeeDTOValidator.FIRST_NAME_SIZE, errors.getFieldError("firstName").getDefaultMessage());
+        assertEquals("NotNull", errors.getFieldError("salary").getCode());
+    }
+
+    private static EmployeeDTO employee() {
+        EmployeeDTO employee = new EmployeeDTO();
+        employee.setFirstName("John");
+        employee.setLastName("Doe");
+        employee.setEmail("john.doe@example.com");
+        employee.setSalary(1500f);
+        return employee;
+    }
+}